@@ -9,5 +9,6 @@
 \ir ddl/keymgr-licensekey_list.sql
 \ir ddl/keymgr-licensekey_permission.sql
 \ir ddl/keymgr-tsp_licensekey_map.sql
+\ir ddl/keymgr-cache_purge_event.sql
 \ir ddl/keymgr-fk.sql
 
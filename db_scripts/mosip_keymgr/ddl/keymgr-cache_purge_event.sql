@@ -0,0 +1,24 @@
+-- object: keymgr.cache_purge_event | type: TABLE --
+-- DROP TABLE IF EXISTS keymgr.cache_purge_event CASCADE;
+CREATE TABLE keymgr.cache_purge_event(
+	id bigint GENERATED BY DEFAULT AS IDENTITY,
+	cache_name character varying(64) NOT NULL,
+	cache_key character varying(512),
+	origin_id character varying(36) NOT NULL,
+	cr_dtimes timestamp NOT NULL,
+	CONSTRAINT pk_cpevnt_id PRIMARY KEY (id)
+
+);
+-- ddl-end --
+COMMENT ON TABLE keymgr.cache_purge_event IS 'Cache Purge Event: Table is used to broadcast the cache purges to all the keymanager instances, rows are deleted after the configured retention time.';
+-- ddl-end --
+COMMENT ON COLUMN keymgr.cache_purge_event.id IS 'Id: Sequence id of the purge event, used by the instances to poll the new events';
+-- ddl-end --
+COMMENT ON COLUMN keymgr.cache_purge_event.cache_name IS 'Cache Name: Name of the cache to purge';
+-- ddl-end --
+COMMENT ON COLUMN keymgr.cache_purge_event.cache_key IS 'Cache Key: Key of the cache entry to purge, null purges all the entries of the cache';
+-- ddl-end --
+COMMENT ON COLUMN keymgr.cache_purge_event.origin_id IS 'Origin Id: Id of the keymanager instance added the purge event';
+-- ddl-end --
+COMMENT ON COLUMN keymgr.cache_purge_event.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+-- ddl-end --
@@ -1 +1,3 @@
-\echo 'Upgrade Queries not required for transition from $CURRENT_VERSION to $UPGRADE_VERSION'
\ No newline at end of file
+\c mosip_keymgr
+
+DROP TABLE IF EXISTS keymgr.cache_purge_event;
@@ -1 +1,12 @@
-\echo 'Upgrade Queries not required for transition from $CURRENT_VERSION to $UPGRADE_VERSION'
\ No newline at end of file
+\c mosip_keymgr
+
+CREATE TABLE keymgr.cache_purge_event(
+	id bigint GENERATED BY DEFAULT AS IDENTITY,
+	cache_name character varying(64) NOT NULL,
+	cache_key character varying(512),
+	origin_id character varying(36) NOT NULL,
+	cr_dtimes timestamp NOT NULL,
+	CONSTRAINT pk_cpevnt_id PRIMARY KEY (id)
+);
+
+GRANT SELECT, INSERT, TRUNCATE, REFERENCES, UPDATE, DELETE ON keymgr.cache_purge_event TO keymgruser;
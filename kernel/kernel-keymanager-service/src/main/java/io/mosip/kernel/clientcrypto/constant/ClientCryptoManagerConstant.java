@@ -15,7 +15,8 @@ public interface ClientCryptoManagerConstant {
 
     String SERVER_PROD_PROFILE = "PROD";
 
-    String KEY_PATH = System.getProperty("user.dir");
+    // keys directory parent, defaults to the working directory.
+    String KEY_PATH = System.getProperty("mosip.kernel.clientcrypto.keys.path", System.getProperty("user.dir"));
     String KEYS_DIR = ".mosipkeys";
     
     // added suppress warning to get ignore in sonarcloud because the constant is not used to store any password. It is used for a file name. 
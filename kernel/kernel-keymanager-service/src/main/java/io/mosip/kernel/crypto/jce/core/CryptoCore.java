@@ -1,549 +1,779 @@
-package io.mosip.kernel.crypto.jce.core;
-
-import java.math.BigInteger;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.NoSuchProviderException;
-import java.security.PrivateKey;
-import java.security.PublicKey;
-import java.security.SecureRandom;
-import java.security.cert.CertificateExpiredException;
-import java.security.cert.CertificateNotYetValidException;
-import java.security.cert.X509Certificate;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.MGF1ParameterSpec;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-
-import jakarta.annotation.PostConstruct;
-import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.OAEPParameterSpec;
-import javax.crypto.spec.PBEKeySpec;
-import javax.crypto.spec.PSource.PSpecified;
-import javax.crypto.spec.SecretKeySpec;
-import javax.xml.bind.DatatypeConverter;
-import org.bouncycastle.crypto.InvalidCipherTextException;
-import org.bouncycastle.crypto.digests.SHA256Digest;
-import org.bouncycastle.crypto.encodings.OAEPEncoding;
-import org.bouncycastle.crypto.engines.RSAEngine;
-import org.bouncycastle.crypto.params.RSAKeyParameters;
-import org.jose4j.jws.JsonWebSignature;
-import org.jose4j.jwx.CompactSerializer;
-import org.jose4j.lang.JoseException;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
-import io.mosip.kernel.core.crypto.exception.InvalidDataException;
-import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
-import io.mosip.kernel.core.crypto.exception.InvalidParamSpecException;
-import io.mosip.kernel.core.crypto.exception.SignatureException;
-import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
-import io.mosip.kernel.core.exception.NoSuchAlgorithmException;
-import io.mosip.kernel.core.util.CryptoUtil;
-import io.mosip.kernel.core.util.EmptyCheckUtils;
-import io.mosip.kernel.crypto.jce.constant.SecurityExceptionCodeConstant;
-import io.mosip.kernel.crypto.jce.util.CryptoUtils;
-
-/**
- * This class provided <b> Basic and Core Cryptographic functionalities </b>.
- * 
- * This class follows {@link CryptoCoreSpec} and implement all basic
- * Cryptographic functions.
- * 
- * @author Urvil Joshi
- * @author Rajath
- * @since 1.0.0
- * 
- * @see CryptoCoreSpec
- * @see PrivateKey
- * @see PublicKey
- * @see SecretKey
- * @see Cipher
- * @see GCMParameterSpec
- * @see SecureRandom
- */
-//Code optimization remaining (Code Dupe)
-@Component
-public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> {
-
-	private static final String PERIOD_SEPARATOR_REGEX = "\\.";
-
-	// Used as a hack for softhsm oeap padding decryption usecase will be when we
-	// will use in HSM
-	@SuppressWarnings("java:S106")
-	private static final String RSA_ECB_NO_PADDING = "RSA/ECB/NoPadding"; // NOSONAR using the padding for allowing OAEP padding in PKCS11 library
-
-	private static final String PKCS11_STORE_TYPE = "PKCS11";
-
-	@Value("${mosip.kernel.keygenerator.asymmetric-key-length:2048}")
-	private int asymmetricKeyLength;
-
-	private static final String MGF1 = "MGF1";
-
-	private static final String HASH_ALGO = "SHA-256";
-
-	private static final String AES = "AES";
-
-	@Value("${mosip.kernel.crypto.gcm-tag-length:128}")
-	private int tagLength;
-
-	@Value("${mosip.kernel.crypto.symmetric-algorithm-name:AES/GCM/PKCS5Padding}")
-	private String symmetricAlgorithm;
-
-	@Value("${mosip.kernel.crypto.asymmetric-algorithm-name:RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING}")
-	private String asymmetricAlgorithm;
-
-	@Value("${mosip.kernel.crypto.hash-algorithm-name:PBKDF2WithHmacSHA512}")
-	private String passwordAlgorithm;
-
-	@Value("${mosip.kernel.crypto.sign-algorithm-name:RS256}")
-	private String signAlgorithm;
-
-	@Value("${mosip.kernel.crypto.hash-symmetric-key-length:256}")
-	private int symmetricKeyLength;
-
-	@Value("${mosip.kernel.crypto.hash-iteration:100000}")
-	private int iterations;
-
-	@Value("${mosip.kernel.keymanager.hsm.keystore-type:PKCS11}")
-	private String keystoreType;
-
-	private SecureRandom secureRandom;
-
-	@PostConstruct
-	public void init() {
-		secureRandom = new SecureRandom();
-	}
-
-	@Override
-	public byte[] symmetricEncrypt(SecretKey key, byte[] data, byte[] aad) {
-		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		byte[] output = null;
-		byte[] randomIV = generateIV(cipher.getBlockSize());
-		try {
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, randomIV);
-			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
-			output = new byte[cipher.getOutputSize(data.length) + cipher.getBlockSize()];
-			if (aad != null && aad.length != 0) {
-				cipher.updateAAD(aad);
-			}
-			byte[] processData = doFinal(data, cipher);
-			System.arraycopy(processData, 0, output, 0, processData.length);
-			System.arraycopy(randomIV, 0, output, processData.length, randomIV.length);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidKeyException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		}
-		return output;
-	}
-
-	@Override
-	public byte[] symmetricEncrypt(SecretKey key, byte[] data, byte[] iv, byte[] aad) {
-		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		if (iv == null) {
-			return symmetricEncrypt(key, data, aad);
-		}
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		try {
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
-			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
-			if (aad != null && aad.length != 0) {
-				cipher.updateAAD(aad);
-			}
-			return doFinal(data, cipher);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidParamSpecException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		}
-	}
-
-	@Override
-	public byte[] symmetricDecrypt(SecretKey key, byte[] data, byte[] aad) {
-		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		byte[] output = null;
-		try {
-			byte[] randomIV = Arrays.copyOfRange(data, data.length - cipher.getBlockSize(), data.length);
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, randomIV);
-			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
-			if (aad != null && aad.length != 0) {
-				cipher.updateAAD(aad);
-			}
-			output = doFinal(Arrays.copyOf(data, data.length - cipher.getBlockSize()), cipher);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidKeyException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		} catch (ArrayIndexOutOfBoundsException e) {
-			throw new InvalidDataException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage(), e);
-		}
-		return output;
-	}
-
-	@Override
-	public byte[] symmetricDecrypt(SecretKey key, byte[] data, byte[] iv, byte[] aad) {
-		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		if (iv == null) {
-			return symmetricDecrypt(key, data, aad);
-		}
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(symmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		try {
-			SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), AES);
-			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
-			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
-			if (aad != null) {
-				cipher.updateAAD(aad);
-			}
-			return doFinal(data, cipher);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidParamSpecException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		}
-	}
-
-	@Override
-	public byte[] asymmetricEncrypt(PublicKey key, byte[] data) {
-		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Cipher.getInstance(asymmetricAlgorithm);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		final OAEPParameterSpec oaepParams = new OAEPParameterSpec(HASH_ALGO, MGF1, MGF1ParameterSpec.SHA256,
-				PSpecified.DEFAULT);
-		try {
-			cipher.init(Cipher.ENCRYPT_MODE, key, oaepParams);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidParamSpecException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		}
-		return doFinal(data, cipher);
-	}
-	
-	@Override
-	public byte[] asymmetricDecrypt(PrivateKey privateKey, byte[] data) {
-		if (PKCS11_STORE_TYPE.equalsIgnoreCase(keystoreType)) {
-			BigInteger keyModulus = ((RSAPrivateKey) privateKey).getModulus();
-			return asymmetricDecrypt(privateKey, keyModulus, data, null);
-		}
-		return jceAsymmetricDecrypt(privateKey, data, null);
-	}
-
-	@Override
-	public byte[] asymmetricDecrypt(PrivateKey privateKey, PublicKey publicKey, byte[] data) {
-		if (PKCS11_STORE_TYPE.equalsIgnoreCase(keystoreType)) {
-			BigInteger keyModulus = Objects.nonNull(publicKey) ? ((RSAPublicKey) publicKey).getModulus() : 
-										((RSAPrivateKey) privateKey).getModulus();
-			return asymmetricDecrypt(privateKey, keyModulus, data, null);
-		}
-		return jceAsymmetricDecrypt(privateKey, data, null);
-	}
-
-	@Override
-	public byte[] asymmetricDecrypt(PrivateKey privateKey, PublicKey publicKey, byte[] data, String storeType) {
-		if (PKCS11_STORE_TYPE.equalsIgnoreCase(keystoreType)) {
-			BigInteger keyModulus = Objects.nonNull(publicKey) ? ((RSAPublicKey) publicKey).getModulus() : 
-										((RSAPrivateKey) privateKey).getModulus();
-			return asymmetricDecrypt(privateKey, keyModulus, data, storeType);
-		}
-		return jceAsymmetricDecrypt(privateKey, data, storeType);
-	}
-
-	private byte[] asymmetricDecrypt(PrivateKey privateKey, BigInteger keyModulus, byte[] data, String storeType) {
-		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Objects.isNull(storeType) ? Cipher.getInstance(RSA_ECB_NO_PADDING) :  // NOSONAR using the padding for allowing OAEP padding in PKCS11 library
-						Cipher.getInstance(RSA_ECB_NO_PADDING, storeType); // NOSONAR using the padding for allowing OAEP padding in PKCS11 library
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException | NoSuchProviderException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-
-		try {
-			cipher.init(Cipher.DECRYPT_MODE, privateKey);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		}
-		/*
-		 * This is a hack of removing OEAP padding after decryption with NO Padding as
-		 * SoftHSM does not support it.Will be removed after HSM implementation
-		 */
-		byte[] paddedPlainText = doFinal(data, cipher);
-		if (paddedPlainText.length < asymmetricKeyLength / 8) {
-			byte[] tempPipe = new byte[asymmetricKeyLength / 8];
-			System.arraycopy(paddedPlainText, 0, tempPipe, tempPipe.length - paddedPlainText.length,
-					paddedPlainText.length);
-			paddedPlainText = tempPipe;
-		}
-		
-		return unpadOAEPPadding(paddedPlainText, keyModulus);
-	}
-
-	//	  This is a hack of removing OEAP padding after decryption with NO Padding as
-	//	  SoftHSM does not support it.Will be removed after HSM implementation
-	/**
-	 * 
-	 * @param paddedPlainText
-	 * @param privateKey
-	 * @return
-	 */
-	private byte[] unpadOAEPPadding(byte[] paddedPlainText, BigInteger keyModulus) {
-		
-	    try {
-	    	OAEPEncoding encode = new OAEPEncoding(new RSAEngine(), new SHA256Digest());
-		    BigInteger exponent = new BigInteger("1");
-		    RSAKeyParameters keyParams = new RSAKeyParameters(false, keyModulus, exponent);
-		    encode.init(false, keyParams);
-			return encode.processBlock(paddedPlainText, 0, paddedPlainText.length);
-		} catch (InvalidCipherTextException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION
-					.getErrorCode(), e.getMessage(), e);
-		}	    
-	}
-	 
-	private byte[] jceAsymmetricDecrypt(PrivateKey privateKey, byte[] data, String storeType){
-		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		Cipher cipher;
-		try {
-			cipher = Objects.isNull(storeType) ? Cipher.getInstance(asymmetricAlgorithm) : 
-						Cipher.getInstance(asymmetricAlgorithm, storeType);
-			OAEPParameterSpec oaepParams = new OAEPParameterSpec(HASH_ALGO, MGF1, MGF1ParameterSpec.SHA256,
-				PSpecified.DEFAULT);
-			cipher.init(Cipher.DECRYPT_MODE, privateKey, oaepParams);
-			return doFinal(data, cipher);
-		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException | NoSuchProviderException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		} catch (java.security.InvalidKeyException e) {
-			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw new InvalidParamSpecException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
-		}
-	}
-
-
-	@Override
-	public String hash(byte[] data, byte[] salt) {
-		CryptoUtils.verifyData(data);
-		CryptoUtils.verifyData(salt, SecurityExceptionCodeConstant.SALT_PROVIDED_IS_NULL_OR_EMPTY.getErrorCode(),
-				SecurityExceptionCodeConstant.SALT_PROVIDED_IS_NULL_OR_EMPTY.getErrorMessage());
-		SecretKeyFactory secretKeyFactory;
-		char[] convertedData = new String(data).toCharArray();
-		PBEKeySpec pbeKeySpec = new PBEKeySpec(convertedData, salt, iterations, symmetricKeyLength);
-		SecretKey key;
-		try {
-			secretKeyFactory = SecretKeyFactory.getInstance(passwordAlgorithm);
-			key = secretKeyFactory.generateSecret(pbeKeySpec);
-		} catch (InvalidKeySpecException e) {
-			throw new InvalidParamSpecException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(), e.getMessage(), e);
-		} catch (java.security.NoSuchAlgorithmException e) {
-			throw new NoSuchAlgorithmException(
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
-		}
-		return DatatypeConverter.printHexBinary(key.getEncoded());
-	}
-
-	@Override
-	public String sign(byte[] data, PrivateKey privateKey) {
-		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		JsonWebSignature jws = new JsonWebSignature();
-		jws.setPayloadBytes(data);
-		jws.setAlgorithmHeaderValue(signAlgorithm);
-		jws.setKey(privateKey);
-		jws.setDoKeyValidation(false);
-		try {
-			return jws.getDetachedContentCompactSerialization();
-		} catch (JoseException e) {
-			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		}
-	}
-
-	@Override
-	public boolean verifySignature(byte[] data, String sign, PublicKey publicKey) {
-		if (EmptyCheckUtils.isNullEmpty(sign)) {
-			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorMessage());
-		}
-		Objects.requireNonNull(publicKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		JsonWebSignature jws = new JsonWebSignature();
-		try {
-			String[] parts = sign.split(PERIOD_SEPARATOR_REGEX);
-			parts[1] = CryptoUtil.encodeBase64(data);
-			jws.setCompactSerialization(CompactSerializer.serialize(parts));
-			jws.setKey(publicKey);
-			return jws.verifySignature();
-		} catch (ArrayIndexOutOfBoundsException | JoseException e) {
-			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		}
-
-	}
-
-	@SuppressWarnings("unchecked")
-	@Override
-	public SecureRandom random() {
-		return secureRandom;
-	}
-
-	/**
-	 * Generator for IV(Initialisation Vector)
-	 * 
-	 * @param blockSize blocksize of current cipher
-	 * @return generated IV
-	 */
-	private byte[] generateIV(int blockSize) {
-		byte[] byteIV = new byte[blockSize];
-		secureRandom.nextBytes(byteIV);
-		return byteIV;
-	}
-
-	private byte[] doFinal(byte[] data, Cipher cipher) {
-		try {
-			return cipher.doFinal(data);
-		} catch (IllegalBlockSizeException e) {
-			throw new InvalidDataException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
-		} catch (BadPaddingException e) {
-			throw new InvalidDataException(
-					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		}
-	}
-
-	/*
-	 * This two methods here are for temporary, Unit test for this will be written
-	 * in next versions
-	 */
-	@Override
-	public String sign(byte[] data, PrivateKey privateKey, X509Certificate x509Certificate) {
-		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
-		CryptoUtils.verifyData(data);
-		JsonWebSignature jws = new JsonWebSignature();
-		List<X509Certificate> certList = new ArrayList<>();
-		certList.add(x509Certificate);
-		X509Certificate[] certArray = certList.toArray(new X509Certificate[] {});
-		jws.setCertificateChainHeaderValue(certArray);
-		jws.setPayloadBytes(data);
-		jws.setAlgorithmHeaderValue(signAlgorithm);
-		jws.setKey(privateKey);
-		jws.setDoKeyValidation(false);
-		try {
-			return jws.getCompactSerialization();
-		} catch (JoseException e) {
-			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		}
-	}
-
-	/*
-	 * This two methods here are for temporary, Unit test for this will be written
-	 * in next versions
-	 */
-	@Override
-	public boolean verifySignature(String sign) {
-		if (EmptyCheckUtils.isNullEmpty(sign)) {
-			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
-					SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorMessage());
-		}
-		JsonWebSignature jws = new JsonWebSignature();
-		try {
-			jws.setCompactSerialization(sign);
-			List<X509Certificate> certificateChainHeaderValue = jws.getCertificateChainHeaderValue();
-			X509Certificate certificate = certificateChainHeaderValue.get(0);
-			certificate.checkValidity();
-			PublicKey publicKey = certificate.getPublicKey();
-			jws.setKey(publicKey);
-			return jws.verifySignature();
-		} catch (JoseException | CertificateExpiredException | CertificateNotYetValidException e) {
-			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
-					e.getMessage(), e);
-		}
-
-	}
-
-	
-}
+package io.mosip.kernel.crypto.jce.core;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.NoSuchProviderException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateExpiredException;
+import java.security.cert.CertificateNotYetValidException;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.annotation.PostConstruct;
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.PSource.PSpecified;
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.bind.DatatypeConverter;
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.encodings.OAEPEncoding;
+import org.bouncycastle.crypto.engines.RSAEngine;
+import org.bouncycastle.crypto.params.RSAKeyParameters;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.jwx.CompactSerializer;
+import org.jose4j.lang.JoseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
+import io.mosip.kernel.core.crypto.exception.InvalidParamSpecException;
+import io.mosip.kernel.core.crypto.exception.SignatureException;
+import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.exception.NoSuchAlgorithmException;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.EmptyCheckUtils;
+import io.mosip.kernel.crypto.jce.constant.SecurityExceptionCodeConstant;
+import io.mosip.kernel.crypto.jce.util.CryptoUtils;
+
+/**
+ * This class provided <b> Basic and Core Cryptographic functionalities </b>.
+ * 
+ * This class follows {@link CryptoCoreSpec} and implement all basic
+ * Cryptographic functions.
+ * 
+ * @author Urvil Joshi
+ * @author Rajath
+ * @since 1.0.0
+ * 
+ * @see CryptoCoreSpec
+ * @see PrivateKey
+ * @see PublicKey
+ * @see SecretKey
+ * @see Cipher
+ * @see GCMParameterSpec
+ * @see SecureRandom
+ */
+//Code optimization remaining (Code Dupe)
+@Component
+public class CryptoCore implements CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> {
+
+	private static final String PERIOD_SEPARATOR_REGEX = "\\.";
+
+	// Used as a hack for softhsm oeap padding decryption usecase will be when we
+	// will use in HSM
+	@SuppressWarnings("java:S106")
+	private static final String RSA_ECB_NO_PADDING = "RSA/ECB/NoPadding"; // NOSONAR using the padding for allowing OAEP padding in PKCS11 library
+
+	private static final String PKCS11_STORE_TYPE = "PKCS11";
+
+	@Value("${mosip.kernel.keygenerator.asymmetric-key-length:2048}")
+	private int asymmetricKeyLength;
+
+	private static final String MGF1 = "MGF1";
+
+	private static final String HASH_ALGO = "SHA-256";
+
+	private static final String AES = "AES";
+
+	private static final String RAW_KEY_FORMAT = "RAW";
+
+	private static final OAEPParameterSpec OAEP_PARAMS = new OAEPParameterSpec(HASH_ALGO, MGF1, 
+				MGF1ParameterSpec.SHA256, PSpecified.DEFAULT);
+
+	// Cipher & SecretKeyFactory objects are not thread safe, so instances are reused per thread. Cipher keeps
+	// the last initialized key, so only the public key encryption ciphers are reused. Symmetric & private key
+	// ciphers are created on every call.
+	private static final ThreadLocal<Map<String, Cipher>> PUBLIC_KEY_CIPHER_INSTANCES = ThreadLocal.withInitial(HashMap::new);
+
+	private static final ThreadLocal<Map<String, SecretKeyFactory>> SECRET_KEY_FACTORY_INSTANCES = 
+				ThreadLocal.withInitial(HashMap::new);
+
+	@Value("${mosip.kernel.crypto.gcm-tag-length:128}")
+	private int tagLength;
+
+	@Value("${mosip.kernel.crypto.symmetric-algorithm-name:AES/GCM/PKCS5Padding}")
+	private String symmetricAlgorithm;
+
+	@Value("${mosip.kernel.crypto.asymmetric-algorithm-name:RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING}")
+	private String asymmetricAlgorithm;
+
+	@Value("${mosip.kernel.crypto.hash-algorithm-name:PBKDF2WithHmacSHA512}")
+	private String passwordAlgorithm;
+
+	@Value("${mosip.kernel.crypto.sign-algorithm-name:RS256}")
+	private String signAlgorithm;
+
+	@Value("${mosip.kernel.crypto.hash-symmetric-key-length:256}")
+	private int symmetricKeyLength;
+
+	@Value("${mosip.kernel.crypto.hash-iteration:100000}")
+	private int iterations;
+
+	@Value("${mosip.kernel.keymanager.hsm.keystore-type:PKCS11}")
+	private String keystoreType;
+
+	private SecureRandom secureRandom;
+
+	@PostConstruct
+	public void init() {
+		secureRandom = new SecureRandom();
+	}
+
+	@Override
+	public byte[] symmetricEncrypt(SecretKey key, byte[] data, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher;
+		try {
+			cipher = Cipher.getInstance(symmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		byte[] output = null;
+		byte[] randomIV = generateIV(cipher.getBlockSize());
+		try {
+			SecretKey keySpec = getAESKeySpec(key);
+			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, randomIV);
+			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+			output = new byte[cipher.getOutputSize(data.length) + randomIV.length];
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+			// encrypted data written directly to the output, IV appended after it.
+			int processedLength = doFinal(data, 0, data.length, output, cipher);
+			System.arraycopy(randomIV, 0, output, processedLength, randomIV.length);
+			if (processedLength + randomIV.length < output.length) {
+				output = Arrays.copyOf(output, processedLength + randomIV.length);
+			}
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+		return output;
+	}
+
+	@Override
+	public byte[] symmetricEncrypt(SecretKey key, byte[] data, byte[] iv, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		if (iv == null) {
+			return symmetricEncrypt(key, data, aad);
+		}
+		Cipher cipher;
+		try {
+			// New instance because a reused GCM cipher rejects encryption with the key & IV of its last encryption.
+			cipher = Cipher.getInstance(symmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		try {
+			SecretKey keySpec = getAESKeySpec(key);
+			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
+			cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmParameterSpec);
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+			return doFinal(data, cipher);
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	@Override
+	public byte[] symmetricDecrypt(SecretKey key, byte[] data, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		return symmetricDecrypt(key, data, 0, data.length, aad);
+	}
+
+	/**
+	 * Decrypts the encrypted data available in the provided range of the input
+	 * array. IV is read from the last block of the range, so the encrypted data
+	 * and IV are not copied out of the input.
+	 * 
+	 * @param key    the key for decryption
+	 * @param data   array holding the encrypted data followed by IV
+	 * @param offset start of the encrypted data in the array
+	 * @param length length of encrypted data & IV
+	 * @param aad    additional authenticated data, can be null
+	 * @return decrypted data
+	 */
+	public byte[] symmetricDecrypt(SecretKey key, byte[] data, int offset, int length, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher;
+		try {
+			cipher = Cipher.getInstance(symmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		byte[] output = null;
+		try {
+			int blockSize = cipher.getBlockSize();
+			verifyRange(data.length, offset, length, blockSize);
+			SecretKey keySpec = getAESKeySpec(key);
+			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, data, offset + length - blockSize, blockSize);
+			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+			output = doFinal(data, offset, length - blockSize, cipher);
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage(), e);
+		}
+		return output;
+	}
+
+	@Override
+	public byte[] symmetricDecrypt(SecretKey key, byte[] data, byte[] iv, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		if (iv == null) {
+			return symmetricDecrypt(key, data, aad);
+		}
+		return symmetricDecrypt(key, data, 0, data.length, iv, aad);
+	}
+
+	/**
+	 * Decrypts the encrypted data available in the provided range of the input
+	 * array with the provided IV, without copying the encrypted data.
+	 * 
+	 * @param key    the key for decryption
+	 * @param data   array holding the encrypted data
+	 * @param offset start of the encrypted data in the array
+	 * @param length length of the encrypted data
+	 * @param iv     initialization vector used for encryption
+	 * @param aad    additional authenticated data, can be null
+	 * @return decrypted data
+	 */
+	public byte[] symmetricDecrypt(SecretKey key, byte[] data, int offset, int length, byte[] iv, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		verifyRange(data.length, offset, length, 0);
+		Cipher cipher;
+		try {
+			cipher = Cipher.getInstance(symmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		try {
+			SecretKey keySpec = getAESKeySpec(key);
+			GCMParameterSpec gcmParameterSpec = new GCMParameterSpec(tagLength, iv);
+			cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmParameterSpec);
+			if (aad != null) {
+				cipher.updateAAD(aad);
+			}
+			return doFinal(data, offset, length, cipher);
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	/**
+	 * Encrypts the remaining bytes of the input buffer with a random IV. Output
+	 * layout is same as {@link #symmetricEncrypt(SecretKey, byte[], byte[])},
+	 * encrypted data followed by IV, written to a single newly allocated buffer.
+	 * Direct buffers are processed without copying to heap.
+	 * 
+	 * @param key  the key for encryption
+	 * @param data buffer holding the data to encrypt, consumed by this call
+	 * @param aad  additional authenticated data, can be null
+	 * @return buffer with encrypted data & IV, ready to read
+	 */
+	public ByteBuffer symmetricEncrypt(SecretKey key, ByteBuffer data, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyBuffer(data);
+		Cipher cipher;
+		try {
+			cipher = Cipher.getInstance(symmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		byte[] randomIV = generateIV(cipher.getBlockSize());
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, getAESKeySpec(key), new GCMParameterSpec(tagLength, randomIV));
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+			ByteBuffer output = data.isDirect() ? 
+					ByteBuffer.allocateDirect(cipher.getOutputSize(data.remaining()) + randomIV.length) : 
+					ByteBuffer.allocate(cipher.getOutputSize(data.remaining()) + randomIV.length);
+			doFinal(data, output, cipher);
+			output.put(randomIV);
+			output.flip();
+			return output;
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	/**
+	 * Decrypts the remaining bytes of the input buffer, IV is read from the last
+	 * block of the buffer. Encrypted data is decrypted directly from a slice of the
+	 * input into a single newly allocated buffer.
+	 * 
+	 * @param key  the key for decryption
+	 * @param data buffer holding the encrypted data followed by IV, consumed by
+	 *             this call
+	 * @param aad  additional authenticated data, can be null
+	 * @return buffer with decrypted data, ready to read
+	 */
+	public ByteBuffer symmetricDecrypt(SecretKey key, ByteBuffer data, byte[] aad) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyBuffer(data);
+		Cipher cipher;
+		try {
+			cipher = Cipher.getInstance(symmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		int blockSize = cipher.getBlockSize();
+		verifyRange(data.remaining(), 0, data.remaining(), blockSize);
+		int ivPosition = data.limit() - blockSize;
+		byte[] randomIV = new byte[blockSize];
+		data.get(ivPosition, randomIV);
+		ByteBuffer encryptedData = data.slice(data.position(), ivPosition - data.position());
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, getAESKeySpec(key), new GCMParameterSpec(tagLength, randomIV));
+			if (aad != null && aad.length != 0) {
+				cipher.updateAAD(aad);
+			}
+			ByteBuffer output = data.isDirect() ? 
+					ByteBuffer.allocateDirect(cipher.getOutputSize(encryptedData.remaining())) : 
+					ByteBuffer.allocate(cipher.getOutputSize(encryptedData.remaining()));
+			doFinal(encryptedData, output, cipher);
+			data.position(data.limit());
+			output.flip();
+			return output;
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidKeyException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+	@Override
+	public byte[] asymmetricEncrypt(PublicKey key, byte[] data) {
+		Objects.requireNonNull(key, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher;
+		try {
+			cipher = getPublicKeyCipherInstance(asymmetricAlgorithm);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, key, OAEP_PARAMS);
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+		return doFinal(data, cipher);
+	}
+	
+	@Override
+	public byte[] asymmetricDecrypt(PrivateKey privateKey, byte[] data) {
+		if (PKCS11_STORE_TYPE.equalsIgnoreCase(keystoreType)) {
+			BigInteger keyModulus = ((RSAPrivateKey) privateKey).getModulus();
+			return asymmetricDecrypt(privateKey, keyModulus, data, null);
+		}
+		return jceAsymmetricDecrypt(privateKey, data, null);
+	}
+
+	@Override
+	public byte[] asymmetricDecrypt(PrivateKey privateKey, PublicKey publicKey, byte[] data) {
+		if (PKCS11_STORE_TYPE.equalsIgnoreCase(keystoreType)) {
+			BigInteger keyModulus = Objects.nonNull(publicKey) ? ((RSAPublicKey) publicKey).getModulus() : 
+										((RSAPrivateKey) privateKey).getModulus();
+			return asymmetricDecrypt(privateKey, keyModulus, data, null);
+		}
+		return jceAsymmetricDecrypt(privateKey, data, null);
+	}
+
+	@Override
+	public byte[] asymmetricDecrypt(PrivateKey privateKey, PublicKey publicKey, byte[] data, String storeType) {
+		if (PKCS11_STORE_TYPE.equalsIgnoreCase(keystoreType)) {
+			BigInteger keyModulus = Objects.nonNull(publicKey) ? ((RSAPublicKey) publicKey).getModulus() : 
+										((RSAPrivateKey) privateKey).getModulus();
+			return asymmetricDecrypt(privateKey, keyModulus, data, storeType);
+		}
+		return jceAsymmetricDecrypt(privateKey, data, storeType);
+	}
+
+	private byte[] asymmetricDecrypt(PrivateKey privateKey, BigInteger keyModulus, byte[] data, String storeType) {
+		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher;
+		try {
+			cipher = Objects.isNull(storeType) ? Cipher.getInstance(RSA_ECB_NO_PADDING) :  // NOSONAR using the padding for allowing OAEP padding in PKCS11 library
+						Cipher.getInstance(RSA_ECB_NO_PADDING, storeType); // NOSONAR using the padding for allowing OAEP padding in PKCS11 library
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException | NoSuchProviderException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, privateKey);
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+		/*
+		 * This is a hack of removing OEAP padding after decryption with NO Padding as
+		 * SoftHSM does not support it.Will be removed after HSM implementation
+		 */
+		byte[] paddedPlainText = doFinal(data, cipher);
+		if (paddedPlainText.length < asymmetricKeyLength / 8) {
+			byte[] tempPipe = new byte[asymmetricKeyLength / 8];
+			System.arraycopy(paddedPlainText, 0, tempPipe, tempPipe.length - paddedPlainText.length,
+					paddedPlainText.length);
+			paddedPlainText = tempPipe;
+		}
+		
+		return unpadOAEPPadding(paddedPlainText, keyModulus);
+	}
+
+	//	  This is a hack of removing OEAP padding after decryption with NO Padding as
+	//	  SoftHSM does not support it.Will be removed after HSM implementation
+	/**
+	 * 
+	 * @param paddedPlainText
+	 * @param privateKey
+	 * @return
+	 */
+	private byte[] unpadOAEPPadding(byte[] paddedPlainText, BigInteger keyModulus) {
+		
+	    try {
+	    	OAEPEncoding encode = new OAEPEncoding(new RSAEngine(), new SHA256Digest());
+		    BigInteger exponent = new BigInteger("1");
+		    RSAKeyParameters keyParams = new RSAKeyParameters(false, keyModulus, exponent);
+		    encode.init(false, keyParams);
+			return encode.processBlock(paddedPlainText, 0, paddedPlainText.length);
+		} catch (InvalidCipherTextException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION
+					.getErrorCode(), e.getMessage(), e);
+		}	    
+	}
+	 
+	private byte[] jceAsymmetricDecrypt(PrivateKey privateKey, byte[] data, String storeType){
+		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		Cipher cipher;
+		try {
+			cipher = Objects.isNull(storeType) ? Cipher.getInstance(asymmetricAlgorithm) : 
+						Cipher.getInstance(asymmetricAlgorithm, storeType);
+			cipher.init(Cipher.DECRYPT_MODE, privateKey, OAEP_PARAMS);
+			return doFinal(data, cipher);
+		} catch (java.security.NoSuchAlgorithmException | NoSuchPaddingException | NoSuchProviderException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		} catch (java.security.InvalidKeyException e) {
+			throw new InvalidKeyException(SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorMessage(), e);
+		}
+	}
+
+
+	@Override
+	public String hash(byte[] data, byte[] salt) {
+		CryptoUtils.verifyData(data);
+		CryptoUtils.verifyData(salt, SecurityExceptionCodeConstant.SALT_PROVIDED_IS_NULL_OR_EMPTY.getErrorCode(),
+				SecurityExceptionCodeConstant.SALT_PROVIDED_IS_NULL_OR_EMPTY.getErrorMessage());
+		SecretKeyFactory secretKeyFactory;
+		char[] convertedData = new String(data).toCharArray();
+		PBEKeySpec pbeKeySpec = new PBEKeySpec(convertedData, salt, iterations, symmetricKeyLength);
+		SecretKey key;
+		try {
+			secretKeyFactory = getSecretKeyFactoryInstance(passwordAlgorithm);
+			key = secretKeyFactory.generateSecret(pbeKeySpec);
+		} catch (InvalidKeySpecException e) {
+			throw new InvalidParamSpecException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_PARAM_SPEC_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (java.security.NoSuchAlgorithmException e) {
+			throw new NoSuchAlgorithmException(
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NO_SUCH_ALGORITHM_EXCEPTION.getErrorMessage(), e);
+		}
+		return DatatypeConverter.printHexBinary(key.getEncoded());
+	}
+
+	@Override
+	public String sign(byte[] data, PrivateKey privateKey) {
+		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		JsonWebSignature jws = new JsonWebSignature();
+		jws.setPayloadBytes(data);
+		jws.setAlgorithmHeaderValue(signAlgorithm);
+		jws.setKey(privateKey);
+		jws.setDoKeyValidation(false);
+		try {
+			return jws.getDetachedContentCompactSerialization();
+		} catch (JoseException e) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public boolean verifySignature(byte[] data, String sign, PublicKey publicKey) {
+		if (EmptyCheckUtils.isNullEmpty(sign)) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorMessage());
+		}
+		Objects.requireNonNull(publicKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		JsonWebSignature jws = new JsonWebSignature();
+		try {
+			String[] parts = sign.split(PERIOD_SEPARATOR_REGEX);
+			parts[1] = CryptoUtil.encodeBase64(data);
+			jws.setCompactSerialization(CompactSerializer.serialize(parts));
+			jws.setKey(publicKey);
+			return jws.verifySignature();
+		} catch (ArrayIndexOutOfBoundsException | JoseException e) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public SecureRandom random() {
+		return secureRandom;
+	}
+
+	/**
+	 * Generator for IV(Initialisation Vector)
+	 * 
+	 * @param blockSize blocksize of current cipher
+	 * @return generated IV
+	 */
+	private byte[] generateIV(int blockSize) {
+		byte[] byteIV = new byte[blockSize];
+		secureRandom.nextBytes(byteIV);
+		return byteIV;
+	}
+
+	/**
+	 * Returns the Cipher instance of the current thread for the public key encryption. 
+	 * Only to be initialized with public keys, the instance holds the last key till the 
+	 * thread ends.
+	 * 
+	 * @param algorithm transformation name
+	 * @return cipher instance, needs to be initialized before use
+	 */
+	private Cipher getPublicKeyCipherInstance(String algorithm)
+			throws java.security.NoSuchAlgorithmException, NoSuchPaddingException {
+		Map<String, Cipher> cipherInstances = PUBLIC_KEY_CIPHER_INSTANCES.get();
+		Cipher cipher = cipherInstances.get(algorithm);
+		if (Objects.isNull(cipher)) {
+			cipher = Cipher.getInstance(algorithm);
+			cipherInstances.put(algorithm, cipher);
+		}
+		return cipher;
+	}
+
+	private SecretKeyFactory getSecretKeyFactoryInstance(String algorithm) throws java.security.NoSuchAlgorithmException {
+		Map<String, SecretKeyFactory> factoryInstances = SECRET_KEY_FACTORY_INSTANCES.get();
+		SecretKeyFactory secretKeyFactory = factoryInstances.get(algorithm);
+		if (Objects.isNull(secretKeyFactory)) {
+			secretKeyFactory = SecretKeyFactory.getInstance(algorithm);
+			factoryInstances.put(algorithm, secretKeyFactory);
+		}
+		return secretKeyFactory;
+	}
+
+	/**
+	 * Avoids copying the key bytes when the provided key is already a raw AES key.
+	 * 
+	 * @param key symmetric key
+	 * @return AES key spec
+	 */
+	private SecretKey getAESKeySpec(SecretKey key) {
+		if (AES.equalsIgnoreCase(key.getAlgorithm()) && RAW_KEY_FORMAT.equalsIgnoreCase(key.getFormat())) {
+			return key;
+		}
+		return new SecretKeySpec(key.getEncoded(), AES);
+	}
+
+	private byte[] doFinal(byte[] data, Cipher cipher) {
+		return doFinal(data, 0, data.length, cipher);
+	}
+
+	private byte[] doFinal(byte[] data, int offset, int length, Cipher cipher) {
+		try {
+			return cipher.doFinal(data, offset, length);
+		} catch (IllegalBlockSizeException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (BadPaddingException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+	}
+
+	private int doFinal(byte[] data, int offset, int length, byte[] output, Cipher cipher) {
+		try {
+			return cipher.doFinal(data, offset, length, output, 0);
+		} catch (IllegalBlockSizeException | ShortBufferException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (BadPaddingException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+	}
+
+	private int doFinal(ByteBuffer data, ByteBuffer output, Cipher cipher) {
+		try {
+			return cipher.doFinal(data, output);
+		} catch (IllegalBlockSizeException | ShortBufferException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_SIZE_EXCEPTION.getErrorCode(), e.getMessage(), e);
+		} catch (BadPaddingException e) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+	}
+
+	private void verifyRange(int dataLength, int offset, int length, int minLength) {
+		if (offset < 0 || length < minLength || offset + length > dataLength) {
+			throw new InvalidDataException(
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_INVALID_DATA_LENGTH_EXCEPTION.getErrorMessage());
+		}
+	}
+
+	/*
+	 * This two methods here are for temporary, Unit test for this will be written
+	 * in next versions
+	 */
+	@Override
+	public String sign(byte[] data, PrivateKey privateKey, X509Certificate x509Certificate) {
+		Objects.requireNonNull(privateKey, SecurityExceptionCodeConstant.MOSIP_INVALID_KEY_EXCEPTION.getErrorMessage());
+		CryptoUtils.verifyData(data);
+		JsonWebSignature jws = new JsonWebSignature();
+		List<X509Certificate> certList = new ArrayList<>();
+		certList.add(x509Certificate);
+		X509Certificate[] certArray = certList.toArray(new X509Certificate[] {});
+		jws.setCertificateChainHeaderValue(certArray);
+		jws.setPayloadBytes(data);
+		jws.setAlgorithmHeaderValue(signAlgorithm);
+		jws.setKey(privateKey);
+		jws.setDoKeyValidation(false);
+		try {
+			return jws.getCompactSerialization();
+		} catch (JoseException e) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+	}
+
+	/*
+	 * This two methods here are for temporary, Unit test for this will be written
+	 * in next versions
+	 */
+	@Override
+	public boolean verifySignature(String sign) {
+		if (EmptyCheckUtils.isNullEmpty(sign)) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorMessage());
+		}
+		JsonWebSignature jws = new JsonWebSignature();
+		try {
+			jws.setCompactSerialization(sign);
+			List<X509Certificate> certificateChainHeaderValue = jws.getCertificateChainHeaderValue();
+			X509Certificate certificate = certificateChainHeaderValue.get(0);
+			certificate.checkValidity();
+			PublicKey publicKey = certificate.getPublicKey();
+			jws.setKey(publicKey);
+			return jws.verifySignature();
+		} catch (JoseException | CertificateExpiredException | CertificateNotYetValidException e) {
+			throw new SignatureException(SecurityExceptionCodeConstant.MOSIP_SIGNATURE_EXCEPTION.getErrorCode(),
+					e.getMessage(), e);
+		}
+
+	}
+
+	
+}
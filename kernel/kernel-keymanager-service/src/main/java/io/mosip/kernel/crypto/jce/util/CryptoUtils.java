@@ -7,6 +7,8 @@
  */
 package io.mosip.kernel.crypto.jce.util;
 
+import java.nio.ByteBuffer;
+
 import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.exception.NullDataException;
 import io.mosip.kernel.crypto.jce.constant.SecurityExceptionCodeConstant;
@@ -43,6 +45,21 @@ public class CryptoUtils {
 		}
 	}
 
+	/**
+	 * Verify if data is null or empty
+	 * 
+	 * @param data data provided by user
+	 */
+	public static void verifyBuffer(ByteBuffer data) {
+		if (data == null) {
+			throw new NullDataException(SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorMessage());
+		} else if (!data.hasRemaining()) {
+			throw new InvalidDataException(SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorCode(),
+					SecurityExceptionCodeConstant.MOSIP_NULL_DATA_EXCEPTION.getErrorMessage());
+		}
+	}
+
 	/**
 	 * Verify if data is null or empty
 	 * 
@@ -36,6 +36,20 @@ public class CryptomanagerConstant {
 
 	public static final int GCM_NONCE_LENGTH = 12; 
 
+	public static final byte[] VERSION_STREAM_RSA_2048 = "VER_S2".getBytes();
+
+	public static final int STREAM_MAX_CHUNK_SIZE = 1048576;
+
+	public static final int STREAM_MAX_KEY_BLOCK_LENGTH = 4096;
+
+	public static final String ENCRYPT_STREAM = "CryptoManagerEncryptStream";
+
+	public static final String DECRYPT_STREAM = "CryptoManagerDecryptStream";
+
+	public static final String ENCRYPT_BATCH = "CryptoManagerEncryptBatch";
+
+	public static final String DECRYPT_BATCH = "CryptoManagerDecryptBatch";
+
 	public static final String ENCRYPT_PIN = "CryptoManagerEncryptWithPin";
 
 	public static final String DECRYPT_PIN = "CryptoManagerDecryptWithPin";
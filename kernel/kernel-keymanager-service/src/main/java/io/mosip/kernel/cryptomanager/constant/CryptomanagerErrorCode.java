@@ -67,6 +67,12 @@ public enum CryptomanagerErrorCode {
 
 	JWE_DECRYPTION_INTERNAL_ERROR("KER-CRY-015", "Internal Error while decrypting data using JWE."),
 
+	INVALID_STREAM_DATA("KER-CRY-016", "Encrypted stream data is invalid or truncated."),
+
+	STREAM_IO_ERROR("KER-CRY-017", "Error reading or writing stream data."),
+
+	BATCH_SIZE_EXCEEDED("KER-CRY-018", "Number of items in the batch request exceeds the allowed limit."),
+
 	INTERNAL_SERVER_ERROR("KER-CRY-500", "Internal server error");
 
 
@@ -6,13 +6,22 @@
  */
 package io.mosip.kernel.cryptomanager.controller;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.mosip.kernel.core.http.RequestWrapper;
@@ -22,6 +31,8 @@ import io.mosip.kernel.cryptomanager.dto.Argon2GenerateHashRequestDto;
 import io.mosip.kernel.cryptomanager.dto.Argon2GenerateHashResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.dto.JWTEncryptRequestDto;
@@ -102,6 +113,127 @@ public class CryptomanagerController {
 		return response;
 	}
 
+	/**
+	 * Controller for Encrypt the list of data
+	 * 
+	 * @param batchRequestDto {@link CryptomanagerBatchRequestDto} request
+	 * @return {@link CryptomanagerBatchResponseDto} encrypted Data or error for each item
+	 */
+	@Operation(summary = "Encrypt the list of data", description = "Encrypt the list of data", tags = { "cryptomanager" })
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success or you may find errors in error array in response"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	@ResponseFilter
+	@PreAuthorize("hasAnyRole(@cryptoManagerAuthRoles.getPostencryptbatch())")
+	@PostMapping(value = "/encryptBatch", produces = "application/json")
+	public ResponseWrapper<CryptomanagerBatchResponseDto> encryptBatch(
+			@ApiParam("List of data to encrypt in BASE64 encoding with meta-data") @RequestBody @Valid RequestWrapper<CryptomanagerBatchRequestDto> batchRequestDto) {
+		ResponseWrapper<CryptomanagerBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerService.encryptBatch(batchRequestDto.getRequest().getBatchRequest()));
+		return response;
+	}
+
+	/**
+	 * Controller for Decrypt the list of data
+	 * 
+	 * @param batchRequestDto {@link CryptomanagerBatchRequestDto} request
+	 * @return {@link CryptomanagerBatchResponseDto} decrypted Data or error for each item
+	 */
+	@Operation(summary = "Decrypt the list of data", description = "Decrypt the list of data", tags = { "cryptomanager" })
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success or you may find errors in error array in response"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	@ResponseFilter
+	@PreAuthorize("hasAnyRole(@cryptoManagerAuthRoles.getPostdecryptbatch())")
+	@PostMapping(value = "/decryptBatch", produces = "application/json")
+	public ResponseWrapper<CryptomanagerBatchResponseDto> decryptBatch(
+			@ApiParam("List of data to decrypt in BASE64 encoding with meta-data") @RequestBody @Valid RequestWrapper<CryptomanagerBatchRequestDto> batchRequestDto) {
+		ResponseWrapper<CryptomanagerBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(cryptomanagerService.decryptBatch(batchRequestDto.getRequest().getBatchRequest()));
+		return response;
+	}
+
+	/**
+	 * Controller for Encrypt the binary data stream
+	 * 
+	 * @param applicationId the application id
+	 * @param referenceId   the reference id
+	 * @param request       request with binary data to encrypt as body
+	 * @param response      response to write encrypted data stream
+	 * @throws IOException if request or response stream is not accessible
+	 */
+	@Operation(summary = "Encrypt the binary data stream", description = "Encrypt the binary data stream", tags = { "cryptomanager" })
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success or you may find errors in error array in response"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	@PreAuthorize("hasAnyRole(@cryptoManagerAuthRoles.getPostencrypt())")
+	@PostMapping(value = "/encrypt.stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public void encryptStream(@ApiParam("Id of application") @RequestParam("applicationId") String applicationId,
+			@ApiParam("Refrence Id as metadata") @RequestParam("referenceId") Optional<String> referenceId,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		cryptomanagerService.encryptStream(applicationId, referenceId.orElse(null), request.getInputStream(),
+				getOctetStreamOutput(response));
+	}
+
+	/**
+	 * Controller for Decrypt the binary data stream
+	 * 
+	 * @param applicationId the application id
+	 * @param referenceId   the reference id
+	 * @param request       request with encrypted data stream as body
+	 * @param response      response to write decrypted binary data
+	 * @throws IOException if request or response stream is not accessible
+	 */
+	@Operation(summary = "Decrypt the binary data stream", description = "Decrypt the binary data stream", tags = { "cryptomanager" })
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success or you may find errors in error array in response"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	@PreAuthorize("hasAnyRole(@cryptoManagerAuthRoles.getPostdecrypt())")
+	@PostMapping(value = "/decrypt.stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public void decryptStream(@ApiParam("Id of application") @RequestParam("applicationId") String applicationId,
+			@ApiParam("Refrence Id as metadata") @RequestParam("referenceId") Optional<String> referenceId,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		cryptomanagerService.decryptStream(applicationId, referenceId.orElse(null), request.getInputStream(),
+				getOctetStreamOutput(response));
+	}
+
+	/*
+	 * Content type is set on first write, so errors before writing any data are
+	 * returned as the regular error response.
+	 */
+	private OutputStream getOctetStreamOutput(HttpServletResponse response) throws IOException {
+		return new FilterOutputStream(response.getOutputStream()) {
+			private boolean contentTypeSet = false;
+
+			@Override
+			public void write(int b) throws IOException {
+				setContentType();
+				out.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				setContentType();
+				out.write(b, off, len);
+			}
+
+			private void setContentType() {
+				if (!contentTypeSet) {
+					response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+					contentTypeSet = true;
+				}
+			}
+		};
+	}
+
 	/**
 	 * Controller for Encrypt the data Using Pin
 	 * 
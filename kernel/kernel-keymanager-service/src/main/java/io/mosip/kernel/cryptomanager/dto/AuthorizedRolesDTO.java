@@ -17,8 +17,12 @@ public class AuthorizedRolesDTO
 {
 
 	private List<String> postencrypt;
+
+	private List<String> postencryptbatch;
 		  
     private List<String> postdecrypt;
+
+	private List<String> postdecryptbatch;
 		  
     private List<String> postencryptwithpin;
 	
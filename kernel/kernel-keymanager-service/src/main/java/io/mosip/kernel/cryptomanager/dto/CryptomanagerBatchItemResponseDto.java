@@ -0,0 +1,31 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import io.mosip.kernel.core.exception.ServiceError;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager-Batch-Response model for a single item
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service Batch Response Item")
+public class CryptomanagerBatchItemResponseDto {
+	/**
+	 * Data Encrypted/Decrypted in BASE64 encoding
+	 */
+	@ApiModelProperty(notes = "Data encrypted/decrypted in BASE64 encoding")
+	private String data;
+
+	/**
+	 * Error in processing the item, null when processed successfully.
+	 */
+	@ApiModelProperty(notes = "Error in processing the item")
+	private ServiceError error;
+}
@@ -0,0 +1,30 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager-Batch-Request model
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service Batch Request")
+public class CryptomanagerBatchRequestDto {
+	/**
+	 * List of data to encrypt/decrypt, each item validated separately.
+	 */
+	@ApiModelProperty(notes = "List of data to encrypt/decrypt", required = true)
+	@NotEmpty(message = CryptomanagerConstant.INVALID_REQUEST)
+	private List<CryptomanagerRequestDto> batchRequest;
+}
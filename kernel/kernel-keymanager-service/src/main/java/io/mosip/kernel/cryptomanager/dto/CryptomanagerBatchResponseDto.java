@@ -0,0 +1,26 @@
+package io.mosip.kernel.cryptomanager.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Crypto-Manager-Batch-Response model
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a Crypto-Manager-Service Batch Response")
+public class CryptomanagerBatchResponseDto {
+	/**
+	 * Response for each item, in the same order as the batch request.
+	 */
+	@ApiModelProperty(notes = "Response for each item in the same order as request")
+	private List<CryptomanagerBatchItemResponseDto> batchResponse;
+}
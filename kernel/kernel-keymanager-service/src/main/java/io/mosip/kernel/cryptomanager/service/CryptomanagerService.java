@@ -6,10 +6,15 @@
  */
 package io.mosip.kernel.cryptomanager.service;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
 import io.mosip.kernel.cryptomanager.dto.Argon2GenerateHashRequestDto;
 import io.mosip.kernel.cryptomanager.dto.Argon2GenerateHashResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.dto.JWTEncryptRequestDto;
@@ -42,6 +47,51 @@ public interface CryptomanagerService {
 	 */
 	public CryptomanagerResponseDto decrypt(CryptomanagerRequestDto cryptoRequestDto);
 
+	/**
+	 * Encrypt the data read from input stream in chunks and write the encrypted
+	 * key block & frames to output stream.
+	 *
+	 * @param applicationId the application id
+	 * @param referenceId   the reference id
+	 * @param inputStream   stream of data to encrypt
+	 * @param outputStream  stream to write encrypted data
+	 */
+	public void encryptStream(String applicationId, String referenceId, InputStream inputStream,
+			OutputStream outputStream);
+
+	/**
+	 * Decrypt the stream data encrypted using
+	 * {@link #encryptStream(String, String, InputStream, OutputStream)} and write
+	 * the decrypted data to output stream.
+	 *
+	 * @param applicationId the application id
+	 * @param referenceId   the reference id
+	 * @param inputStream   stream of encrypted data
+	 * @param outputStream  stream to write decrypted data
+	 */
+	public void decryptStream(String applicationId, String referenceId, InputStream inputStream,
+			OutputStream outputStream);
+
+	/**
+	 * Encrypt the list of data requested with metadata. Certificate is fetched and
+	 * session key is encrypted once for all the items with the same application id
+	 * & reference id. Each item is encrypted in the same format as
+	 * {@link #encrypt(CryptomanagerRequestDto)}.
+	 *
+	 * @param cryptoRequestDtos list of {@link CryptomanagerRequestDto}
+	 * @return encrypted data or error for each item, in the request order
+	 */
+	public CryptomanagerBatchResponseDto encryptBatch(List<CryptomanagerRequestDto> cryptoRequestDtos);
+
+	/**
+	 * Decrypt the list of data requested with metadata. Key for each certificate
+	 * thumbprint is resolved once for all the items encrypted with the certificate.
+	 *
+	 * @param cryptoRequestDtos list of {@link CryptomanagerRequestDto}
+	 * @return decrypted data or error for each item, in the request order
+	 */
+	public CryptomanagerBatchResponseDto decryptBatch(List<CryptomanagerRequestDto> cryptoRequestDtos);
+
 	/**
 	 * Encrypt the data requested with metadata.
 	 *
@@ -6,6 +6,12 @@ import static io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant.DEFAU
 import static io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant.DEFAULT_INCLUDES_TRUE;
 import static java.util.Arrays.copyOfRange;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -14,12 +20,22 @@ import java.security.PublicKey;
 import java.security.SecureRandom;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -42,6 +58,8 @@ import de.mkammerer.argon2.Argon2Advanced;
 import de.mkammerer.argon2.Argon2Factory;
 import de.mkammerer.argon2.Argon2Factory.Argon2Types;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
@@ -51,6 +69,8 @@ import io.mosip.kernel.cryptomanager.dto.Argon2GenerateHashRequestDto;
 import io.mosip.kernel.cryptomanager.dto.Argon2GenerateHashResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchItemResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.dto.JWTCipherResponseDto;
@@ -61,8 +81,11 @@ import io.mosip.kernel.cryptomanager.service.CryptomanagerService;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 import io.mosip.kernel.keygenerator.bouncycastle.util.KeyGeneratorUtils;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.entity.KeyStore;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanagerservice.helper.PrivateKeyDecryptorHelper;
+import io.mosip.kernel.keymanagerservice.helper.SessionKeyDecrytorHelper;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
 
@@ -85,6 +108,8 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 
 	private static final int AES_KEY_SIZE = 128;
 
+	private static final int GCM_MAX_TAG_LENGTH = 16;
+
 	private String AES_GCM_ALGO = "AES/GCM/NoPadding";
 
 	private static final Logger LOGGER = KeymanagerLogger.getLogger(CryptomanagerServiceImpl.class);
@@ -118,6 +143,15 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 	@Value("${mosip.keymanager.argon2.hash.generate.parallelism:2}")
     private int argon2Parallelism;
 
+	@Value("${mosip.kernel.crypto.stream.chunk-size:65536}")
+	private int streamChunkSize;
+
+	@Value("${mosip.kernel.crypto.batch.max-size:100}")
+	private int batchMaxSize;
+
+	@Value("${mosip.kernel.crypto.batch.thread-count:4}")
+	private int batchThreadCount;
+
 	private static SecureRandom secureRandom = null;
 
 	/**
@@ -141,11 +175,16 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 	@Autowired
 	private PrivateKeyDecryptorHelper privateKeyDecryptorHelper;
 
+	@Autowired
+	private SessionKeyDecrytorHelper sessionKeyDecrytorHelper;
+
 	@Autowired
 	KeymanagerUtil keymanagerUtil;
 
 	private Cache<String, Object> saltGenParamsCache = null;
 
+	private ExecutorService batchExecutor = null;
+
 	@PostConstruct
     public void init() {
         // Added Cache2kBuilder in the postConstruct because expire value 
@@ -175,9 +214,24 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 			return null;
 		})
 		.build();
-        
+
+		if (streamChunkSize <= 0 || streamChunkSize > CryptomanagerConstant.STREAM_MAX_CHUNK_SIZE) {
+			LOGGER.warn(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_STREAM, CryptomanagerConstant.ENCRYPT_STREAM,
+					"Configured stream chunk size is not valid, using maximum chunk size: " + CryptomanagerConstant.STREAM_MAX_CHUNK_SIZE);
+			streamChunkSize = CryptomanagerConstant.STREAM_MAX_CHUNK_SIZE;
+		}
+		batchExecutor = Executors.newFixedThreadPool(batchThreadCount, runnable -> {
+			Thread thread = new Thread(runnable, "crypto-batch-" + this.hashCode());
+			thread.setDaemon(true);
+			return thread;
+		});
     }
 
+	@PreDestroy
+	public void destroy() {
+		batchExecutor.shutdown();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -192,30 +246,11 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 		
 		cryptomanagerUtil.validateKeyIdentifierIds(cryptoRequestDto.getApplicationId(), cryptoRequestDto.getReferenceId());
 		SecretKey secretKey = keyGenerator.getSymmetricKey();
-		final byte[] encryptedData;
-		byte[] headerBytes = new byte[0];
-		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
-			encryptedData = cryptoCore.symmetricEncrypt(secretKey, cryptomanagerUtil.decodeBase64Data(cryptoRequestDto.getData()),
-							cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt())),
-							cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
-		} else {
-			byte[] aad = cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad()));
-			if (aad == null || aad.length == 0){
-				encryptedData = generateAadAndEncryptData(secretKey, cryptoRequestDto.getData());
-				headerBytes = CryptomanagerConstant.VERSION_RSA_2048;
-			} else {
-				encryptedData = cryptoCore.symmetricEncrypt(secretKey, cryptomanagerUtil.decodeBase64Data(cryptoRequestDto.getData()),
-										aad);
-			}
-		}
-
-		Certificate certificate = cryptomanagerUtil.getCertificate(cryptoRequestDto);
+		CertificateThumbprintInfo certInfo = cryptomanagerUtil.getCertificateThumbprintInfo(cryptoRequestDto.getApplicationId(),
+						cryptoRequestDto.getReferenceId());
 		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT, CryptomanagerConstant.ENCRYPT, 
 						"Found the cerificate, proceeding with session key encryption.");
-		PublicKey publicKey = certificate.getPublicKey();
-		final byte[] encryptedSymmetricKey = cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded());
-		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT, CryptomanagerConstant.ENCRYPT, 
-						"Session key encryption completed.");
+		byte[] encryptedKeyData = encryptSessionKey(certInfo, secretKey);
 		//boolean prependThumbprint = cryptoRequestDto.getPrependThumbprint() == null ? false : cryptoRequestDto.getPrependThumbprint();
 		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
 		// support of 1.1.3 no thumbprint is configured as true & encryption request with no thumbprint
@@ -229,14 +264,40 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 			return cryptoResponseDto;
 		} */ 
 		//---------------------
-		byte[] certThumbprint = cryptomanagerUtil.getCertificateThumbprint(certificate);
-		byte[] concatedData = cryptomanagerUtil.concatCertThumbprint(certThumbprint, encryptedSymmetricKey);
-		byte[] finalEncKeyBytes = cryptomanagerUtil.concatByteArrays(headerBytes, concatedData);
-		cryptoResponseDto.setData(CryptoUtil.encodeToURLSafeBase64(CryptoUtil.combineByteArray(encryptedData, 
-							finalEncKeyBytes, keySplitter)));
+		cryptoResponseDto.setData(encryptData(cryptoRequestDto, secretKey, encryptedKeyData));
 		return cryptoResponseDto;
 	}
 
+	private byte[] encryptSessionKey(CertificateThumbprintInfo certInfo, SecretKey secretKey) {
+		PublicKey publicKey = certInfo.getCertificate().getPublicKey();
+		final byte[] encryptedSymmetricKey = cryptoCore.asymmetricEncrypt(publicKey, secretKey.getEncoded());
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT, CryptomanagerConstant.ENCRYPT, 
+						"Session key encryption completed.");
+		return cryptomanagerUtil.concatCertThumbprint(certInfo.getCertThumbprint(), encryptedSymmetricKey);
+	}
+
+	private String encryptData(CryptomanagerRequestDto cryptoRequestDto, SecretKey secretKey, byte[] encryptedKeyData) {
+		final byte[] encryptedData;
+		byte[] headerBytes = new byte[0];
+		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
+			encryptedData = cryptoCore.symmetricEncrypt(secretKey, cryptomanagerUtil.decodeBase64Data(cryptoRequestDto.getData()),
+							cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt())),
+							cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
+		} else {
+			byte[] aad = cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad()));
+			if (aad == null || aad.length == 0){
+				encryptedData = generateAadAndEncryptData(secretKey, cryptoRequestDto.getData());
+				headerBytes = CryptomanagerConstant.VERSION_RSA_2048;
+			} else {
+				encryptedData = cryptoCore.symmetricEncrypt(secretKey, cryptomanagerUtil.decodeBase64Data(cryptoRequestDto.getData()),
+										aad);
+			}
+		}
+		byte[] finalEncKeyBytes = cryptomanagerUtil.concatByteArrays(headerBytes, encryptedKeyData);
+		return CryptoUtil.encodeToURLSafeBase64(CryptoUtil.combineByteArray(encryptedData, 
+							finalEncKeyBytes, keySplitter));
+	}
+
 	private byte[] generateAadAndEncryptData(SecretKey secretKey, String data){
 		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT, CryptomanagerConstant.ENCRYPT, 
 						"Provided AAD value is null or empty byte array. So generating random 32 bytes for AAD.");
@@ -278,6 +339,16 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 		SecretKey decryptedSymmetricKey = cryptomanagerUtil.getDecryptedSymmetricKey(cryptoRequestDto);
 		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT, CryptomanagerConstant.DECRYPT, 
 						"Session Key Decryption completed.");
+		final byte[] decryptedData = decryptData(cryptoRequestDto, headerBytes, encryptedData, decryptedSymmetricKey);
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT, CryptomanagerConstant.DECRYPT, 
+						"Data decryption completed.");
+		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
+		cryptoResponseDto.setData(CryptoUtil.encodeToURLSafeBase64(decryptedData));
+		return cryptoResponseDto;
+	}
+
+	private byte[] decryptData(CryptomanagerRequestDto cryptoRequestDto, byte[] headerBytes, byte[] encryptedData, 
+				SecretKey decryptedSymmetricKey) {
 		final byte[] decryptedData;
 		if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
 			decryptedData = cryptoCore.symmetricDecrypt(decryptedSymmetricKey, encryptedData,
@@ -291,11 +362,222 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 							cryptomanagerUtil.decodeBase64Data(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getAad())));
 			}
 		}
-		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT, CryptomanagerConstant.DECRYPT, 
-						"Data decryption completed.");
-		CryptomanagerResponseDto cryptoResponseDto = new CryptomanagerResponseDto();
-		cryptoResponseDto.setData(CryptoUtil.encodeToURLSafeBase64(decryptedData));
-		return cryptoResponseDto;
+		return decryptedData;
+	}
+
+	/*
+	 * Items are grouped by application id & reference id. Certificate is fetched and the session key is 
+	 * encrypted once for each group, data encryption for the items run in parallel. Items with salt use 
+	 * their own session key because the salt is used as IV and can repeat across items.
+	 */
+	@Override
+	public CryptomanagerBatchResponseDto encryptBatch(List<CryptomanagerRequestDto> cryptoRequestDtos) {
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_BATCH, CryptomanagerConstant.ENCRYPT_BATCH, 
+						"Request for batch data encryption.");
+		validateBatchSize(CryptomanagerConstant.ENCRYPT_BATCH, cryptoRequestDtos);
+
+		int batchSize = cryptoRequestDtos.size();
+		CryptomanagerBatchItemResponseDto[] batchResponse = new CryptomanagerBatchItemResponseDto[batchSize];
+		Map<String, List<Integer>> keyIdGroups = new LinkedHashMap<>();
+		for (int index = 0; index < batchSize; index++) {
+			try {
+				CryptomanagerRequestDto cryptoRequestDto = cryptoRequestDtos.get(index);
+				if (cryptoRequestDto == null || !cryptomanagerUtil.isDataValid(cryptoRequestDto.getApplicationId()) || 
+						!cryptomanagerUtil.isDataValid(cryptoRequestDto.getData())) {
+					throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_REQUEST.getErrorCode(),
+								CryptomanagerErrorCode.INVALID_REQUEST.getErrorMessage());
+				}
+				cryptomanagerUtil.validateKeyIdentifierIds(cryptoRequestDto.getApplicationId(), cryptoRequestDto.getReferenceId());
+				String groupKey = cryptoRequestDto.getApplicationId() + KeymanagerConstant.HYPHEN + cryptoRequestDto.getReferenceId();
+				keyIdGroups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(index);
+			} catch (RuntimeException exp) {
+				batchResponse[index] = getBatchItemError(CryptomanagerConstant.ENCRYPT_BATCH, exp);
+			}
+		}
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_BATCH, CryptomanagerConstant.ENCRYPT_BATCH, 
+						"Batch Size: " + batchSize + ", Number of application & reference ids: " + keyIdGroups.size());
+
+		List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+		for (List<Integer> groupIndexes : keyIdGroups.values()) {
+			CryptomanagerRequestDto groupRequestDto = cryptoRequestDtos.get(groupIndexes.get(0));
+			CertificateThumbprintInfo certInfo;
+			SecretKey groupSecretKey;
+			byte[] groupEncryptedKeyData;
+			try {
+				certInfo = cryptomanagerUtil.getCertificateThumbprintInfo(groupRequestDto.getApplicationId(), 
+								groupRequestDto.getReferenceId());
+				groupSecretKey = keyGenerator.getSymmetricKey();
+				groupEncryptedKeyData = encryptSessionKey(certInfo, groupSecretKey);
+			} catch (RuntimeException exp) {
+				CryptomanagerBatchItemResponseDto errorResponse = getBatchItemError(CryptomanagerConstant.ENCRYPT_BATCH, exp);
+				groupIndexes.forEach(index -> batchResponse[index] = errorResponse);
+				continue;
+			}
+			for (Integer index : groupIndexes) {
+				batchFutures.add(CompletableFuture.runAsync(() -> {
+					CryptomanagerRequestDto cryptoRequestDto = cryptoRequestDtos.get(index);
+					try {
+						SecretKey secretKey = groupSecretKey;
+						byte[] encryptedKeyData = groupEncryptedKeyData;
+						if (cryptomanagerUtil.isValidSalt(CryptomanagerUtils.nullOrTrim(cryptoRequestDto.getSalt()))) {
+							secretKey = keyGenerator.getSymmetricKey();
+							encryptedKeyData = encryptSessionKey(certInfo, secretKey);
+						}
+						batchResponse[index] = new CryptomanagerBatchItemResponseDto(
+										encryptData(cryptoRequestDto, secretKey, encryptedKeyData), null);
+					} catch (RuntimeException exp) {
+						batchResponse[index] = getBatchItemError(CryptomanagerConstant.ENCRYPT_BATCH, exp);
+					}
+				}, batchExecutor));
+			}
+		}
+		CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).join();
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_BATCH, CryptomanagerConstant.ENCRYPT_BATCH, 
+						"Batch data encryption completed.");
+		return new CryptomanagerBatchResponseDto(Arrays.asList(batchResponse));
+	}
+
+	/*
+	 * Items are grouped by application id, reference id & certificate thumbprint. Private key for each group 
+	 * is resolved once and the session key & data decryption for the items run in parallel.
+	 */
+	@Override
+	public CryptomanagerBatchResponseDto decryptBatch(List<CryptomanagerRequestDto> cryptoRequestDtos) {
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_BATCH, CryptomanagerConstant.DECRYPT_BATCH, 
+						"Request for batch data decryption.");
+		validateBatchSize(CryptomanagerConstant.DECRYPT_BATCH, cryptoRequestDtos);
+
+		int batchSize = cryptoRequestDtos.size();
+		CryptomanagerBatchItemResponseDto[] batchResponse = new CryptomanagerBatchItemResponseDto[batchSize];
+		BatchDecryptItem[] batchItems = new BatchDecryptItem[batchSize];
+		Map<String, Boolean> keyAccessMap = new HashMap<>();
+		Map<String, List<Integer>> thumbprintGroups = new LinkedHashMap<>();
+		List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+		for (int index = 0; index < batchSize; index++) {
+			try {
+				CryptomanagerRequestDto cryptoRequestDto = cryptoRequestDtos.get(index);
+				// key access is checked in request thread, security context not available in batch executor threads.
+				BatchDecryptItem batchItem = parseBatchDecryptItem(cryptoRequestDto, keyAccessMap);
+				batchItems[index] = batchItem;
+				if (batchItem.certThumbprintHex == null) {
+					final int itemIndex = index;
+					batchFutures.add(CompletableFuture.runAsync(() -> batchResponse[itemIndex] = 
+							decryptBatchItem(batchItem, () -> cryptomanagerUtil.getDecryptedSymmetricKey(batchItem.cryptoRequestDto)), 
+							batchExecutor));
+					continue;
+				}
+				String groupKey = cryptoRequestDto.getApplicationId() + KeymanagerConstant.HYPHEN + 
+							cryptoRequestDto.getReferenceId() + KeymanagerConstant.HYPHEN + batchItem.certThumbprintHex;
+				thumbprintGroups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(index);
+			} catch (RuntimeException exp) {
+				batchResponse[index] = getBatchItemError(CryptomanagerConstant.DECRYPT_BATCH, exp);
+			}
+		}
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_BATCH, CryptomanagerConstant.DECRYPT_BATCH, 
+						"Batch Size: " + batchSize + ", Number of certificate thumbprints: " + thumbprintGroups.size());
+
+		for (List<Integer> groupIndexes : thumbprintGroups.values()) {
+			CryptomanagerRequestDto groupRequestDto = batchItems[groupIndexes.get(0)].cryptoRequestDto;
+			String referenceId = groupRequestDto.getReferenceId();
+			Object[] keys;
+			try {
+				keys = sessionKeyDecrytorHelper.getKeyObjectsByThumbprint(groupRequestDto.getApplicationId(), referenceId, 
+								batchItems[groupIndexes.get(0)].certThumbprintHex);
+			} catch (RuntimeException exp) {
+				CryptomanagerBatchItemResponseDto errorResponse = getBatchItemError(CryptomanagerConstant.DECRYPT_BATCH, exp);
+				groupIndexes.forEach(index -> batchResponse[index] = errorResponse);
+				continue;
+			}
+			CompletableFuture<?>[] groupFutures = groupIndexes.stream().map(index -> CompletableFuture.runAsync(() -> {
+					BatchDecryptItem batchItem = batchItems[index];
+					batchResponse[index] = decryptBatchItem(batchItem, () -> {
+						byte[] sessionKey = sessionKeyDecrytorHelper.decryptSessionKey(keys, copyOfRange(batchItem.encryptedKey, 
+										CryptomanagerConstant.THUMBPRINT_LENGTH, batchItem.encryptedKey.length));
+						return new SecretKeySpec(sessionKey, AES_KEY_TYPE);
+					});
+				}, batchExecutor)).toArray(CompletableFuture[]::new);
+			batchFutures.add(CompletableFuture.allOf(groupFutures)
+					.whenComplete((result, exp) -> sessionKeyDecrytorHelper.releaseKeyObjects(keys, referenceId)));
+		}
+		CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).join();
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_BATCH, CryptomanagerConstant.DECRYPT_BATCH, 
+						"Batch data decryption completed.");
+		return new CryptomanagerBatchResponseDto(Arrays.asList(batchResponse));
+	}
+
+	private void validateBatchSize(String operation, List<CryptomanagerRequestDto> cryptoRequestDtos) {
+		if (cryptoRequestDtos == null || cryptoRequestDtos.isEmpty()) {
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_REQUEST.getErrorCode(),
+						CryptomanagerErrorCode.INVALID_REQUEST.getErrorMessage());
+		}
+		if (cryptoRequestDtos.size() > batchMaxSize) {
+			LOGGER.error(CryptomanagerConstant.SESSIONID, operation, operation,
+						"Batch size: " + cryptoRequestDtos.size() + " exceeds the allowed limit: " + batchMaxSize);
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.BATCH_SIZE_EXCEEDED.getErrorCode(),
+						CryptomanagerErrorCode.BATCH_SIZE_EXCEEDED.getErrorMessage());
+		}
+	}
+
+	private BatchDecryptItem parseBatchDecryptItem(CryptomanagerRequestDto cryptoRequestDto, Map<String, Boolean> keyAccessMap) {
+		if (cryptoRequestDto == null || !cryptomanagerUtil.isDataValid(cryptoRequestDto.getApplicationId()) || 
+				!cryptomanagerUtil.isDataValid(cryptoRequestDto.getData())) {
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_REQUEST.getErrorCode(),
+						CryptomanagerErrorCode.INVALID_REQUEST.getErrorMessage());
+		}
+		boolean hasAcccess = keyAccessMap.computeIfAbsent(cryptoRequestDto.getApplicationId(), cryptomanagerUtil::hasKeyAccess);
+		if (!hasAcccess) {
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.DECRYPT_NOT_ALLOWED_ERROR.getErrorCode(),
+						CryptomanagerErrorCode.DECRYPT_NOT_ALLOWED_ERROR.getErrorMessage());
+		}
+		byte[] encryptedHybridData = cryptomanagerUtil.decodeBase64Data(cryptoRequestDto.getData());
+		int keyDemiliterIndex = CryptoUtil.getSplitterIndex(encryptedHybridData, 0, keySplitter);
+		byte[] encryptedKeyWithHeader = copyOfRange(encryptedHybridData, 0, keyDemiliterIndex);
+		BatchDecryptItem batchItem = new BatchDecryptItem();
+		batchItem.cryptoRequestDto = cryptoRequestDto;
+		batchItem.encryptedData = copyOfRange(encryptedHybridData, keyDemiliterIndex + keySplitter.length(),
+				encryptedHybridData.length);
+		batchItem.headerBytes = cryptomanagerUtil.parseEncryptKeyHeader(encryptedKeyWithHeader);
+		batchItem.encryptedKey = copyOfRange(encryptedKeyWithHeader, batchItem.headerBytes.length, encryptedKeyWithHeader.length);
+		if (batchItem.encryptedKey.length == (CryptomanagerConstant.THUMBPRINT_LENGTH + 
+							CryptomanagerConstant.ENCRYPTED_SESSION_KEY_LENGTH)) {
+			batchItem.certThumbprintHex = Hex.toHexString(copyOfRange(batchItem.encryptedKey, 0, 
+							CryptomanagerConstant.THUMBPRINT_LENGTH)).toUpperCase();
+		} else {
+			// data encrypted without thumbprint, session key decrypted individually using key manager.
+			cryptoRequestDto.setData(CryptoUtil.encodeToURLSafeBase64(batchItem.encryptedKey));
+		}
+		return batchItem;
+	}
+
+	private CryptomanagerBatchItemResponseDto decryptBatchItem(BatchDecryptItem batchItem, 
+				Supplier<SecretKey> sessionKeySupplier) {
+		try {
+			SecretKey decryptedSymmetricKey = sessionKeySupplier.get();
+			byte[] decryptedData = decryptData(batchItem.cryptoRequestDto, batchItem.headerBytes, batchItem.encryptedData, 
+							decryptedSymmetricKey);
+			return new CryptomanagerBatchItemResponseDto(CryptoUtil.encodeToURLSafeBase64(decryptedData), null);
+		} catch (RuntimeException exp) {
+			return getBatchItemError(CryptomanagerConstant.DECRYPT_BATCH, exp);
+		}
+	}
+
+	private CryptomanagerBatchItemResponseDto getBatchItemError(String operation, RuntimeException exp) {
+		LOGGER.error(CryptomanagerConstant.SESSIONID, operation, operation,
+						"Error processing the batch item.", exp);
+		if (exp instanceof BaseUncheckedException) {
+			BaseUncheckedException baseExp = (BaseUncheckedException) exp;
+			return new CryptomanagerBatchItemResponseDto(null, new ServiceError(baseExp.getErrorCode(), baseExp.getErrorText()));
+		}
+		return new CryptomanagerBatchItemResponseDto(null, new ServiceError(
+						CryptomanagerErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(), exp.getMessage()));
+	}
+
+	private static class BatchDecryptItem {
+		private CryptomanagerRequestDto cryptoRequestDto;
+		private byte[] headerBytes;
+		private byte[] encryptedKey;
+		private byte[] encryptedData;
+		private String certThumbprintHex;
 	}
 
 	private byte[] splitAadAndDecryptData(SecretKey symmetricKey, byte[] encryptedData) {
@@ -306,6 +588,158 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 		return cryptoCore.symmetricDecrypt(symmetricKey, finalEncData, nonce, aad);
 	}
 
+	/*
+	 * Stream layout: [key block length (4 bytes)] [VER_S2 header || cert thumbprint || encrypted session key]
+	 * followed by frames of [frame length (4 bytes)] [nonce (12 bytes)] [AES-GCM encrypted chunk with tag].
+	 * Each frame AAD is the frame index & last frame flag, so reordered, dropped or truncated frames fail decryption.
+	 */
+	@Override
+	public void encryptStream(String applicationId, String referenceId, InputStream inputStream,
+			OutputStream outputStream) {
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_STREAM, CryptomanagerConstant.ENCRYPT_STREAM,
+						"Request for stream data encryption.");
+
+		cryptomanagerUtil.validateKeyIdentifierIds(applicationId, referenceId);
+		try {
+			byte[] chunk = inputStream.readNBytes(streamChunkSize);
+			if (chunk.length == 0) {
+				LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_STREAM, CryptomanagerConstant.ENCRYPT_STREAM,
+						"No data available in the stream to encrypt.");
+				throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_REQUEST.getErrorCode(),
+						CryptomanagerErrorCode.INVALID_REQUEST.getErrorMessage());
+			}
+			SecretKey secretKey = keyGenerator.getSymmetricKey();
+			CertificateThumbprintInfo certInfo = cryptomanagerUtil.getCertificateThumbprintInfo(applicationId, referenceId);
+			final byte[] encryptedSymmetricKey = cryptoCore.asymmetricEncrypt(certInfo.getCertificate().getPublicKey(), 
+						secretKey.getEncoded());
+			byte[] concatedData = cryptomanagerUtil.concatCertThumbprint(certInfo.getCertThumbprint(), encryptedSymmetricKey);
+			byte[] finalEncKeyBytes = cryptomanagerUtil.concatByteArrays(CryptomanagerConstant.VERSION_STREAM_RSA_2048, concatedData);
+			LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_STREAM, CryptomanagerConstant.ENCRYPT_STREAM,
+						"Session key encryption completed, proceeding with stream data encryption.");
+
+			DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+			dataOutputStream.writeInt(finalEncKeyBytes.length);
+			dataOutputStream.write(finalEncKeyBytes);
+			long frameIndex = 0;
+			while (true) {
+				// reading ahead one chunk to know whether the current chunk is the last frame.
+				byte[] nextChunk = chunk.length < streamChunkSize ? new byte[0] : inputStream.readNBytes(streamChunkSize);
+				boolean lastFrame = nextChunk.length == 0;
+				byte[] nonce = cryptomanagerUtil.generateRandomBytes(CryptomanagerConstant.GCM_NONCE_LENGTH);
+				byte[] encryptedChunk = cryptoCore.symmetricEncrypt(secretKey, chunk, nonce, getStreamFrameAad(frameIndex, lastFrame));
+				dataOutputStream.writeInt(nonce.length + encryptedChunk.length);
+				dataOutputStream.write(nonce);
+				dataOutputStream.write(encryptedChunk);
+				if (lastFrame) {
+					break;
+				}
+				chunk = nextChunk;
+				frameIndex++;
+			}
+			dataOutputStream.flush();
+			LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_STREAM, CryptomanagerConstant.ENCRYPT_STREAM,
+						"Stream data encryption completed. Total Frames: " + (frameIndex + 1));
+		} catch (IOException ioExp) {
+			LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.ENCRYPT_STREAM, CryptomanagerConstant.ENCRYPT_STREAM,
+						"Error reading or writing stream data.", ioExp);
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.STREAM_IO_ERROR.getErrorCode(),
+						CryptomanagerErrorCode.STREAM_IO_ERROR.getErrorMessage(), ioExp);
+		}
+	}
+
+	@Override
+	public void decryptStream(String applicationId, String referenceId, InputStream inputStream,
+			OutputStream outputStream) {
+		LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+						"Request for stream data decryption.");
+
+		boolean hasAcccess = cryptomanagerUtil.hasKeyAccess(applicationId);
+		if (!hasAcccess) {
+			LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+								"Data Decryption is not allowed for the authenticated user for the provided application id.");
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.DECRYPT_NOT_ALLOWED_ERROR.getErrorCode(),
+						CryptomanagerErrorCode.DECRYPT_NOT_ALLOWED_ERROR.getErrorMessage());
+		}
+		try {
+			DataInputStream dataInputStream = new DataInputStream(inputStream);
+			byte[] encryptedKey = readStreamBlock(dataInputStream, dataInputStream.readInt(),
+						CryptomanagerConstant.STREAM_MAX_KEY_BLOCK_LENGTH);
+			byte[] headerBytes = CryptomanagerConstant.VERSION_STREAM_RSA_2048;
+			if (encryptedKey.length <= headerBytes.length + CryptomanagerConstant.THUMBPRINT_LENGTH || 
+					!Arrays.equals(copyOfRange(encryptedKey, 0, headerBytes.length), headerBytes)) {
+				LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+								"Stream version header not found in the encrypted key block.");
+				throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_STREAM_DATA.getErrorCode(),
+							CryptomanagerErrorCode.INVALID_STREAM_DATA.getErrorMessage());
+			}
+			CryptomanagerRequestDto cryptoRequestDto = new CryptomanagerRequestDto();
+			cryptoRequestDto.setApplicationId(applicationId);
+			cryptoRequestDto.setReferenceId(referenceId);
+			cryptoRequestDto.setData(CryptoUtil.encodeToURLSafeBase64(copyOfRange(encryptedKey, headerBytes.length, encryptedKey.length)));
+			SecretKey decryptedSymmetricKey = cryptomanagerUtil.getDecryptedSymmetricKey(cryptoRequestDto);
+			LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+						"Session Key Decryption completed, proceeding with stream data decryption.");
+
+			int maxFrameLength = CryptomanagerConstant.GCM_NONCE_LENGTH + CryptomanagerConstant.STREAM_MAX_CHUNK_SIZE + GCM_MAX_TAG_LENGTH;
+			long frameIndex = 0;
+			int frameLength = dataInputStream.readInt();
+			while (true) {
+				byte[] nonce = readStreamBlock(dataInputStream, CryptomanagerConstant.GCM_NONCE_LENGTH, maxFrameLength);
+				byte[] encryptedChunk = readStreamBlock(dataInputStream, frameLength - nonce.length, maxFrameLength);
+				// reading ahead the next frame length to know whether the current frame is the last frame.
+				int nextFrameLength = readNextFrameLength(dataInputStream);
+				boolean lastFrame = nextFrameLength < 0;
+				outputStream.write(cryptoCore.symmetricDecrypt(decryptedSymmetricKey, encryptedChunk, nonce, 
+							getStreamFrameAad(frameIndex, lastFrame)));
+				if (lastFrame) {
+					break;
+				}
+				frameLength = nextFrameLength;
+				frameIndex++;
+			}
+			outputStream.flush();
+			LOGGER.info(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+						"Stream data decryption completed. Total Frames: " + (frameIndex + 1));
+		} catch (EOFException eofExp) {
+			LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+						"Encrypted stream data ended before the expected length.", eofExp);
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_STREAM_DATA.getErrorCode(),
+						CryptomanagerErrorCode.INVALID_STREAM_DATA.getErrorMessage(), eofExp);
+		} catch (IOException ioExp) {
+			LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+						"Error reading or writing stream data.", ioExp);
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.STREAM_IO_ERROR.getErrorCode(),
+						CryptomanagerErrorCode.STREAM_IO_ERROR.getErrorMessage(), ioExp);
+		}
+	}
+
+	private byte[] getStreamFrameAad(long frameIndex, boolean lastFrame) {
+		return ByteBuffer.allocate(Long.BYTES + 1).putLong(frameIndex).put((byte) (lastFrame ? 1 : 0)).array();
+	}
+
+	private byte[] readStreamBlock(DataInputStream dataInputStream, int length, int maxLength) throws IOException {
+		if (length <= 0 || length > maxLength) {
+			LOGGER.error(CryptomanagerConstant.SESSIONID, CryptomanagerConstant.DECRYPT_STREAM, CryptomanagerConstant.DECRYPT_STREAM,
+						"Invalid block length found in the encrypted stream: " + length);
+			throw new CryptoManagerSerivceException(CryptomanagerErrorCode.INVALID_STREAM_DATA.getErrorCode(),
+						CryptomanagerErrorCode.INVALID_STREAM_DATA.getErrorMessage());
+		}
+		byte[] block = new byte[length];
+		dataInputStream.readFully(block);
+		return block;
+	}
+
+	private int readNextFrameLength(DataInputStream dataInputStream) throws IOException {
+		int firstByte = dataInputStream.read();
+		if (firstByte < 0) {
+			return -1;
+		}
+		byte[] lengthBytes = new byte[Integer.BYTES];
+		lengthBytes[0] = (byte) firstByte;
+		dataInputStream.readFully(lengthBytes, 1, Integer.BYTES - 1);
+		return ByteBuffer.wrap(lengthBytes).getInt();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -515,7 +949,7 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 		String referenceId = jwtDecryptRequestDto.getReferenceId();
 		KeyStore dbKeyStoreObj = privateKeyDecryptorHelper.getDBKeyStoreData(certThumbprintHex, applicationId, referenceId);
 
-		Object[] keys = privateKeyDecryptorHelper.getKeyObjects(dbKeyStoreObj, false);
+		Object[] keys = privateKeyDecryptorHelper.getKeyObjects(certThumbprintHex, dbKeyStoreObj, false);
 		PrivateKey privateKey = (PrivateKey) keys[0];
 
 		LOGGER.info(CryptomanagerConstant.SESSIONID, this.getClass().getSimpleName(), CryptomanagerConstant.JWT_DECRYPT, 
@@ -547,7 +981,7 @@ public class CryptomanagerServiceImpl implements CryptomanagerService {
 			LOGGER.info(CryptomanagerConstant.SESSIONID, this.getClass().getSimpleName(), CryptomanagerConstant.JWT_DECRYPT, 
 					"Decrypting input encrypted Data.");
 			String decryptedData = jsonWebDecrypt.getPlaintextString();
-			keymanagerUtil.destoryKey(privateKey);
+			privateKeyDecryptorHelper.destroyKey(privateKey);
 			return decryptedData;
 		} catch (JoseException e) {
 			LOGGER.error(CryptomanagerConstant.SESSIONID, this.getClass().getSimpleName(), CryptomanagerConstant.JWT_ENCRYPT, 
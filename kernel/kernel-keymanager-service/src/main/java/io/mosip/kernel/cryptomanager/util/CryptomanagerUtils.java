@@ -44,6 +44,7 @@ import io.mosip.kernel.cryptomanager.constant.CryptomanagerErrorCode;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.exception.CryptoManagerSerivceException;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyRequestDto;
 import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
 import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
@@ -317,8 +318,18 @@ public class CryptomanagerUtils {
 	}
 
 	public Certificate getCertificate(String applicationId, String referenceId) {
-		String certData = getCertificateFromKeyManager(applicationId, referenceId);
-		return keymanagerUtil.convertToCertificate(certData);
+		return keyManager.getX509Certificate(applicationId, Optional.ofNullable(referenceId));
+	}
+
+	/**
+	 * Gets the certificate object & precomputed thumbprint from key manager.
+	 *
+	 * @param applicationId the app id
+	 * @param referenceId the ref id
+	 * @return the certificate & thumbprint
+	 */
+	public CertificateThumbprintInfo getCertificateThumbprintInfo(String applicationId, String referenceId) {
+		return keyManager.getCertificateThumbprintInfo(applicationId, Optional.ofNullable(referenceId));
 	}
 
 	public void validateEncKeySize(Certificate encCert) {
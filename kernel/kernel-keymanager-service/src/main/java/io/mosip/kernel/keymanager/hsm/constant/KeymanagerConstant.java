@@ -66,4 +66,18 @@ public final class KeymanagerConstant {
 
 	public static final String ASYM_KEY_ED_ALGORITHM = "ASYM_KEY_ED_ALGORITHM";
 
+	public static final String PKCS11_MAX_KEYSTORE_OPERATIONS = "PKCS11_MAX_KEYSTORE_OPERATIONS";
+
+	public static final String PKCS11_KEYSTORE_OPERATION_WAIT_MILLIS = "PKCS11_KEYSTORE_OPERATION_WAIT_MILLIS";
+
+	public static final String HSM_CIRCUIT_FAILURE_THRESHOLD = "HSM_CIRCUIT_FAILURE_THRESHOLD";
+
+	public static final String HSM_CIRCUIT_OPEN_MILLIS = "HSM_CIRCUIT_OPEN_MILLIS";
+
+	public static final String HSM_CIRCUIT_OPEN_MAX_MILLIS = "HSM_CIRCUIT_OPEN_MAX_MILLIS";
+
+	public static final String HSM_RETRY_BACKOFF_MILLIS = "HSM_RETRY_BACKOFF_MILLIS";
+
+	public static final String HSM_CIRCUIT_METRIC = "keymanager.hsm.circuit";
+
 }
@@ -26,7 +26,11 @@ public enum KeymanagerErrorCode {
 	
 	OFFLINE_KEYSTORE_ACCESS_ERROR("KER-KMA-009", "Keystore instantiated as offline, performing operation not allowed."),
 
-	ALGORITHM_NOT_SUPPORTED("KER-KMA-010", "Algorithm is not supported for the provider through SunPKCS11.");
+	ALGORITHM_NOT_SUPPORTED("KER-KMA-010", "Algorithm is not supported for the provider through SunPKCS11."),
+
+	KEYSTORE_OPERATION_NOT_AVAILABLE("KER-KMA-011", "Timed out waiting for a free HSM keystore operation slot."),
+
+	HSM_CIRCUIT_OPEN("KER-KMA-012", "HSM not available, calls are suspended after repeated HSM failures.");
 
 	/**
 	 * The error code
@@ -15,6 +15,8 @@ import org.springframework.stereotype.Component;
 import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanager.hsm.impl.KeyStoreImpl;
+import io.mosip.kernel.keymanager.hsm.util.HSMCircuitBreaker;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
 import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
@@ -43,6 +45,8 @@ public class HSMHealthCheck implements ReactiveHealthIndicator {
 
     private static final String HEALTH_CHECK_NOT_ENABLED = "HEALTH_CHECK_NOT_ENABLED";
 
+    private static final String HSM_CIRCUIT_OPEN = "HSM_CIRCUIT_OPEN";
+
     private static final String EMPTY_STR = "";
 
     private static final String SAMPLE_DATA = "Tk8tU0VDRVJULUFWQUlMQUJMRS1URU1QLUZJWElORy0";
@@ -90,6 +94,12 @@ public class HSMHealthCheck implements ReactiveHealthIndicator {
             if (!healthCheckEnabled) {
                 return HEALTH_CHECK_NOT_ENABLED;
             }
+            // key reference cache can hide the HSM failure, so reporting the circuit breaker state till the 
+            // open duration elapses. After that the probe below runs, so the instance is reported up once 
+            // the HSM is reachable even when no traffic is routed to it to take the half open trial call.
+            if (isHSMCircuitOpen()) {
+                return HSM_CIRCUIT_OPEN;
+            }
             String keyAlias = getHealthCheckKeyAlias();
             if (keyAlias.equals(EMPTY_STR)) {
                 return NO_UNIQUE_KEY_ALIAS_FOUND;
@@ -116,6 +126,15 @@ public class HSMHealthCheck implements ReactiveHealthIndicator {
         
     }
 
+    private boolean isHSMCircuitOpen() {
+        if (!(keyStore instanceof KeyStoreImpl)) {
+            return false;
+        }
+        return ((KeyStoreImpl) keyStore).getCircuitBreaker()
+                    .map(HSMCircuitBreaker::isOpenDurationPending)
+                    .orElse(false);
+    }
+
     private String getHealthCheckKeyAlias() {
         if (cachedKeyAlias != null) 
             return cachedKeyAlias;
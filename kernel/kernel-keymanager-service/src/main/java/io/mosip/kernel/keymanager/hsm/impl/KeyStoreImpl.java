@@ -27,6 +27,8 @@ import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.keymanager.hsm.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanager.hsm.constant.KeymanagerErrorCode;
+import io.mosip.kernel.keymanager.hsm.impl.pkcs.PKCS11KeyStoreImpl;
+import io.mosip.kernel.keymanager.hsm.util.HSMCircuitBreaker;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
 
 
@@ -117,6 +119,40 @@ public class KeyStoreImpl implements ECKeyStore, InitializingBean {
 	@Value("${mosip.kernel.keygenerator.asymmetric.ec.algorithm-name:EC}")
 	private String asymmetricECKeyAlgorithm;
 
+	/**
+	 * Max concurrent PKCS11 keystore operations (key lookup, generation, store and delete), 0 for no limit. 
+	 * Cipher and Signature operations with the returned keys are not counted.
+	 */
+	@Value("${mosip.kernel.keymanager.hsm.keystore.max-concurrent-operations:0}")
+	private int maxKeystoreOperations;
+
+	/**
+	 * Max wait time for a free keystore operation slot.
+	 */
+	@Value("${mosip.kernel.keymanager.hsm.keystore.operation-wait.inMillis:5000}")
+	private long keystoreOperationWaitInMillis;
+
+	/**
+	 * Consecutive HSM failures to suspend the HSM calls, 0 to disable.
+	 */
+	@Value("${mosip.kernel.keymanager.hsm.circuit.failure-threshold:5}")
+	private int circuitFailureThreshold;
+
+	/**
+	 * Duration the HSM calls are suspended, doubled on every failed trial call.
+	 */
+	@Value("${mosip.kernel.keymanager.hsm.circuit.open.inMillis:5000}")
+	private long circuitOpenInMillis;
+
+	@Value("${mosip.kernel.keymanager.hsm.circuit.open.max.inMillis:60000}")
+	private long circuitOpenMaxInMillis;
+
+	/**
+	 * Backoff before retrying a failed HSM call, doubled on every retry.
+	 */
+	@Value("${mosip.kernel.keymanager.hsm.retry.backoff.inMillis:100}")
+	private long retryBackoffInMillis;
+
 	/**
 	 * JCE Implementation Clazz Name and other required information.
 	 * 
@@ -180,6 +216,12 @@ public class KeyStoreImpl implements ECKeyStore, InitializingBean {
 	private void addPKCSParams() {
 		keystoreParams.put(KeymanagerConstant.CONFIG_FILE_PATH, configPath);
 		keystoreParams.put(KeymanagerConstant.PKCS11_KEYSTORE_PASSWORD, keystorePass);
+		keystoreParams.put(KeymanagerConstant.PKCS11_MAX_KEYSTORE_OPERATIONS, Integer.toString(maxKeystoreOperations));
+		keystoreParams.put(KeymanagerConstant.PKCS11_KEYSTORE_OPERATION_WAIT_MILLIS, Long.toString(keystoreOperationWaitInMillis));
+		keystoreParams.put(KeymanagerConstant.HSM_CIRCUIT_FAILURE_THRESHOLD, Integer.toString(circuitFailureThreshold));
+		keystoreParams.put(KeymanagerConstant.HSM_CIRCUIT_OPEN_MILLIS, Long.toString(circuitOpenInMillis));
+		keystoreParams.put(KeymanagerConstant.HSM_CIRCUIT_OPEN_MAX_MILLIS, Long.toString(circuitOpenMaxInMillis));
+		keystoreParams.put(KeymanagerConstant.HSM_RETRY_BACKOFF_MILLIS, Long.toString(retryBackoffInMillis));
 	}
 
 
@@ -317,6 +359,18 @@ public class KeyStoreImpl implements ECKeyStore, InitializingBean {
 		return keyStore.getKeystoreProviderName();
 	}
 
+	/**
+	 * Circuit breaker of the HSM calls, empty when the keystore is not HSM.
+	 * 
+	 * @return the circuit breaker
+	 */
+	public Optional<HSMCircuitBreaker> getCircuitBreaker() {
+		if (keyStore instanceof PKCS11KeyStoreImpl) {
+			return Optional.of(((PKCS11KeyStoreImpl) keyStore).getCircuitBreaker());
+		}
+		return Optional.empty();
+	}
+
 	public void setJce(Map<String, String> jce) {
 		this.jceParams = jce;
 	}
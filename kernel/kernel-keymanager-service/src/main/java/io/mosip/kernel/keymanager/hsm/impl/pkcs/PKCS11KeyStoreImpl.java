@@ -32,6 +32,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
@@ -47,6 +50,7 @@ import io.mosip.kernel.keygenerator.bouncycastle.constant.KeyGeneratorExceptionC
 import io.mosip.kernel.keymanager.hsm.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanager.hsm.constant.KeymanagerErrorCode;
 import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
+import io.mosip.kernel.keymanager.hsm.util.HSMCircuitBreaker;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
 
 /**
@@ -114,21 +118,29 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 	private Map<String, SecretKey> secretKeyReferenceCache;
 
 	/**
-	 * The Keystore instance
+	 * The loaded provider & Keystore instance, replaced as a whole on provider reload
+	 * so request threads never see a half swapped provider.
 	 */
-	private KeyStore keyStore;
+	private volatile ProviderContext providerContext;
 
-	private Provider provider = null;
+	private final ReentrantLock providerReloadLock = new ReentrantLock();
 
-	private LocalDateTime lastProviderLoadedTime;
+	/**
+	 * Permits for the concurrent keystore operations, null when max keystore operations is not configured.
+	 */
+	private Semaphore keystoreOperationPermits = null;
+
+	private long keystoreOperationWaitInMillis;
+
+	private HSMCircuitBreaker circuitBreaker;
+
+	private long retryBackoffInMillis;
 
 	private static final int PROVIDER_ALLOWED_RELOAD_INTERVEL_IN_SECONDS = 60;
 
 	private static final int NO_OF_RETRIES = 3;
 
     private char[] keystorePwdCharArr = null;
-    
-	private SecureRandom secureRandom;
 
 	public PKCS11KeyStoreImpl(Map<String, String> params) throws Exception {
         this.keystoreType = KeymanagerConstant.KEYSTORE_TYPE_PKCS11;
@@ -141,21 +153,119 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		this.signAlgorithm = params.get(KeymanagerConstant.CERT_SIGN_ALGORITHM);
 		this.enableKeyReferenceCache = Boolean.parseBoolean(params.get(KeymanagerConstant.FLAG_KEY_REF_CACHE));
 		this.asymmetricECKeyAlgorithm = params.get(KeymanagerConstant.ASYM_KEY_EC_ALGORITHM);
+		initKeystoreOperationLimit(params);
+		initCircuitBreaker(params);
 		initKeystore();
     }
     
     private void initKeystore() {
         initKeyReferenceCache();
 		keystorePwdCharArr = getKeystorePwd();
-		provider = setupProvider(configPath);
-		addProvider(provider);
-		this.keyStore = getKeystoreInstance(keystoreType, provider);
-		lastProviderLoadedTime = DateUtils.getUTCCurrentDateTime();
-		this.secureRandom = getSecureRandom();
-		
+		this.providerContext = loadProviderContext();
     }
 
-	private SecureRandom getSecureRandom() {
+	/**
+	 * Loads a new provider & keystore, the new provider is registered only after the keystore is loaded.
+	 */
+	ProviderContext loadProviderContext() {
+		Provider provider = setupProvider(configPath);
+		KeyStore keyStore = getKeystoreInstance(keystoreType, provider);
+		// Registering the new provider replaces the existing provider with the same name.
+		addProvider(provider);
+		return new ProviderContext(provider, keyStore, getSecureRandom(provider), DateUtils.getUTCCurrentDateTime());
+	}
+
+	/**
+	 * Limits the concurrent keystore operations (key lookup, key generation, store & delete). Cipher and
+	 * Signature operations done with the returned key handles are outside this limit, they take the 
+	 * sessions from the SunPKCS11 session pool which is bounded by the max sessions reported by the token. 
+	 * To bound the total HSM sessions of this instance in a shared network HSM, configure the max sessions
+	 * of the HSM partition used by this instance.
+	 */
+	private void initKeystoreOperationLimit(Map<String, String> params) {
+		int maxKeystoreOperations = getIntParam(params, KeymanagerConstant.PKCS11_MAX_KEYSTORE_OPERATIONS, 0);
+		this.keystoreOperationWaitInMillis = getLongParam(params, KeymanagerConstant.PKCS11_KEYSTORE_OPERATION_WAIT_MILLIS, 0);
+		if (maxKeystoreOperations > 0) {
+			this.keystoreOperationPermits = new Semaphore(maxKeystoreOperations, true);
+			LOGGER.info("sessionId", "KeyStoreImpl", "initKeystoreOperationLimit", 
+					"Max concurrent keystore operations: " + maxKeystoreOperations);
+		}
+	}
+
+	private void initCircuitBreaker(Map<String, String> params) {
+		this.circuitBreaker = new HSMCircuitBreaker(getIntParam(params, KeymanagerConstant.HSM_CIRCUIT_FAILURE_THRESHOLD, 0),
+				getLongParam(params, KeymanagerConstant.HSM_CIRCUIT_OPEN_MILLIS, 0),
+				getLongParam(params, KeymanagerConstant.HSM_CIRCUIT_OPEN_MAX_MILLIS, 0));
+		this.retryBackoffInMillis = getLongParam(params, KeymanagerConstant.HSM_RETRY_BACKOFF_MILLIS, 0);
+	}
+
+	private int getIntParam(Map<String, String> params, String key, int defaultValue) {
+		String value = params.get(key);
+		return Objects.isNull(value) ? defaultValue : Integer.parseInt(value);
+	}
+
+	private long getLongParam(Map<String, String> params, String key, long defaultValue) {
+		String value = params.get(key);
+		return Objects.isNull(value) ? defaultValue : Long.parseLong(value);
+	}
+
+	public HSMCircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * Fails fast when the HSM calls are suspended by the circuit breaker, otherwise takes a keystore operation permit.
+	 */
+	private void acquireHSMCall() {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			throw new KeystoreProcessingException(KeymanagerErrorCode.HSM_CIRCUIT_OPEN.getErrorCode(),
+					KeymanagerErrorCode.HSM_CIRCUIT_OPEN.getErrorMessage());
+		}
+		try {
+			acquireKeystoreOperation();
+		} catch (KeystoreProcessingException e) {
+			// no HSM call made, neither a HSM success nor a failure.
+			circuitBreaker.releasePermission();
+			throw e;
+		}
+	}
+
+	private void releaseHSMCall(boolean hsmFailure) {
+		releaseKeystoreOperation();
+		if (hsmFailure)
+			circuitBreaker.onFailure();
+		else
+			circuitBreaker.onSuccess();
+	}
+
+	private void backoff(int attempt) {
+		try {
+			TimeUnit.MILLISECONDS.sleep(HSMCircuitBreaker.jitter(retryBackoffInMillis, attempt, 
+					retryBackoffInMillis << NO_OF_RETRIES));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void acquireKeystoreOperation() {
+		if (Objects.isNull(keystoreOperationPermits))
+			return;
+		try {
+			if (keystoreOperationPermits.tryAcquire(keystoreOperationWaitInMillis, TimeUnit.MILLISECONDS))
+				return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_OPERATION_NOT_AVAILABLE.getErrorCode(),
+				KeymanagerErrorCode.KEYSTORE_OPERATION_NOT_AVAILABLE.getErrorMessage());
+	}
+
+	private void releaseKeystoreOperation() {
+		if (Objects.nonNull(keystoreOperationPermits))
+			keystoreOperationPermits.release();
+	}
+
+	private SecureRandom getSecureRandom(Provider provider) {
 		try {
 			return SecureRandom.getInstance(KeymanagerConstant.KEYSTORE_TYPE_PKCS11, provider);
 		} catch (NoSuchAlgorithmException e) {
@@ -249,11 +359,16 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 	@Override
 	public List<String> getAllAlias() {
 		Enumeration<String> enumeration = null;
+		boolean hsmFailure = false;
+		acquireHSMCall();
 		try {
-			enumeration = keyStore.aliases();
+			enumeration = providerContext.keyStore.aliases();
 		} catch (KeyStoreException e) {
+			hsmFailure = true;
 			throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorMessage() + e.getMessage(), e);
+		} finally {
+			releaseHSMCall(hsmFailure);
 		}
 		return Collections.list(enumeration);
 	}
@@ -267,11 +382,16 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 	@Override
 	public Key getKey(String alias) {
 		Key key = null;
+		boolean hsmFailure = false;
+		acquireHSMCall();
 		try {
-			key = keyStore.getKey(alias, keystorePwdCharArr);
+			key = providerContext.keyStore.getKey(alias, keystorePwdCharArr);
 		} catch (UnrecoverableKeyException | KeyStoreException | NoSuchAlgorithmException e) {
+			hsmFailure = e instanceof KeyStoreException;
 			throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorMessage() + e.getMessage(), e);
+		} finally {
+			releaseHSMCall(hsmFailure);
 		}
 		return key;
 	}
@@ -295,11 +415,13 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		String expMessage = "";
 		Exception exp = null;
 		do {
+			ProviderContext context = providerContext;
+			acquireHSMCall();
 			try {
-				if (keyStore.entryInstanceOf(alias, PrivateKeyEntry.class)) {
+				if (context.keyStore.entryInstanceOf(alias, PrivateKeyEntry.class)) {
 					LOGGER.debug("sessionId", "KeyStoreImpl", "getAsymmetricKey", "alias is instanceof keystore");
 					ProtectionParameter password = getPasswordProtection();
-					privateKeyEntry = (PrivateKeyEntry) keyStore.getEntry(alias, password);
+					privateKeyEntry = (PrivateKeyEntry) context.keyStore.getEntry(alias, password);
 					if (privateKeyEntry != null) {
 						LOGGER.debug("sessionId", "KeyStoreImpl", "getAsymmetricKey", "privateKeyEntry is not null");
 						break;
@@ -316,10 +438,14 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 				expMessage = kse.getMessage();
 				exp = kse;
 				LOGGER.debug("sessionId", "KeyStoreImpl", "getAsymmetricKey", expMessage);
+			} finally {
+				releaseHSMCall(isException);
 			}
 			if (isException) {
-				reloadProvider();
+				reloadProvider(context);
 				isException = false;
+				if (i < NO_OF_RETRIES)
+					backoff(i);
 			}
 		} while (i++ < NO_OF_RETRIES);
 		if (Objects.isNull(privateKeyEntry)) {
@@ -331,25 +457,37 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		return privateKeyEntry;
 	}
 
-	private synchronized void reloadProvider() {
-		LOGGER.info("sessionId", "KeyStoreImpl", "KeyStoreImpl", "reloading provider");
-		if(DateUtils.getUTCCurrentDateTime().isBefore(
-				lastProviderLoadedTime.plusSeconds(PROVIDER_ALLOWED_RELOAD_INTERVEL_IN_SECONDS))) {
-			LOGGER.warn("sessionId", "KeyStoreImpl", "reloadProvider", 
-				"Last time successful reload done on " + lastProviderLoadedTime.toString() + 
-					", so reloading not done before interval of " + 
-					PROVIDER_ALLOWED_RELOAD_INTERVEL_IN_SECONDS + " sec");
+	/**
+	 * Reloads the provider when the failed provider context is still the current one. Only one thread
+	 * reloads, other threads continue with the current provider context instead of waiting for the reload.
+	 * New provider is loaded aside and swapped in once ready.
+	 */
+	private void reloadProvider(ProviderContext failedContext) {
+		if (!providerReloadLock.tryLock()) {
+			LOGGER.info("sessionId", "KeyStoreImpl", "reloadProvider", "provider reload in progress by other thread");
 			return;
 		}
-		String existingProviderName = null;
-		if (Objects.nonNull(provider))
-			existingProviderName = provider.getName();
-		provider = setupProvider(configPath);
-		if(existingProviderName != null)
-			Security.removeProvider(existingProviderName);
-		addProvider(provider);
-		this.keyStore = getKeystoreInstance(keystoreType, provider);
-		lastProviderLoadedTime = DateUtils.getUTCCurrentDateTime();
+		try {
+			ProviderContext currentContext = providerContext;
+			if (currentContext != failedContext) {
+				// already reloaded by other thread.
+				return;
+			}
+			LOGGER.info("sessionId", "KeyStoreImpl", "KeyStoreImpl", "reloading provider");
+			if(DateUtils.getUTCCurrentDateTime().isBefore(
+					currentContext.loadedTime.plusSeconds(PROVIDER_ALLOWED_RELOAD_INTERVEL_IN_SECONDS))) {
+				LOGGER.warn("sessionId", "KeyStoreImpl", "reloadProvider", 
+					"Last time successful reload done on " + currentContext.loadedTime.toString() + 
+						", so reloading not done before interval of " + 
+						PROVIDER_ALLOWED_RELOAD_INTERVEL_IN_SECONDS + " sec");
+				return;
+			}
+			providerContext = loadProviderContext();
+			// Key references are bound to the sessions of the replaced provider.
+			clearKeyReferenceCache();
+		} finally {
+			providerReloadLock.unlock();
+		}
 	}
 
 	/*
@@ -412,10 +550,12 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		String expMessage = "";
 		Exception exp = null;
 		do {
+			ProviderContext context = providerContext;
+			acquireHSMCall();
 			try {
-				if (keyStore.entryInstanceOf(alias, SecretKeyEntry.class)) {
+				if (context.keyStore.entryInstanceOf(alias, SecretKeyEntry.class)) {
 					ProtectionParameter password = getPasswordProtection();
-					SecretKeyEntry retrivedSecret = (SecretKeyEntry) keyStore.getEntry(alias, password);
+					SecretKeyEntry retrivedSecret = (SecretKeyEntry) context.keyStore.getEntry(alias, password);
 					secretKey = retrivedSecret.getSecretKey();
 					if (secretKey != null) {
 						LOGGER.debug("sessionId", "KeyStoreImpl", "getSymmetricKey", "secretKey is not null");
@@ -433,10 +573,14 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 				expMessage = kse.getMessage();
 				exp = kse;
 				LOGGER.debug("sessionId", "KeyStoreImpl", "getSymmetricKey", expMessage);
+			} finally {
+				releaseHSMCall(isException);
 			}
 			if (isException) {
-				reloadProvider();
+				reloadProvider(context);
 				isException = false;
+				if (i < NO_OF_RETRIES)
+					backoff(i);
 			}
 		} while (i++ < NO_OF_RETRIES);
 		if (Objects.isNull(secretKey)) {
@@ -456,23 +600,34 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 	 */
 	@Override
 	public void deleteKey(String alias) {
+		boolean hsmFailure = false;
+		acquireHSMCall();
 		try {
-			keyStore.deleteEntry(alias);
+			providerContext.keyStore.deleteEntry(alias);
 		} catch (KeyStoreException e) {
+			hsmFailure = true;
 			throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorMessage() + e.getMessage(), e);
+		} finally {
+			releaseHSMCall(hsmFailure);
 		}
 	}
 
 	private void storeCertificate(String alias, Certificate[] chain, PrivateKey privateKey) {
 		PrivateKeyEntry privateKeyEntry = new PrivateKeyEntry(privateKey, chain);
 		ProtectionParameter password = getPasswordProtection();
+		KeyStore keyStore = providerContext.keyStore;
+		boolean hsmFailure = false;
+		acquireHSMCall();
 		try {
 			keyStore.setEntry(alias, privateKeyEntry, password);
 			keyStore.store(null, keystorePwdCharArr);
 		} catch (KeyStoreException | NoSuchAlgorithmException | CertificateException | IOException e) {
+			hsmFailure = e instanceof KeyStoreException || e instanceof IOException;
 			throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorMessage() + e.getMessage());
+		} finally {
+			releaseHSMCall(hsmFailure);
 		}
 
 	}
@@ -505,7 +660,7 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 			signPrivateKey = keyPair.getPrivate();
 		}
 		X509Certificate x509Cert = CertificateUtility.generateX509Certificate(signPrivateKey, keyPair.getPublic(), certParams, 
-									signerPrincipal, signAlgorithm, provider.getName());
+									signerPrincipal, signAlgorithm, providerContext.provider.getName());
 		X509Certificate[] chain = new X509Certificate[] {x509Cert};
 		storeCertificate(alias, chain, keyPair.getPrivate());
 	} 
@@ -529,19 +684,26 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		SecretKey secretKey = generateSymmetricKey();
 		SecretKeyEntry secret = new SecretKeyEntry(secretKey);
 		ProtectionParameter password = getPasswordProtection();
+		KeyStore keyStore = providerContext.keyStore;
+		boolean hsmFailure = false;
+		acquireHSMCall();
 		try {
 			keyStore.setEntry(alias, secret, password);
 			keyStore.store(null, keystorePwdCharArr);
 		} catch (KeyStoreException | NoSuchAlgorithmException | CertificateException | IOException e) {
+			hsmFailure = e instanceof KeyStoreException || e instanceof IOException;
 			throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorMessage() + e.getMessage(), e);
+		} finally {
+			releaseHSMCall(hsmFailure);
 		}
 	}
 
 	private KeyPair generateRSAKeyPair() {
 		try {
-			KeyPairGenerator generator = KeyPairGenerator.getInstance(asymmetricKeyAlgorithm, provider);
-			generator.initialize(asymmetricKeyLength, secureRandom);
+			ProviderContext context = providerContext;
+			KeyPairGenerator generator = KeyPairGenerator.getInstance(asymmetricKeyAlgorithm, context.provider);
+			generator.initialize(asymmetricKeyLength, context.secureRandom);
 			return generator.generateKeyPair();
 		} catch (java.security.NoSuchAlgorithmException e) {
 			throw new io.mosip.kernel.core.exception.NoSuchAlgorithmException(
@@ -556,8 +718,9 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 				throw new KeystoreProcessingException(KeymanagerErrorCode.ALGORITHM_NOT_SUPPORTED.getErrorCode(),
 					KeymanagerErrorCode.ALGORITHM_NOT_SUPPORTED.getErrorMessage());
 			}
-			KeyPairGenerator generator = KeyPairGenerator.getInstance(asymmetricECKeyAlgorithm, provider);
-			generator.initialize(new ECGenParameterSpec(ecCurve), secureRandom);
+			ProviderContext context = providerContext;
+			KeyPairGenerator generator = KeyPairGenerator.getInstance(asymmetricECKeyAlgorithm, context.provider);
+			generator.initialize(new ECGenParameterSpec(ecCurve), context.secureRandom);
 			return generator.generateKeyPair();
 		} catch (java.security.NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
 			throw new io.mosip.kernel.core.exception.NoSuchAlgorithmException(
@@ -568,8 +731,9 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 
 	private SecretKey generateSymmetricKey() {
 		try {
-			KeyGenerator generator = KeyGenerator.getInstance(symmetricKeyAlgorithm, provider);
-			generator.init(symmetricKeyLength, secureRandom);
+			ProviderContext context = providerContext;
+			KeyGenerator generator = KeyGenerator.getInstance(symmetricKeyAlgorithm, context.provider);
+			generator.init(symmetricKeyLength, context.secureRandom);
 			return generator.generateKey();
 		} catch (java.security.NoSuchAlgorithmException e) {
 			throw new io.mosip.kernel.core.exception.NoSuchAlgorithmException(
@@ -581,21 +745,28 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 
 	@Override
 	public void storeCertificate(String alias, PrivateKey privateKey, Certificate certificate) {
+		boolean hsmFailure = false;
+		acquireHSMCall();
 		try {
 			PrivateKeyEntry privateKeyEntry = new PrivateKeyEntry(privateKey, new Certificate[] {certificate});
 			ProtectionParameter password = getPasswordProtection();
+			KeyStore keyStore = providerContext.keyStore;
 			keyStore.setEntry(alias, privateKeyEntry, password);
 			keyStore.store(null, keystorePwdCharArr);
 		} catch (KeyStoreException | NoSuchAlgorithmException | CertificateException | IOException e) {
+			hsmFailure = e instanceof KeyStoreException || e instanceof IOException;
 			throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_PROCESSING_ERROR.getErrorMessage() + e.getMessage(), e);
+		} finally {
+			releaseHSMCall(hsmFailure);
 		}
 	}
 
 	@Override
 	public String getKeystoreProviderName() {
-		if (Objects.nonNull(keyStore)) {
-			return keyStore.getProvider().getName();
+		ProviderContext context = providerContext;
+		if (Objects.nonNull(context)) {
+			return context.keyStore.getProvider().getName();
 		}
 		throw new KeystoreProcessingException(KeymanagerErrorCode.KEYSTORE_NOT_INSTANTIATED.getErrorCode(),
 					KeymanagerErrorCode.KEYSTORE_NOT_INSTANTIATED.getErrorMessage());
@@ -615,6 +786,13 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		this.secretKeyReferenceCache = new ConcurrentHashMap<>();
 	}
 
+	private void clearKeyReferenceCache() {
+		if(!enableKeyReferenceCache)
+			return;
+		this.privateKeyReferenceCache.clear();
+		this.secretKeyReferenceCache.clear();
+	}
+
 	private void addPrivateKeyEntryToCache(String alias, PrivateKeyEntry privateKeyEntry) {
 		if(!enableKeyReferenceCache)
 			return;
@@ -648,6 +826,27 @@ public class PKCS11KeyStoreImpl implements ECKeyStore {
 		generateAndStoreAsymKey(alias, signKeyAlias, certParams, ecCurve);
 	}
 
+	/**
+	 * Provider & the Keystore loaded with the provider.
+	 */
+	static final class ProviderContext {
+
+		private final Provider provider;
+
+		private final KeyStore keyStore;
+
+		private final SecureRandom secureRandom;
+
+		private final LocalDateTime loadedTime;
+
+		ProviderContext(Provider provider, KeyStore keyStore, SecureRandom secureRandom, LocalDateTime loadedTime) {
+			this.provider = provider;
+			this.keyStore = keyStore;
+			this.secureRandom = secureRandom;
+			this.loadedTime = loadedTime;
+		}
+	}
+
 	/* @Override
 	public void generateAndStoreEDAsymmetricKey(String alias, String signKeyAlias, CertificateParameters certParams) {
 		throw new KeystoreProcessingException(KeymanagerErrorCode.ALGORITHM_NOT_SUPPORTED.getErrorCode(),
@@ -0,0 +1,166 @@
+package io.mosip.kernel.keymanager.hsm.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.mosip.kernel.keymanager.hsm.constant.KeymanagerConstant;
+
+/**
+ * Circuit breaker for the HSM calls. Circuit opens after the configured consecutive HSM failures
+ * and calls are rejected without reaching the HSM till the open duration elapses. After the open
+ * duration one trial call is allowed (half open), success closes the circuit and failure opens
+ * it again with doubled open duration. Open duration is jittered so the keymanager instances do
+ * not retry the HSM at the same time.
+ *
+ * @since 1.3.0
+ *
+ */
+public class HSMCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private static final int MAX_BACKOFF_SHIFT = 16;
+
+	private final int failureThreshold;
+
+	private final long openDurationInMillis;
+
+	private final long maxOpenDurationInMillis;
+
+	private volatile State state = State.CLOSED;
+
+	private volatile int consecutiveFailures = 0;
+
+	private int consecutiveOpens = 0;
+
+	private long openUntilMillis = 0;
+
+	private boolean halfOpenTrialInProgress = false;
+
+	private final Counter rejectedCalls;
+
+	/**
+	 * @param failureThreshold consecutive failures to open the circuit, 0 or less disables the circuit breaker.
+	 * @param openDurationInMillis open duration after the first open.
+	 * @param maxOpenDurationInMillis max open duration after repeated failed trial calls.
+	 */
+	public HSMCircuitBreaker(int failureThreshold, long openDurationInMillis, long maxOpenDurationInMillis) {
+		this.failureThreshold = failureThreshold;
+		this.openDurationInMillis = openDurationInMillis;
+		this.maxOpenDurationInMillis = Math.max(openDurationInMillis, maxOpenDurationInMillis);
+		this.rejectedCalls = Metrics.counter(KeymanagerConstant.HSM_CIRCUIT_METRIC + ".rejected");
+		Metrics.gauge(KeymanagerConstant.HSM_CIRCUIT_METRIC + ".state", this, breaker -> breaker.state.ordinal());
+	}
+
+	/**
+	 * Checks whether the HSM call is allowed.
+	 *
+	 * @return true when the circuit is closed or the call is the half open trial call.
+	 */
+	public boolean tryAcquirePermission() {
+		if (failureThreshold <= 0 || state == State.CLOSED) {
+			return true;
+		}
+		synchronized (this) {
+			if (state == State.CLOSED) {
+				return true;
+			}
+			if (state == State.OPEN && System.currentTimeMillis() >= openUntilMillis) {
+				transitionTo(State.HALF_OPEN);
+			}
+			if (state == State.HALF_OPEN && !halfOpenTrialInProgress) {
+				halfOpenTrialInProgress = true;
+				return true;
+			}
+		}
+		rejectedCalls.increment();
+		return false;
+	}
+
+	/**
+	 * Records the HSM call completed without HSM failure.
+	 */
+	public void onSuccess() {
+		if (state == State.CLOSED && consecutiveFailures == 0) {
+			return;
+		}
+		synchronized (this) {
+			consecutiveFailures = 0;
+			consecutiveOpens = 0;
+			halfOpenTrialInProgress = false;
+			if (state != State.CLOSED) {
+				transitionTo(State.CLOSED);
+			}
+		}
+	}
+
+	/**
+	 * Releases the permission of a call that did not reach the HSM, frees the half open trial slot 
+	 * without changing the state or the failure counts.
+	 */
+	public void releasePermission() {
+		if (state != State.HALF_OPEN) {
+			return;
+		}
+		synchronized (this) {
+			halfOpenTrialInProgress = false;
+		}
+	}
+
+	/**
+	 * Records the HSM call failed because of HSM failure.
+	 */
+	public void onFailure() {
+		if (failureThreshold <= 0) {
+			return;
+		}
+		synchronized (this) {
+			consecutiveFailures++;
+			if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+				consecutiveOpens++;
+				openUntilMillis = System.currentTimeMillis()
+						+ jitter(openDurationInMillis, consecutiveOpens - 1, maxOpenDurationInMillis);
+				halfOpenTrialInProgress = false;
+				transitionTo(State.OPEN);
+			}
+		}
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * Checks whether the calls are rejected for the open duration.
+	 *
+	 * @return true when the circuit is open and the open duration has not elapsed.
+	 */
+	public synchronized boolean isOpenDurationPending() {
+		return state == State.OPEN && System.currentTimeMillis() < openUntilMillis;
+	}
+
+	/**
+	 * Exponential backoff with jitter, returns a random value between half and the full backoff value.
+	 *
+	 * @param baseInMillis backoff for the first attempt.
+	 * @param attempt attempt number starting from 0.
+	 * @param maxInMillis max backoff.
+	 * @return jittered backoff in millis.
+	 */
+	public static long jitter(long baseInMillis, int attempt, long maxInMillis) {
+		long backoff = Math.min(maxInMillis, baseInMillis << Math.min(attempt, MAX_BACKOFF_SHIFT));
+		if (backoff <= 1) {
+			return Math.max(backoff, 0);
+		}
+		long halfBackoff = backoff / 2;
+		return halfBackoff + ThreadLocalRandom.current().nextLong(backoff - halfBackoff + 1);
+	}
+
+	private void transitionTo(State newState) {
+		state = newState;
+		Metrics.counter(KeymanagerConstant.HSM_CIRCUIT_METRIC + ".transition", "state", newState.name()).increment();
+	}
+}
@@ -226,4 +226,26 @@ public class KeymanagerConstant {
 	public static final String ED25519_ALG_OID = "1.3.101.112";
 
 	public static final String APP_REF_ID_SEP = "#";
+
+	public static final String PRIVATE_KEY_CACHE_METRIC = "keymanager.privatekey.cache";
+
+	public static final String THUMBPRINT_CACHE_METRIC = "keymanager.thumbprint.cache";
+
+	public static final String KEY_ALIAS_CACHE_METRIC = "keymanager.keyalias.cache";
+
+	public static final String CERTIFICATE_CACHE_METRIC = "keymanager.certificate.cache";
+
+	public static final String KEY_PAIR_POOL_METRIC = "keymanager.keypair.pool";
+
+	public static final String KEY_ALIAS_CACHE = "keyAliasCache";
+
+	public static final String KEY_POLICY_CACHE = "keyPolicyCache";
+
+	public static final String THUMBPRINT_CACHE = "thumbprintCache";
+
+	public static final String PRIVATE_KEY_CACHE = "privateKeyCache";
+
+	public static final String CERTIFICATE_CACHE = "certificateCache";
+
+	public static final String CA_CERT_TRUST_STORE_CACHE = "caCertTrustStore";
 }
@@ -69,6 +69,10 @@ public enum KeymanagerErrorConstant {
 
 	EC_SIGN_REFERENCE_ID_NOT_SUPPORTED("KER-KMS-030", "EC Sign Reference Id Not Supported for the Application ID."),
 
+	KEY_GENERATION_WAIT_TIMEOUT("KER-KMS-031", "Timed out waiting for the key generation in progress."),
+
+	KEY_GENERATION_ROLLED_BACK("KER-KMS-032", "Key generation in progress was rolled back, retry the request."),
+
 	INTERNAL_SERVER_ERROR("KER-KMS-500", "Internal server error");
 
 	/**
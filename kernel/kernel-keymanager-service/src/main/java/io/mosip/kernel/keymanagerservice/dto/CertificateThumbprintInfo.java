@@ -0,0 +1,28 @@
+package io.mosip.kernel.keymanagerservice.dto;
+
+import java.security.cert.X509Certificate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Certificate with the precomputed thumbprint of the current key alias,
+ * used by the internal callers of key manager.
+ *
+ * @since 1.3.0
+ *
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CertificateThumbprintInfo {
+
+	private String alias;
+
+	private X509Certificate certificate;
+
+	private byte[] certThumbprint;
+
+	private String certThumbprintHex;
+}
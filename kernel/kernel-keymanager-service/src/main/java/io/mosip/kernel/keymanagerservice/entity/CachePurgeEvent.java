@@ -0,0 +1,45 @@
+package io.mosip.kernel.keymanagerservice.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class for the cache purge events shared between the keymanager instances.
+ * 
+ * @since 1.3.0
+ *
+ */
+@Entity
+@Table(name = "cache_purge_event")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachePurgeEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id")
+	private Long id;
+
+	@Column(name = "cache_name", nullable = false, length = 64)
+	private String cacheName;
+
+	@Column(name = "cache_key", length = 512)
+	private String cacheKey;
+
+	@Column(name = "origin_id", nullable = false, length = 36)
+	private String originId;
+
+	@Column(name = "cr_dtimes", nullable = false)
+	private LocalDateTime createdDateTime;
+}
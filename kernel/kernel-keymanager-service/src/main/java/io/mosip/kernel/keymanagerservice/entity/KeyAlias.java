@@ -73,6 +73,6 @@ public class KeyAlias extends BaseEntity {
 	/**
 	 * The Key Unique Identifier
 	 */
-	@Column(name = "uni_ident", length = 32)
+	@Column(name = "uni_ident", length = 50)
 	private String uniqueIdentifier;
 }	
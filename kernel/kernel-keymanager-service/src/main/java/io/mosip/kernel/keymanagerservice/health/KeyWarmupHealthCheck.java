@@ -0,0 +1,35 @@
+package io.mosip.kernel.keymanagerservice.health;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.keymanagerservice.helper.KeyWarmupHelper;
+import reactor.core.publisher.Mono;
+
+/**
+ * Health Check reporting out of service till the key warm up is completed.
+ *
+ * @since 1.3.0
+ */
+
+@Component("KeyWarmupHealth")
+@ConditionalOnProperty(value = "mosip.kernel.keymanager.warmup.enabled", havingValue = "true")
+public class KeyWarmupHealthCheck implements ReactiveHealthIndicator {
+
+    private static final String WARMUP_IN_PROGRESS = "WARMUP_IN_PROGRESS";
+
+    private static final String WARMUP_COMPLETED = "WARMUP_COMPLETED";
+
+    @Autowired
+    private KeyWarmupHelper keyWarmupHelper;
+
+    @Override
+    public Mono<Health> health() {
+        return Mono.fromCallable(() -> keyWarmupHelper.isWarmupCompleted())
+        .map(completed -> completed ? Health.up().withDetail("Info: ", WARMUP_COMPLETED).build() : 
+                            Health.outOfService().withDetail("Info: ", WARMUP_IN_PROGRESS).build());
+    }
+}
@@ -0,0 +1,208 @@
+package io.mosip.kernel.keymanagerservice.helper;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.CachePurgeEvent;
+import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
+import io.mosip.kernel.keymanagerservice.repository.CachePurgeEventRepository;
+
+/**
+ * Helper class to broadcast the cache purges to all the keymanager instances. Purge events
+ * are stored in the cache_purge_event table and polled by every instance, so no message
+ * broker is required. A purge event with null cache key purges all the entries of the cache,
+ * can be inserted in the table to purge the caches after the DB data is updated manually.
+ * Broadcast is disabled by default, when enabled every instance polls the table at the
+ * configured interval.
+ *
+ * @since 1.3.0
+ *
+ */
+@Component
+public class CachePurgeEventHelper {
+
+    private static final Logger LOGGER = KeymanagerLogger.getLogger(CachePurgeEventHelper.class);
+
+    @Value("${mosip.kernel.keymanager.cache.purge.broadcast.enabled:false}")
+    private boolean broadcastEnabled;
+
+    @Value("${mosip.kernel.keymanager.cache.purge.poll.inSecs:5}")
+    private long pollIntervalInSecs;
+
+    /** Events created within this time before the last poll are read again, event ids are not committed in id order. */
+    @Value("${mosip.kernel.keymanager.cache.purge.poll.overlap.inSecs:60}")
+    private long pollOverlapInSecs;
+
+    @Value("${mosip.kernel.keymanager.cache.purge.retention.inMins:60}")
+    private long retentionInMins;
+
+    @Autowired
+    private CachePurgeEventRepository cachePurgeEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, Consumer<String>> purgeListeners = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    private ScheduledExecutorService pollExecutor = null;
+
+    private LocalDateTime lastPollTime;
+
+    /** Events read within the overlap window, used to apply an event only once. */
+    private final Map<Long, LocalDateTime> readEventIds = new HashMap<>();
+
+    private LocalDateTime lastCleanupTime;
+
+    @PostConstruct
+    public void init() {
+        if (!broadcastEnabled) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Cache purge broadcast enabled, instance id: " + instanceId + ", poll interval in secs: " 
+                        + pollIntervalInSecs);
+        // purge events are stored after the commit of the business transaction, so a new transaction is required.
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        lastPollTime = DateUtils.getUTCCurrentDateTime();
+        lastCleanupTime = lastPollTime;
+        pollExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-purge-poll-" + this.hashCode());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pollExecutor.scheduleWithFixedDelay(this::pollPurgeEvents, pollIntervalInSecs, pollIntervalInSecs, 
+                        TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (Objects.nonNull(pollExecutor)) {
+            pollExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers the action to purge the local cache on the purge event from other instance.
+     *
+     * @param cacheName the cache name
+     * @param purgeAction the purge action, accepts the cache key or null to purge all entries
+     */
+    public void registerPurgeListener(String cacheName, Consumer<String> purgeAction) {
+        purgeListeners.put(cacheName, purgeAction);
+    }
+
+    /**
+     * Broadcasts the cache purge to other instances. Within a transaction the event is stored 
+     * after commit, so other instances reload the committed data.
+     *
+     * @param cacheName the cache name
+     * @param cacheKey the cache key
+     */
+    public void publishPurgeEvent(String cacheName, String cacheKey) {
+        if (!broadcastEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    savePurgeEvent(cacheName, cacheKey);
+                }
+            });
+            return;
+        }
+        savePurgeEvent(cacheName, cacheKey);
+    }
+
+    /**
+     * Applies the purge events added by other instances since the last poll.
+     */
+    public synchronized void pollPurgeEvents() {
+        try {
+            LocalDateTime pollTime = DateUtils.getUTCCurrentDateTime();
+            // event with lower id can be committed after a higher id is read, so the overlap window is read again.
+            LocalDateTime pollFromTime = lastPollTime.minusSeconds(pollOverlapInSecs);
+            List<CachePurgeEvent> purgeEvents = cachePurgeEventRepository
+                        .findByCreatedDateTimeGreaterThanEqualOrderByIdAsc(pollFromTime);
+            for (CachePurgeEvent purgeEvent : purgeEvents) {
+                if (readEventIds.putIfAbsent(purgeEvent.getId(), purgeEvent.getCreatedDateTime()) != null
+                        || instanceId.equals(purgeEvent.getOriginId())) {
+                    continue;
+                }
+                applyPurgeEvent(purgeEvent);
+            }
+            // events before the poll from time are not read again.
+            readEventIds.values().removeIf(createdDateTime -> createdDateTime.isBefore(pollFromTime));
+            lastPollTime = pollTime;
+            deleteExpiredEvents();
+        } catch (RuntimeException e) {
+            LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Error polling cache purge events. Error: " + e.getMessage());
+        }
+    }
+
+    private void applyPurgeEvent(CachePurgeEvent purgeEvent) {
+        Consumer<String> purgeAction = purgeListeners.get(purgeEvent.getCacheName());
+        if (Objects.isNull(purgeAction)) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Purging Cache on event from other instance. Cache: " + purgeEvent.getCacheName() + 
+                        ", Key: " + purgeEvent.getCacheKey());
+        try {
+            purgeAction.accept(purgeEvent.getCacheKey());
+        } catch (RuntimeException e) {
+            LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Error purging Cache: " + purgeEvent.getCacheName() + ". Error: " + e.getMessage());
+        }
+    }
+
+    private void savePurgeEvent(String cacheName, String cacheKey) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> cachePurgeEventRepository.save(
+                        new CachePurgeEvent(null, cacheName, cacheKey, instanceId, DateUtils.getUTCCurrentDateTime())));
+        } catch (RuntimeException e) {
+            LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Error storing cache purge event for Cache: " + cacheName + ". Error: " + e.getMessage());
+        }
+    }
+
+    private void deleteExpiredEvents() {
+        LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+        if (lastCleanupTime.plusMinutes(retentionInMins).isAfter(timestamp)) {
+            return;
+        }
+        lastCleanupTime = timestamp;
+        transactionTemplate.executeWithoutResult(status -> 
+                        cachePurgeEventRepository.deleteByCreatedDateTimeBefore(timestamp.minusMinutes(retentionInMins)));
+    }
+}
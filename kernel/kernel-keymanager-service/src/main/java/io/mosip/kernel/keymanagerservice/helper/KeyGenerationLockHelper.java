@@ -0,0 +1,80 @@
+package io.mosip.kernel.keymanagerservice.helper;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+
+/**
+ * Helper class to serialize the key generation across the keymanager instances
+ * using a DB lock.
+ *
+ * @since 1.3.0
+ *
+ */
+@Component
+public class KeyGenerationLockHelper {
+
+    private static final Logger LOGGER = KeymanagerLogger.getLogger(KeyGenerationLockHelper.class);
+
+    private static final String POSTGRES_DRIVER = "postgresql";
+
+    @Value("${keymanager.persistence.jdbc.driver:}")
+    private String jdbcDriver;
+
+    @Autowired
+    private KeyAliasRepository keyAliasRepository;
+
+    /**
+     * Tries to acquire the DB lock for the key generation of the application id & reference id.
+     * Lock is a postgres transaction level advisory lock, so this method has to be called within
+     * a transaction and the lock gets released on commit or rollback. For other databases lock is
+     * not supported and returns true.
+     *
+     * @param applicationId the application id
+     * @param referenceId the reference id
+     * @return true if lock acquired
+     */
+    public boolean tryKeyGenerationLock(String applicationId, String referenceId) {
+        if (!jdbcDriver.contains(POSTGRES_DRIVER)) {
+            return true;
+        }
+        String lockName = applicationId + KeymanagerConstant.APP_REF_ID_SEP + referenceId;
+        boolean lockAcquired = Boolean.TRUE.equals(keyAliasRepository.tryAdvisoryXactLock(getLockKey(lockName)));
+        LOGGER.info(KeymanagerConstant.SESSIONID, applicationId, referenceId,
+                        "Key generation DB lock acquired: " + lockAcquired);
+        return lockAcquired;
+    }
+
+    /**
+     * Acquires the DB lock for the key generation of the application id & reference id, waits 
+     * till the lock is released by other keymanager instance. Lock is a postgres transaction level 
+     * advisory lock, gets released on commit or rollback. For other databases lock is not supported 
+     * and returns false.
+     *
+     * @param applicationId the application id
+     * @param referenceId the reference id
+     * @return true if lock acquired
+     */
+    public boolean lockKeyGeneration(String applicationId, String referenceId) {
+        if (!jdbcDriver.contains(POSTGRES_DRIVER)) {
+            return false;
+        }
+        String lockName = applicationId + KeymanagerConstant.APP_REF_ID_SEP + referenceId;
+        keyAliasRepository.advisoryXactLock(getLockKey(lockName));
+        LOGGER.info(KeymanagerConstant.SESSIONID, applicationId, referenceId, "Key generation DB lock acquired.");
+        return true;
+    }
+
+    private long getLockKey(String lockName) {
+        return ByteBuffer.wrap(DigestUtils.sha256(lockName.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+}
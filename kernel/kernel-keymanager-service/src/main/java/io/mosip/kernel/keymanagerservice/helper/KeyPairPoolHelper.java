@@ -0,0 +1,145 @@
+package io.mosip.kernel.keymanagerservice.helper;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
+import io.mosip.kernel.keygenerator.bouncycastle.util.KeyGeneratorUtils;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Pool of pre-generated asymmetric key pairs for the base keys created on demand
+ * in DB store. Pool is filled by a background thread so the RSA key generation
+ * is not done in the request thread. Falls back to inline generation when the
+ * pool is empty. Pool is disabled by default because the pooled private keys
+ * are held unwrapped in memory till used.
+ *
+ * @since 1.3.0
+ *
+ */
+@Component
+public class KeyPairPoolHelper {
+
+    private static final Logger LOGGER = KeymanagerLogger.getLogger(KeyPairPoolHelper.class);
+
+    @Value("${mosip.kernel.keymanager.keypair.pool.enabled:false}")
+    private boolean keyPairPoolEnabled;
+
+    @Value("${mosip.kernel.keymanager.keypair.pool.size:5}")
+    private int keyPairPoolSize;
+
+    @Value("${mosip.kernel.keymanager.keypair.pool.retry.inSecs:30}")
+    private long keyPairPoolRetryInSecs;
+
+    @Value("${mosip.kernel.keygenerator.asymmetric-algorithm-name}")
+    private String asymmetricKeyAlgorithm;
+
+    @Value("${mosip.kernel.keygenerator.asymmetric-key-length}")
+    private int asymmetricKeyLength;
+
+    @Autowired
+    private KeyGenerator keyGenerator;
+
+    private BlockingQueue<KeyPair> keyPairPool = null;
+
+    private Thread refillThread;
+
+    private volatile boolean refillRunning;
+
+    private Counter keyPairPoolHits;
+
+    private Counter keyPairPoolMisses;
+
+    @PostConstruct
+    public void init() {
+        if (!keyPairPoolEnabled || keyPairPoolSize <= 0) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Key pair pool enabled, size: " + keyPairPoolSize);
+        keyPairPool = new ArrayBlockingQueue<>(keyPairPoolSize);
+        keyPairPoolHits = Metrics.counter(KeymanagerConstant.KEY_PAIR_POOL_METRIC, "result", "hit");
+        keyPairPoolMisses = Metrics.counter(KeymanagerConstant.KEY_PAIR_POOL_METRIC, "result", "miss");
+        Metrics.gauge(KeymanagerConstant.KEY_PAIR_POOL_METRIC + ".size", keyPairPool, BlockingQueue::size);
+        refillRunning = true;
+        refillThread = new Thread(this::refillKeyPairPool, "keypair-pool-refill-" + this.hashCode());
+        refillThread.setDaemon(true);
+        refillThread.start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refillRunning = false;
+        if (Objects.nonNull(refillThread)) {
+            refillThread.interrupt();
+        }
+        if (Objects.nonNull(keyPairPool)) {
+            keyPairPool.clear();
+        }
+    }
+
+    /**
+     * Returns a key pair from the pool, generates a new key pair when the pool is empty or disabled.
+     *
+     * @return the key pair
+     */
+    public KeyPair getAsymmetricKey() {
+        if (Objects.isNull(keyPairPool)) {
+            return keyGenerator.getAsymmetricKey();
+        }
+        KeyPair keyPair = keyPairPool.poll();
+        if (Objects.isNull(keyPair)) {
+            LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Key pair pool is empty, generating key pair in request thread.");
+            keyPairPoolMisses.increment();
+            return keyGenerator.getAsymmetricKey();
+        }
+        keyPairPoolHits.increment();
+        return keyPair;
+    }
+
+    private void refillKeyPairPool() {
+        // own generator & SecureRandom for the refill thread, shared KeyGenerator is used by the request threads.
+        KeyPairGenerator refillKeyPairGenerator = null;
+        while (refillRunning) {
+            try {
+                if (Objects.isNull(refillKeyPairGenerator)) {
+                    refillKeyPairGenerator = KeyGeneratorUtils.getKeyPairGenerator(asymmetricKeyAlgorithm, 
+                                asymmetricKeyLength, new SecureRandom());
+                }
+                KeyPair keyPair = refillKeyPairGenerator.generateKeyPair();
+                // blocks till a key pair is taken from the pool.
+                keyPairPool.put(keyPair);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Error generating key pair for the pool, retrying in secs: " + keyPairPoolRetryInSecs 
+                        + ". Error: " + e.getMessage());
+                try {
+                    TimeUnit.SECONDS.sleep(keyPairPoolRetryInSecs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
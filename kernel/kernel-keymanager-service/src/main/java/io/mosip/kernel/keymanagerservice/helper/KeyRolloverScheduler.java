@@ -0,0 +1,178 @@
+package io.mosip.kernel.keymanagerservice.helper;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.constant.KeyReferenceIdConsts;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
+import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+
+/**
+ * Scheduler to generate the successor of master & base keys ahead of the pre expire days
+ * configured in key policy, so the key generation is not done in the request thread.
+ * Successor key is generated valid from the time the current key stops being current,
+ * so both keys never overlap.
+ *
+ * @since 1.3.0
+ *
+ */
+@Component
+public class KeyRolloverScheduler {
+
+    private static final Logger LOGGER = KeymanagerLogger.getLogger(KeyRolloverScheduler.class);
+
+    @Value("${mosip.kernel.keymanager.rollover.enabled:false}")
+    private boolean rolloverEnabled;
+
+    @Value("${mosip.kernel.keymanager.rollover.interval.inMins:60}")
+    private long rolloverIntervalInMins;
+
+    @Value("${mosip.kernel.keymanager.rollover.initial-delay.inMins:5}")
+    private long rolloverInitialDelayInMins;
+
+    /** Number of days before the rollover timestamp the successor key gets generated. */
+    @Value("${mosip.kernel.keymanager.rollover.lead.inDays:2}")
+    private int rolloverLeadDays;
+
+    /** Off-peak window (UTC hours) for the key generation, start inclusive & end exclusive. */
+    @Value("${mosip.kernel.keymanager.rollover.window.start-hour:0}")
+    private int rolloverWindowStartHour;
+
+    @Value("${mosip.kernel.keymanager.rollover.window.end-hour:24}")
+    private int rolloverWindowEndHour;
+
+    /** Number of days after the expiry the expired key still gets rolled over, older keys are left to the next request. */
+    @Value("${mosip.kernel.keymanager.rollover.expired-grace.inDays:0}")
+    private int rolloverExpiredGraceDays;
+
+    @Value("${mosip.root.key.applicationid:ROOT}")
+    private String rootKeyApplicationId;
+
+    @Autowired
+    private KeyPolicyRepository keyPolicyRepository;
+
+    @Autowired
+    private KeyAliasRepository keyAliasRepository;
+
+    @Autowired
+    private KeymanagerDBHelper dbHelper;
+
+    @Autowired
+    private KeymanagerService keymanagerService;
+
+    private ScheduledExecutorService rolloverExecutor = null;
+
+    @PostConstruct
+    public void init() {
+        if (!rolloverEnabled) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Key rollover scheduler enabled, interval in mins: " + rolloverIntervalInMins +
+                        ", lead days: " + rolloverLeadDays);
+        rolloverExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "key-rollover-" + this.hashCode());
+            thread.setDaemon(true);
+            return thread;
+        });
+        rolloverExecutor.scheduleWithFixedDelay(this::rolloverKeys, rolloverInitialDelayInMins,
+                        rolloverIntervalInMins, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (Objects.nonNull(rolloverExecutor)) {
+            rolloverExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Finds the keys of all active key policies due for rollover and generates the successor keys.
+     */
+    public void rolloverKeys() {
+        LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+        int currentHour = timestamp.getHour();
+        if (currentHour < rolloverWindowStartHour || currentHour >= rolloverWindowEndHour) {
+            LOGGER.debug(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Outside of key rollover window, skipping key rollover.");
+            return;
+        }
+        try {
+            for (KeyPolicy keyPolicy : keyPolicyRepository.findAll()) {
+                String appId = keyPolicy.getApplicationId();
+                if (!keyPolicy.isActive() || appId.equalsIgnoreCase(rootKeyApplicationId) ||
+                        appId.equals(KeymanagerConstant.BASE_KEY_POLICY_CONST)) {
+                    continue;
+                }
+                // TreeMap to rollover master key (empty reference id) first, base key generation requires master key.
+                Map<String, List<KeyAlias>> refIdKeyAliasMap = keyAliasRepository.findByApplicationId(appId).stream()
+                        .collect(Collectors.groupingBy(keyAlias -> Objects.isNull(keyAlias.getReferenceId()) ?
+                                KeymanagerConstant.EMPTY : keyAlias.getReferenceId(), TreeMap::new, Collectors.toList()));
+                refIdKeyAliasMap.forEach((refId, keyAliases) -> rolloverKey(appId, refId, keyAliases, timestamp));
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Error in key rollover: " + e.getMessage());
+        }
+    }
+
+    private void rolloverKey(String appId, String refId, List<KeyAlias> keyAliases, LocalDateTime timestamp) {
+        // EC & Ed25519 keys are generated only on request.
+        if (Arrays.stream(KeyReferenceIdConsts.values()).anyMatch(rId -> rId.name().equals(refId))) {
+            return;
+        }
+        Optional<KeyAlias> latestKeyAlias = keyAliases.stream().max(Comparator.comparing(KeyAlias::getKeyExpiryTime));
+        if (!latestKeyAlias.isPresent()) {
+            return;
+        }
+        LocalDateTime keyExpiryTime = latestKeyAlias.get().getKeyExpiryTime();
+        // expired & not used keys are not regenerated on every run, key gets generated on the next request.
+        if (keyExpiryTime.isBefore(timestamp.minusDays(rolloverExpiredGraceDays))) {
+            LOGGER.info(KeymanagerConstant.SESSIONID, appId, refId,
+                        "Latest key expired at " + keyExpiryTime + ", skipping key rollover.");
+            return;
+        }
+        LocalDateTime rolloverTimestamp = keyExpiryTime.minusDays(dbHelper.getPreExpireDays(appId, refId));
+        if (rolloverTimestamp.isAfter(timestamp.plusDays(rolloverLeadDays))) {
+            return;
+        }
+        if (rolloverTimestamp.isBefore(timestamp)) {
+            rolloverTimestamp = timestamp;
+        }
+        try {
+            if (keymanagerService.rolloverKey(appId, refId, rolloverTimestamp)) {
+                // warming the key alias cache with the new key.
+                dbHelper.getKeyAliases(appId, refId, timestamp);
+            }
+        } catch (BaseUncheckedException e) {
+            // partner & other domain keys are not allowed to generate.
+            LOGGER.info(KeymanagerConstant.SESSIONID, appId, refId,
+                        "Key rollover not done. Error: " + e.getErrorCode() + " - " + e.getErrorText());
+        }
+    }
+}
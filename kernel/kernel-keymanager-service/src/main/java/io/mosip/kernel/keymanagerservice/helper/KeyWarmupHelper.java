@@ -0,0 +1,167 @@
+package io.mosip.kernel.keymanagerservice.helper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
+import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.partnercertservice.service.spi.PartnerCertificateManagerService;
+
+/**
+ * Preloads the key policies, current key aliases, HSM key handles and partner trust anchors
+ * in parallel at application start. Warm up runs before the application is marked ready
+ * to accept traffic, so the first requests do not pay for the DB queries and HSM lookups.
+ * Disabled by default, enabled with mosip.kernel.keymanager.warmup.enabled=true.
+ *
+ * @since 1.3.0
+ *
+ */
+@Component
+@ConditionalOnProperty(value = "mosip.kernel.keymanager.warmup.enabled", havingValue = "true")
+public class KeyWarmupHelper {
+
+    private static final Logger LOGGER = KeymanagerLogger.getLogger(KeyWarmupHelper.class);
+
+    @Value("${mosip.kernel.keymanager.warmup.threads:4}")
+    private int warmupThreads;
+
+    @Value("${mosip.kernel.keymanager.warmup.timeout.inSecs:120}")
+    private long warmupTimeoutInSecs;
+
+    /** Max number of application id & reference id key aliases to preload, key alias cache size is 500. */
+    @Value("${mosip.kernel.keymanager.warmup.key-alias.max:500}")
+    private int warmupKeyAliasMax;
+
+    @Value("${mosip.kernel.zkcrypto.masterkey.reference.id:IDENTITY_CACHE}")
+    private String zkMasterKeyRefId;
+
+    @Autowired
+    private KeyPolicyRepository keyPolicyRepository;
+
+    @Autowired
+    private KeyAliasRepository keyAliasRepository;
+
+    @Autowired
+    private KeymanagerDBHelper dbHelper;
+
+    @Autowired
+    private ECKeyStore keyStore;
+
+    @Autowired
+    private PartnerCertificateManagerService partnerCertificateManagerService;
+
+    private volatile boolean warmupCompleted;
+
+    /**
+     * Runs the warm up, application readiness is published by spring boot after this listener returns.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        long startTime = System.currentTimeMillis();
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Key warm up started, threads: " + warmupThreads + ", timeout in secs: " + warmupTimeoutInSecs);
+        ExecutorService warmupExecutor = Executors.newFixedThreadPool(warmupThreads, runnable -> {
+            Thread thread = new Thread(runnable, "key-warmup-" + this.hashCode());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            warmupExecutor.invokeAll(getWarmupTasks(), warmupTimeoutInSecs, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Error in key warm up. Error: " + e.getMessage());
+        } finally {
+            warmupExecutor.shutdownNow();
+            warmupCompleted = true;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Key warm up completed, time taken in millis: " + (System.currentTimeMillis() - startTime));
+    }
+
+    public boolean isWarmupCompleted() {
+        return warmupCompleted;
+    }
+
+    private List<Callable<Void>> getWarmupTasks() {
+        LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+        List<Callable<Void>> warmupTasks = new ArrayList<>();
+        warmupTasks.add(warmupTask("trust store", () -> partnerCertificateManagerService.loadTrustStoreCache()));
+        int keyAliasCount = 0;
+        for (KeyPolicy keyPolicy : keyPolicyRepository.findAll()) {
+            String appId = keyPolicy.getApplicationId();
+            if (!keyPolicy.isActive()) {
+                continue;
+            }
+            warmupTasks.add(warmupTask("key policy " + appId, () -> dbHelper.getKeyPolicy(appId)));
+            Map<String, List<KeyAlias>> refIdKeyAliasMap = keyAliasRepository.findByApplicationId(appId).stream()
+                        .filter(keyAlias -> keyAlias.getKeyExpiryTime().isAfter(timestamp))
+                        .collect(Collectors.groupingBy(keyAlias -> Objects.isNull(keyAlias.getReferenceId()) ?
+                                KeymanagerConstant.EMPTY : keyAlias.getReferenceId(), TreeMap::new, Collectors.toList()));
+            for (String refId : refIdKeyAliasMap.keySet()) {
+                if (keyAliasCount++ >= warmupKeyAliasMax) {
+                    LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                            "Key warm up limited to max key aliases: " + warmupKeyAliasMax);
+                    return warmupTasks;
+                }
+                warmupTasks.add(warmupTask("key alias " + appId + KeymanagerConstant.APP_REF_ID_SEP + refId,
+                        () -> warmupKeyAlias(appId, refId, timestamp)));
+            }
+        }
+        return warmupTasks;
+    }
+
+    private void warmupKeyAlias(String appId, String refId, LocalDateTime timestamp) {
+        List<KeyAlias> currentKeyAliases = dbHelper.getKeyAliases(appId, refId, timestamp)
+                        .get(KeymanagerConstant.CURRENTKEYALIAS);
+        if (currentKeyAliases.size() != 1) {
+            return;
+        }
+        String alias = currentKeyAliases.get(0).getAlias();
+        // base keys are stored in DB, only the HSM keys have key handles.
+        if (dbHelper.getKeyStoreFromDB(alias).isPresent()) {
+            return;
+        }
+        if (refId.equals(zkMasterKeyRefId) || refId.equals(KeymanagerConstant.KERNEL_IDENTIFY_CACHE)) {
+            keyStore.getSymmetricKey(alias);
+            return;
+        }
+        keyStore.getAsymmetricKey(alias);
+    }
+
+    private Callable<Void> warmupTask(String name, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.warn(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Key warm up failed for " + name + ". Error: " + e.getMessage());
+            }
+            return null;
+        };
+    }
+}
@@ -10,12 +10,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import jakarta.annotation.PostConstruct;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.cache2k.Cache;
 import org.cache2k.Cache2kBuilder;
+import org.cache2k.CacheEntry;
 import org.cache2k.expiry.Expiry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,6 +39,7 @@ import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
 import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
 import io.mosip.kernel.keymanagerservice.repository.KeyStoreRepository;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * DB Helper class for Keymanager
@@ -64,6 +68,18 @@ public class KeymanagerDBHelper {
     @Value("${mosip.kernel.keymanager.key.cache.expire.inMins:1440}")
     private long cacheExpireInMins;
 
+    @Value("${mosip.kernel.keymanager.thumbprint.cache.size:1000}")
+    private long thumbprintCacheSize;
+
+    @Value("${mosip.kernel.keymanager.thumbprint.cache.expire.inMins:1440}")
+    private long thumbprintCacheExpireInMins;
+
+    @Value("${mosip.kernel.keymanager.thumbprint.notfound.cache.expire.inSecs:60}")
+    private long thumbprintNotFoundExpireInSecs;
+
+    @Value("${mosip.kernel.keymanager.thumbprint.scan.interval.inMins:10}")
+    private long thumbprintScanIntervalInMins;
+
     /**
 	 * {@link KeyAliasRepository} instance
 	 */
@@ -100,15 +116,27 @@ public class KeymanagerDBHelper {
 	@Autowired
 	CryptomanagerUtils cryptomanagerUtil;
 
+    @Autowired
+    private CachePurgeEventHelper cachePurgeEventHelper;
+
     private Cache<String, Optional<KeyPolicy>> keyPolicyCache = null;
 
     private Cache<String, List<KeyAlias>> keyAliasCache = null;
 
+    // Key store entry & the app id/ref id it was resolved for, keyed by certificate thumbprint.
+    private Cache<String, ImmutablePair<KeyStore, String>> thumbprintKeyStoreCache = null;
+
+    // Key aliases by certificate thumbprint, empty results are kept only for a short time.
+    private Cache<String, List<KeyAlias>> thumbprintKeyAliasCache = null;
+
+    private AtomicLong lastThumbprintScanTime = new AtomicLong(0);
+
     @PostConstruct
     public void init() {
         if (autoUpdate) {
             LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
                         "Updating the thumbprint & key unique identifer in the table..");
+            lastThumbprintScanTime.set(System.currentTimeMillis());
             addCertificateThumbprints();
             addKeyUniqueIdentifier();
             LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
@@ -118,10 +146,36 @@ public class KeymanagerDBHelper {
                         "Creating Cache object for key policy & Key Alias.");
         createCacheObject();
         createKeyAliasCacheObject();
+        createThumbprintCacheObject();
+        registerCachePurgeListeners();
         LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
                         "Cache object for key policy & Key Alias creation completed.");
     }
 
+    private void registerCachePurgeListeners() {
+        cachePurgeEventHelper.registerPurgeListener(KeymanagerConstant.KEY_POLICY_CACHE, 
+                    keyPolicyName -> expireCacheEntry(keyPolicyCache, keyPolicyName));
+        cachePurgeEventHelper.registerPurgeListener(KeymanagerConstant.KEY_ALIAS_CACHE, 
+                    appIdRefId -> expireCacheEntry(keyAliasCache, appIdRefId));
+        cachePurgeEventHelper.registerPurgeListener(KeymanagerConstant.THUMBPRINT_CACHE, aliasThumbprint -> {
+            if (Objects.isNull(aliasThumbprint)) {
+                thumbprintKeyStoreCache.removeAll();
+                thumbprintKeyAliasCache.removeAll();
+                return;
+            }
+            String[] aliasThumbprintArr = aliasThumbprint.split(KeymanagerConstant.APP_REF_ID_SEP, -1);
+            purgeThumbprintCache(aliasThumbprintArr[0], aliasThumbprintArr[1].isEmpty() ? null : aliasThumbprintArr[1]);
+        });
+    }
+
+    private <V> void expireCacheEntry(Cache<String, V> cache, String key) {
+        if (Objects.isNull(key)) {
+            cache.removeAll();
+            return;
+        }
+        cache.expireAt(key, Expiry.NOW);
+    }
+
     private void createCacheObject() {
         keyPolicyCache = new Cache2kBuilder<String, Optional<KeyPolicy>>() {}
         // added hashcode because test case execution failing with IllegalStateException: Cache already created
@@ -155,6 +209,32 @@ public class KeymanagerDBHelper {
                 return keyAliasRepository.findByApplicationIdAndReferenceId(appIdRefIdArr[0], appIdRefIdArr[1]);
         })
         .build();
+        Metrics.gauge(KeymanagerConstant.KEY_ALIAS_CACHE_METRIC + ".size", keyAliasCache, cache -> cache.asMap().size());
+    }
+
+    private void createThumbprintCacheObject() {
+        thumbprintKeyStoreCache = new Cache2kBuilder<String, ImmutablePair<KeyStore, String>>() {}
+        // added hashcode because test case execution failing with IllegalStateException: Cache already created
+        .name("thumbprintKeyStoreCache-" + this.hashCode())
+        .expireAfterWrite(thumbprintCacheExpireInMins, TimeUnit.MINUTES)
+        .entryCapacity(thumbprintCacheSize)
+        .build();
+        Metrics.gauge(KeymanagerConstant.THUMBPRINT_CACHE_METRIC + ".size", thumbprintKeyStoreCache, cache -> cache.asMap().size());
+
+        long foundExpireInMillis = TimeUnit.MINUTES.toMillis(thumbprintCacheExpireInMins);
+        long notFoundExpireInMillis = TimeUnit.SECONDS.toMillis(thumbprintNotFoundExpireInSecs);
+        thumbprintKeyAliasCache = new Cache2kBuilder<String, List<KeyAlias>>() {}
+        // added hashcode because test case execution failing with IllegalStateException: Cache already created
+        .name("thumbprintKeyAliasCache-" + this.hashCode())
+        .entryCapacity(thumbprintCacheSize)
+        .expiryPolicy((certThumbprint, keyAliases, loadTime, oldEntry) -> loadTime + 
+                                    (keyAliases.isEmpty() ? notFoundExpireInMillis : foundExpireInMillis))
+        .loader((certThumbprint) -> {
+                LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
+                            "Fetching Key Alias for thumbprint (Cache): " + certThumbprint);
+                return keyAliasRepository.findByCertThumbprint(certThumbprint);
+        })
+        .build();
     }
     
     /**
@@ -179,6 +259,11 @@ public class KeymanagerDBHelper {
         keyAlias.setUniqueIdentifier(uniqueIdentifier);
         keyAliasRepository.saveAndFlush(keymanagerUtil.setMetaData(keyAlias));
         purgeKeyAliasCache(applicationId, referenceId);
+        purgeThumbprintCache(alias, certThumbprint);
+        cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.KEY_ALIAS_CACHE, 
+                    applicationId + KeymanagerConstant.APP_REF_ID_SEP + referenceId);
+        cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.THUMBPRINT_CACHE, 
+                    alias + KeymanagerConstant.APP_REF_ID_SEP + (Objects.isNull(certThumbprint) ? "" : certThumbprint));
     }
 
     /**
@@ -197,6 +282,9 @@ public class KeymanagerDBHelper {
         dbKeyStore.setCertificateData(certificateData);
         dbKeyStore.setPrivateKey(encryptedPrivateKey);
         keyStoreRepository.saveAndFlush(keymanagerUtil.setMetaData(dbKeyStore));
+        purgeThumbprintCache(alias, null);
+        cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.THUMBPRINT_CACHE, 
+                    alias + KeymanagerConstant.APP_REF_ID_SEP);
     }
 
     /**
@@ -314,12 +402,15 @@ public class KeymanagerDBHelper {
     }
 
     public KeyStore getKeyAlias(String certThumbprint, String appIdRefIdKey, String applicationId, String referenceId) {
-        List<KeyAlias> keyAliases = keyAliasRepository.findByCertThumbprint(certThumbprint);
-        if (keyAliases.isEmpty()) {
+        List<KeyAlias> keyAliases = getKeyAliasesByThumbprint(certThumbprint);
+        if (keyAliases.isEmpty() && isThumbprintScanDue()) {
             LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
                             "key alias not found for the provided thumbprint, may be cert thumbprint is not updated. Adding thumbprint(s) now.");
             addCertificateThumbprints();
-            keyAliases = keyAliasRepository.findByCertThumbprint(certThumbprint);
+            if (Objects.nonNull(thumbprintKeyAliasCache)) {
+                thumbprintKeyAliasCache.expireAt(certThumbprint, Expiry.NOW);
+            }
+            keyAliases = getKeyAliasesByThumbprint(certThumbprint);
         }
         if (keyAliases.isEmpty()) {
             // Still key not found after updating the thumbprints. So throwing exception.
@@ -371,6 +462,52 @@ public class KeymanagerDBHelper {
         return keyFromDBStore.get();
     }
 
+    /**
+    * Function to get the key store entry for the provided certificate thumbprint. Resolved entries are
+    * cached by thumbprint along with the app id & ref id the key belongs to.
+    * 
+    * @param certThumbprint certificate thumbprint in hex
+    * @param applicationId  applicationId
+    * @param referenceId    referenceId
+    * @return pair of key store entry & app id/ref id of the key
+    */
+    public ImmutablePair<KeyStore, String> getKeyStoreByThumbprint(String certThumbprint, String applicationId, String referenceId) {
+        if (Objects.isNull(thumbprintKeyStoreCache)) {
+            return resolveKeyStoreByThumbprint(certThumbprint, applicationId, referenceId);
+        }
+        return thumbprintKeyStoreCache.computeIfAbsent(certThumbprint, 
+                            tp -> resolveKeyStoreByThumbprint(tp, applicationId, referenceId));
+    }
+
+    private ImmutablePair<KeyStore, String> resolveKeyStoreByThumbprint(String certThumbprint, String applicationId, 
+                            String referenceId) {
+        String appIdRefIdKey = applicationId + KeymanagerConstant.HYPHEN + referenceId;
+        KeyStore dbKeyStore = getKeyAlias(certThumbprint, appIdRefIdKey, applicationId, referenceId);
+        // Added condition to handle issue related to decryption error with Master key.
+        if (Objects.isNull(dbKeyStore.getPrivateKey())) {
+            return ImmutablePair.of(dbKeyStore, applicationId + KeymanagerConstant.HYPHEN + 
+                                    KeymanagerConstant.COMPONENT_MASTER_KEY_DUMMY_REF);
+        }
+        return ImmutablePair.of(dbKeyStore, appIdRefIdKey);
+    }
+
+    private List<KeyAlias> getKeyAliasesByThumbprint(String certThumbprint) {
+        if (Objects.isNull(thumbprintKeyAliasCache)) {
+            return keyAliasRepository.findByCertThumbprint(certThumbprint);
+        }
+        return thumbprintKeyAliasCache.get(certThumbprint);
+    }
+
+    // Allows only one thumbprint update scan per configured interval, other threads do not wait for the scan.
+    private boolean isThumbprintScanDue() {
+        long lastScanTime = lastThumbprintScanTime.get();
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - lastScanTime < TimeUnit.MINUTES.toMillis(thumbprintScanIntervalInMins)) {
+            return false;
+        }
+        return lastThumbprintScanTime.compareAndSet(lastScanTime, currentTime);
+    }
+
     // this will get executed only one time to add the certificate thumbprints.
     private synchronized void addCertificateThumbprints() {
         List<KeyAlias> allKeyAliases = keyAliasRepository.findByCertThumbprintIsNull();
@@ -479,7 +616,14 @@ public class KeymanagerDBHelper {
                                 });
     }
 
-    private int getPreExpireDays(String applicationId, String referenceId){
+    /**
+     * Function to get the pre expire days of the key from key policy.
+     * 
+     * @param applicationId applicationId
+     * @param referenceId referenceId
+     * @return pre expire days
+     */
+    public int getPreExpireDays(String applicationId, String referenceId){
         Optional<KeyPolicy> keyPolicy = getKeyPolicyFromCache(applicationId);
         if (!keyPolicy.isPresent()) {
             // key policy details not available, so not considering any pre expire days 
@@ -500,11 +644,40 @@ public class KeymanagerDBHelper {
         return encKeyPolicy.get().getPreExpireDays();
     }
 
-    private void purgeKeyAliasCache(String applicationId, String referenceId) {
+    /**
+     * Function to purge key alias from cache, next lookup loads the key alias from DB.
+     * 
+     * @param applicationId applicationId
+     * @param referenceId referenceId
+     */
+    public void purgeKeyAliasCache(String applicationId, String referenceId) {
         String appIdRefIdKey = applicationId + KeymanagerConstant.APP_REF_ID_SEP + referenceId;
         LOGGER.info(KeymanagerConstant.SESSIONID, applicationId, referenceId, 
                     "Purging from Cache because new key generated or new certificate uploaded." +
                     "AppId & RefId: " + appIdRefIdKey);
             keyAliasCache.expireAt(appIdRefIdKey, Expiry.NOW);
     }
+
+    private void purgeThumbprintCache(String alias, String certThumbprint) {
+        if (Objects.isNull(thumbprintKeyStoreCache) || Objects.isNull(thumbprintKeyAliasCache)) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
+                    "Purging key store from Thumbprint Cache for alias: " + alias);
+        if (Objects.nonNull(certThumbprint)) {
+            thumbprintKeyStoreCache.expireAt(certThumbprint, Expiry.NOW);
+            thumbprintKeyAliasCache.expireAt(certThumbprint, Expiry.NOW);
+        }
+        // certificate re-upload changes the thumbprint of the same alias, so removing the old thumbprint entries.
+        for (CacheEntry<String, ImmutablePair<KeyStore, String>> entry : thumbprintKeyStoreCache.entries()) {
+            if (alias.equals(entry.getValue().getLeft().getAlias())) {
+                thumbprintKeyStoreCache.expireAt(entry.getKey(), Expiry.NOW);
+            }
+        }
+        for (CacheEntry<String, List<KeyAlias>> entry : thumbprintKeyAliasCache.entries()) {
+            if (entry.getValue().stream().anyMatch(keyAlias -> alias.equals(keyAlias.getAlias()))) {
+                thumbprintKeyAliasCache.expireAt(entry.getKey(), Expiry.NOW);
+            }
+        }
+    }
 }
@@ -8,11 +8,20 @@ import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import jakarta.annotation.PostConstruct;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.event.CacheEntryEvictedListener;
+import org.cache2k.event.CacheEntryExpiredListener;
+import org.cache2k.event.CacheEntryRemovedListener;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.mosip.kernel.core.crypto.exception.InvalidDataException;
@@ -30,6 +39,8 @@ import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
 import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * Private key decryption Helper class for Keymanager
@@ -43,9 +54,22 @@ public class PrivateKeyDecryptorHelper {
 
     private static final Logger LOGGER = KeymanagerLogger.getLogger(PrivateKeyDecryptorHelper.class);
 
-    private Map<String, io.mosip.kernel.keymanagerservice.entity.KeyStore> cacheKeyStore = new ConcurrentHashMap<>();
+    @Value("${mosip.kernel.keymanager.privatekey.cache.enabled:false}")
+    private boolean privateKeyCacheEnabled;
+
+    @Value("${mosip.kernel.keymanager.privatekey.cache.size:50}")
+    private long privateKeyCacheSize;
+
+    @Value("${mosip.kernel.keymanager.privatekey.cache.expire.inMins:60}")
+    private long privateKeyCacheExpireInMins;
 
-	private Map<String, String> cacheReferenceIds = new ConcurrentHashMap<>();
+    // Unwrapped base key & parsed certificate, keyed by certificate thumbprint. Cached key is never handed
+    // out, callers get a copy so the eviction can destroy the cached key while a copy is in use.
+    private Cache<String, ImmutablePair<PrivateKey, Certificate>> privateKeyCache = null;
+
+    private Counter privateKeyCacheHits;
+
+    private Counter privateKeyCacheMisses;
 
     /**
 	 * Utility to generate Metadata
@@ -59,34 +83,65 @@ public class PrivateKeyDecryptorHelper {
     @Autowired
 	private ECKeyStore keyStore;
 
+    @Autowired
+    private CachePurgeEventHelper cachePurgeEventHelper;
+
+    @PostConstruct
+    public void init() {
+        if (!privateKeyCacheEnabled) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+                        "Decrypted key cache enabled, size: " + privateKeyCacheSize + ", expire in mins: " + privateKeyCacheExpireInMins);
+        privateKeyCache = new Cache2kBuilder<String, ImmutablePair<PrivateKey, Certificate>>() {}
+                        .name("privateKeyCache-" + this.hashCode())
+                        .expireAfterWrite(privateKeyCacheExpireInMins, TimeUnit.MINUTES)
+                        .entryCapacity(privateKeyCacheSize)
+                        .addListener((CacheEntryEvictedListener<String, ImmutablePair<PrivateKey, Certificate>>)
+                                    (cache, entry) -> destroyCachedKey(entry.getKey(), entry.getValue()))
+                        .addListener((CacheEntryExpiredListener<String, ImmutablePair<PrivateKey, Certificate>>)
+                                    (cache, entry) -> destroyCachedKey(entry.getKey(), entry.getValue()))
+                        .addListener((CacheEntryRemovedListener<String, ImmutablePair<PrivateKey, Certificate>>)
+                                    (cache, entry) -> destroyCachedKey(entry.getKey(), entry.getValue()))
+                        .build();
+        privateKeyCacheHits = Metrics.counter(KeymanagerConstant.PRIVATE_KEY_CACHE_METRIC, "result", "hit");
+        privateKeyCacheMisses = Metrics.counter(KeymanagerConstant.PRIVATE_KEY_CACHE_METRIC, "result", "miss");
+        Metrics.gauge(KeymanagerConstant.PRIVATE_KEY_CACHE_METRIC + ".size", privateKeyCache, cache -> cache.asMap().size());
+        cachePurgeEventHelper.registerPurgeListener(KeymanagerConstant.PRIVATE_KEY_CACHE, this::removeCachedKey);
+    }
+
     public KeyStore getDBKeyStoreData (String certThumbprintHex, String applicationId, String referenceId) {
 
-        KeyStore dbKeyStore = cacheKeyStore.getOrDefault(certThumbprintHex, null);
+		ImmutablePair<KeyStore, String> keyStoreWithRefId = dbHelper.getKeyStoreByThumbprint(certThumbprintHex, 
+										applicationId, referenceId);
 
 		String appIdRefIdKey = applicationId + KeymanagerConstant.HYPHEN + referenceId;
 		String compMasterKeyRefId = applicationId + KeymanagerConstant.HYPHEN + KeymanagerConstant.COMPONENT_MASTER_KEY_DUMMY_REF; 
-		if(Objects.isNull(dbKeyStore)) {
-			dbKeyStore = dbHelper.getKeyAlias(certThumbprintHex, appIdRefIdKey, applicationId, referenceId);
-			cacheKeyStore.put(certThumbprintHex, dbKeyStore);
-			// Added condition to handle issue related to decryption error with Master key.
-			if (Objects.isNull(dbKeyStore.getPrivateKey())) {
-				cacheReferenceIds.put(certThumbprintHex, compMasterKeyRefId);
-			} else {
-				cacheReferenceIds.put(certThumbprintHex, appIdRefIdKey);
-			}
-		}
-
-		String cachedRefId = cacheReferenceIds.getOrDefault(certThumbprintHex, null);
+		String cachedRefId = keyStoreWithRefId.getRight();
 		if (!appIdRefIdKey.equals(cachedRefId) && !compMasterKeyRefId.equals(cachedRefId)){
             LOGGER.error(KeymanagerConstant.SESSIONID, this.getClass().getSimpleName(), KeymanagerConstant.EMPTY,
                 "Application Id & Reference ID not matching with the input thumbprint value(decrypt).");
             throw new KeymanagerServiceException(KeymanagerErrorConstant.APP_ID_REFERENCE_ID_NOT_MATCHING.getErrorCode(),
                 KeymanagerErrorConstant.APP_ID_REFERENCE_ID_NOT_MATCHING.getErrorMessage());
         }
-        return dbKeyStore;
+        return keyStoreWithRefId.getLeft();
     }
 
     public Object[] getKeyObjects(KeyStore dbKeyStore, boolean fetchMasterKey) {
+        return getKeyObjects(null, dbKeyStore, fetchMasterKey);
+    }
+
+    /**
+     * Returns the private key & certificate for the provided key store entry. Base keys wrapped with 
+     * the master key are unwrapped only on cache miss when the decrypted key cache is enabled, the
+     * returned private key is a copy of the cached key and to be destroyed by the caller after use.
+     * 
+     * @param certThumbprintHex thumbprint of the certificate, used as cache key. Cache is skipped if null.
+     * @param dbKeyStore key store entry
+     * @param fetchMasterKey allow decryption with the master key
+     * @return array of private key & certificate
+     */
+    public Object[] getKeyObjects(String certThumbprintHex, KeyStore dbKeyStore, boolean fetchMasterKey) {
 		
 		String ksAlias = dbKeyStore.getAlias();
 
@@ -114,7 +169,49 @@ public class PrivateKeyDecryptorHelper {
 			throw new KeymanagerServiceException(KeymanagerErrorConstant.DECRYPTION_NOT_ALLOWED.getErrorCode(),
 					KeymanagerErrorConstant.DECRYPTION_NOT_ALLOWED.getErrorMessage());
 		}
-		
+
+		if (Objects.isNull(privateKeyCache) || Objects.isNull(certThumbprintHex)) {
+			return unwrapBaseKey(dbKeyStore);
+		}
+		ImmutablePair<PrivateKey, Certificate> cachedKeys = privateKeyCache.peek(certThumbprintHex);
+		if (Objects.isNull(cachedKeys)) {
+			privateKeyCacheMisses.increment();
+			cachedKeys = privateKeyCache.computeIfAbsent(certThumbprintHex, tp -> {
+				Object[] keys = unwrapBaseKey(dbKeyStore);
+				return ImmutablePair.of((PrivateKey) keys[0], (Certificate) keys[1]);
+			});
+		} else {
+			privateKeyCacheHits.increment();
+		}
+		PrivateKey privateKey = copyPrivateKey(cachedKeys.getLeft());
+		if (Objects.isNull(privateKey)) {
+			// cached key destroyed by eviction after the lookup.
+			return unwrapBaseKey(dbKeyStore);
+		}
+		return new Object[] {privateKey, cachedKeys.getRight()};
+	}
+
+	private PrivateKey copyPrivateKey(PrivateKey cachedPrivateKey) {
+		byte[] encodedPrivateKey = null;
+		try {
+			encodedPrivateKey = cachedPrivateKey.getEncoded();
+			if (Objects.isNull(encodedPrivateKey)) {
+				return null;
+			}
+			KeyFactory keyFactory = KeyFactory.getInstance(cachedPrivateKey.getAlgorithm());
+			return keyFactory.generatePrivate(new PKCS8EncodedKeySpec(encodedPrivateKey));
+		} catch (IllegalStateException | InvalidKeySpecException | NoSuchAlgorithmException e) {
+			LOGGER.warn(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+					"Not able to copy the cached private key, unwrapping the key again. " + e.getMessage());
+			return null;
+		} finally {
+			if (Objects.nonNull(encodedPrivateKey)) {
+				Arrays.fill(encodedPrivateKey, (byte) 0);
+			}
+		}
+	}
+
+	private Object[] unwrapBaseKey(KeyStore dbKeyStore) {
 		PrivateKeyEntry masterKeyEntry = keyStore.getAsymmetricKey(dbKeyStore.getMasterAlias());
 		PrivateKey masterPrivateKey = masterKeyEntry.getPrivateKey();
 		PublicKey masterPublicKey = masterKeyEntry.getCertificate().getPublicKey();
@@ -123,6 +220,7 @@ public class PrivateKeyDecryptorHelper {
 												masterPrivateKey, masterPublicKey);
 			KeyFactory keyFactory = KeyFactory.getInstance(KeymanagerConstant.RSA);
 			PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decryptedPrivateKey));
+			Arrays.fill(decryptedPrivateKey, (byte) 0);
 			Certificate certificate = keymanagerUtil.convertToCertificate(dbKeyStore.getCertificateData());
 			return new Object[] {privateKey, certificate};
 		} catch (InvalidDataException | InvalidKeyException | NullDataException | NullKeyException
@@ -131,5 +229,43 @@ public class PrivateKeyDecryptorHelper {
 					KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorMessage() + e.getMessage(), e);
 		}
 	}
-    
+
+    /**
+     * Destroys the private key after use. Keys held in the decrypted key cache are never handed
+     * out, so the key is always a copy owned by the caller.
+     * 
+     * @param privateKey private key to destroy
+     */
+    public void destroyKey(PrivateKey privateKey) {
+        keymanagerUtil.destoryKey(privateKey);
+    }
+
+    /**
+     * Removes the decrypted key for the provided certificate thumbprint from cache in all the instances.
+     * 
+     * @param certThumbprintHex thumbprint of the certificate
+     */
+    public void purgeKeyCache(String certThumbprintHex) {
+        if (Objects.isNull(privateKeyCache) || Objects.isNull(certThumbprintHex)) {
+            return;
+        }
+        LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
+                        "Purging decrypted key from Cache for thumbprint: " + certThumbprintHex);
+        privateKeyCache.remove(certThumbprintHex);
+        cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.PRIVATE_KEY_CACHE, certThumbprintHex);
+    }
+
+    private void removeCachedKey(String certThumbprintHex) {
+        if (Objects.isNull(certThumbprintHex)) {
+            privateKeyCache.removeAll();
+            return;
+        }
+        privateKeyCache.remove(certThumbprintHex);
+    }
+
+    private void destroyCachedKey(String certThumbprintHex, ImmutablePair<PrivateKey, Certificate> keys) {
+        LOGGER.debug(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY, 
+                        "Destroying decrypted key removed from Cache, thumbprint: " + certThumbprintHex);
+        keymanagerUtil.destoryKey(keys.getLeft());
+    }
 }
@@ -155,26 +155,54 @@ public class SessionKeyDecrytorHelper {
                 KeymanagerErrorConstant.APP_ID_REFERENCE_ID_NOT_MATCHING.getErrorMessage());
         } */
 
-		io.mosip.kernel.keymanagerservice.entity.KeyStore dbKeyStore = privateKeyDecryptorHelper.getDBKeyStoreData(certThumbprintHex, 
-																		applicationId, referenceId);
+		Object[] keys = getKeyObjectsByThumbprint(applicationId, referenceId, certThumbprintHex);
 		SymmetricKeyResponseDto keyResponseDto = new SymmetricKeyResponseDto();
-		byte[] decryptedSymmetricKey = decryptSessionKeyWithCertificateThumbprint(dbKeyStore, encryptedSymmetricKey, referenceId);
+		byte[] decryptedSymmetricKey = decryptSessionKey(keys, encryptedSymmetricKey);
+		releaseKeyObjects(keys, referenceId);
 		keyResponseDto.setSymmetricKey(CryptoUtil.encodeToURLSafeBase64(decryptedSymmetricKey));
 		return keyResponseDto;
 
 	}
 
-	private byte[] decryptSessionKeyWithCertificateThumbprint(io.mosip.kernel.keymanagerservice.entity.KeyStore dbKeyStore, 
-			byte[] encryptedSymmetricKey, String referenceId) {
-		
-		Object[] keys = privateKeyDecryptorHelper.getKeyObjects(dbKeyStore, true);
+	/**
+	 * Resolves the private key & certificate for the certificate thumbprint. Used to
+	 * decrypt multiple session keys encrypted with the same certificate by resolving the keys once.
+	 * 
+	 * @param applicationId     the application id
+	 * @param referenceId       the reference id
+	 * @param certThumbprintHex certificate thumbprint in hex
+	 * @return private key & certificate
+	 */
+	public Object[] getKeyObjectsByThumbprint(String applicationId, String referenceId, String certThumbprintHex) {
+		io.mosip.kernel.keymanagerservice.entity.KeyStore dbKeyStore = privateKeyDecryptorHelper.getDBKeyStoreData(certThumbprintHex, 
+																		applicationId, referenceId);
+		return privateKeyDecryptorHelper.getKeyObjects(certThumbprintHex, dbKeyStore, true);
+	}
+
+	/**
+	 * Destroys the private key resolved using
+	 * {@link #getKeyObjectsByThumbprint(String, String, String)} after all session keys are decrypted.
+	 * 
+	 * @param keys        private key & certificate
+	 * @param referenceId the reference id
+	 */
+	public void releaseKeyObjects(Object[] keys, String referenceId) {
+		if(keymanagerUtil.isValidReferenceId(referenceId))
+			privateKeyDecryptorHelper.destroyKey((PrivateKey) keys[0]);
+	}
+
+	/**
+	 * Decrypts the session key (without thumbprint) with the resolved private key.
+	 * 
+	 * @param keys                  private key & certificate
+	 * @param encryptedSymmetricKey encrypted session key
+	 * @return decrypted session key
+	 */
+	public byte[] decryptSessionKey(Object[] keys, byte[] encryptedSymmetricKey) {
 		PrivateKey privateKey = (PrivateKey) keys[0];
 		PublicKey publicKey = ((Certificate) keys[1]).getPublicKey();
 		try {
-			byte[] decryptedSessionKey = cryptoCore.asymmetricDecrypt(privateKey, publicKey, encryptedSymmetricKey);
-			if(keymanagerUtil.isValidReferenceId(referenceId))
-				keymanagerUtil.destoryKey(privateKey);
-			return decryptedSessionKey;
+			return cryptoCore.asymmetricDecrypt(privateKey, publicKey, encryptedSymmetricKey);
 		} catch(InvalidKeyException keyExp) {
 			LOGGER.error(KeymanagerConstant.SESSIONID, KeymanagerConstant.APPLICATIONID, KeymanagerConstant.REFERENCEID,
 						"Error occurred because of mismatch with keys. Try with keys for decryption.");
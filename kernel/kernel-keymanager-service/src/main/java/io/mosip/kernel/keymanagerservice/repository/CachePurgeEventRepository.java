@@ -0,0 +1,40 @@
+package io.mosip.kernel.keymanagerservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.kernel.keymanagerservice.entity.CachePurgeEvent;
+
+/**
+ * Repository class for the cache purge events.
+ * 
+ * @since 1.3.0
+ *
+ */
+@Repository
+public interface CachePurgeEventRepository extends JpaRepository<CachePurgeEvent, Long> {
+
+	/**
+	 * Function to find the cache purge events created on or after the provided time.
+	 * 
+	 * @param createdDateTime the created date time
+	 * @return list of cache purge events ordered by id
+	 */
+	List<CachePurgeEvent> findByCreatedDateTimeGreaterThanEqualOrderByIdAsc(LocalDateTime createdDateTime);
+
+	/**
+	 * Function to delete the cache purge events created before the provided time.
+	 * 
+	 * @param createdDateTime the created date time
+	 * @return count of deleted events
+	 */
+	@Modifying
+	@Query("DELETE FROM CachePurgeEvent c WHERE c.createdDateTime < :createdDateTime")
+	int deleteByCreatedDateTimeBefore(@Param("createdDateTime") LocalDateTime createdDateTime);
+}
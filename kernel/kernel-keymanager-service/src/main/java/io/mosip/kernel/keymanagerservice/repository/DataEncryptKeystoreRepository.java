@@ -37,6 +37,15 @@ public interface DataEncryptKeystoreRepository extends JpaRepository<DataEncrypt
 	@Query("SELECT d.id from DataEncryptKeystore d where d.keyStatus = :status")
 	List<Integer> getIdsByKeyStatus(@Param("status") String status);
 
+	/**
+	 * Count the keys by key status.
+	 *
+	 * @param status the status
+	 * @return the count of keys
+	 */
+	@Query("SELECT COUNT(d.id) from DataEncryptKeystore d where d.keyStatus = :status")
+	long countByKeyStatus(@Param("status") String status);
+
 	/**
 	 * Get the max id.
 	 * 
@@ -3,6 +3,8 @@ package io.mosip.kernel.keymanagerservice.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
@@ -69,4 +71,24 @@ public interface KeyAliasRepository extends JpaRepository<KeyAlias, String> {
 	 */
 	List<KeyAlias> findByApplicationIdAndReferenceIdAndCertThumbprint(String applicationId, String referenceId, String certThumbprint);
 
+	/**
+	 * Function to acquire postgres transaction level advisory lock, lock gets released 
+	 * at the end of the current transaction. Supported only in postgres.
+	 * 
+	 * @param lockKey the lock key
+	 * @return true if lock acquired
+	 */
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+	Boolean tryAdvisoryXactLock(@Param("lockKey") long lockKey);
+
+	/**
+	 * Function to acquire postgres transaction level advisory lock, waits till the lock is 
+	 * available. Lock gets released at the end of the current transaction. Supported only in postgres.
+	 * 
+	 * @param lockKey the lock key
+	 * @return 1 once the lock acquired
+	 */
+	@Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:lockKey)", nativeQuery = true)
+	Integer advisoryXactLock(@Param("lockKey") long lockKey);
+
 }
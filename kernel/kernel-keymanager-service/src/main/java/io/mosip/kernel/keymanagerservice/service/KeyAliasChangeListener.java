@@ -0,0 +1,20 @@
+package io.mosip.kernel.keymanagerservice.service;
+
+/**
+ * Listener notified by the key manager service when the key of an application id & reference id
+ * is generated, uploaded or revoked. Implemented by the services holding the resolved keys, so
+ * the new key is used without waiting for their refresh.
+ *
+ * @since 1.3.0
+ *
+ */
+public interface KeyAliasChangeListener {
+
+	/**
+	 * Called after the key alias of the application id & reference id is stored or updated.
+	 *
+	 * @param applicationId the application id
+	 * @param referenceId the reference id
+	 */
+	public void onKeyAliasChange(String applicationId, String referenceId);
+}
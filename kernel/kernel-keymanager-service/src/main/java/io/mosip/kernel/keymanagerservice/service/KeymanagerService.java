@@ -1,9 +1,12 @@
 package io.mosip.kernel.keymanagerservice.service;
 
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import io.mosip.kernel.keymanagerservice.dto.AllCertificatesDataResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.CSRGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateRequestDto;
 import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.PublicKeyResponse;
@@ -68,6 +71,38 @@ public interface KeymanagerService {
 	 */
 	public KeyPairGenerateResponseDto getCertificate(String appId, Optional<String> refId);
 
+	/**
+	 * Function to get certificate object for the provided appId & refId, without
+	 * converting to PEM format. Used by the internal callers.
+	 * 
+	 * @param Application ID  appId
+	 * @param Reference ID  refId
+	 * @return {@link X509Certificate} instance
+	 */
+	public X509Certificate getX509Certificate(String appId, Optional<String> refId);
+
+	/**
+	 * Function to get certificate object & its thumbprint for the current key of the 
+	 * provided appId & refId. Served from cache till the current key alias changes.
+	 * 
+	 * @param Application ID  appId
+	 * @param Reference ID  refId
+	 * @return {@link CertificateThumbprintInfo} instance
+	 */
+	public CertificateThumbprintInfo getCertificateThumbprintInfo(String appId, Optional<String> refId);
+
+	/**
+	 * Function to generate the successor key for the provided appId & refId, valid from the 
+	 * rollover timestamp. Key is generated only when no key is current at the rollover timestamp 
+	 * and the key generation lock is acquired.
+	 * 
+	 * @param Application ID  appId
+	 * @param Reference ID  refId
+	 * @param rolloverTimestamp the timestamp from which the successor key is current
+	 * @return true if new key generated
+	 */
+	public boolean rolloverKey(String appId, String refId, LocalDateTime rolloverTimestamp);
+
 	/**
 	 * Function to generate CSR for the provided appId & refId.
 	 * 
@@ -9,6 +9,7 @@ import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -18,15 +19,29 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import jakarta.annotation.PostConstruct;
 import javax.security.auth.x500.X500Principal;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.bouncycastle.util.encoders.Hex;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
@@ -53,6 +68,7 @@ import io.mosip.kernel.keymanagerservice.dto.AllCertificatesDataResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.CSRGenerateRequestDto;
 import io.mosip.kernel.keymanagerservice.dto.CertificateDataResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.CertificateInfo;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateRequestDto;
 import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.PublicKeyResponse;
@@ -71,13 +87,19 @@ import io.mosip.kernel.keymanagerservice.exception.CryptoException;
 import io.mosip.kernel.keymanagerservice.exception.InvalidResponseObjectTypeException;
 import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
 import io.mosip.kernel.keymanagerservice.exception.NoUniqueAliasException;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
+import io.mosip.kernel.keymanagerservice.helper.KeyGenerationLockHelper;
+import io.mosip.kernel.keymanagerservice.helper.KeyPairPoolHelper;
 import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
+import io.mosip.kernel.keymanagerservice.helper.PrivateKeyDecryptorHelper;
 import io.mosip.kernel.keymanagerservice.helper.SessionKeyDecrytorHelper;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
+import io.mosip.kernel.keymanagerservice.service.KeyAliasChangeListener;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
 import io.mosip.kernel.keymanagerservice.validator.ECKeyPairGenRequestValidator;
 import io.mosip.kernel.signature.util.SignatureUtil;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * This class provides the implementation for the methods of KeymanagerService
@@ -120,6 +142,19 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 	@Value("${mosip.kernel.keymanager.ed25519.hsm.support.enabled:false}")
 	private boolean ed25519SupportFlag;
 
+	@Value("${mosip.kernel.keymanager.certificate.cache.size:100}")
+	private long certificateCacheSize;
+
+	@Value("${mosip.kernel.keymanager.certificate.cache.expire.inMins:60}")
+	private long certificateCacheExpireInMins;
+
+	/** Max wait time for the key generated by other request for same appId & refId. */
+	@Value("${mosip.kernel.keymanager.keygen.wait.inSecs:60}")
+	private long keyGenerationWaitInSecs;
+
+	/** Max difference in request timestamp to share the key generated by other request for same appId & refId. */
+	@Value("${mosip.kernel.keymanager.keygen.share.timestamp.tolerance.inSecs:5}")
+	private long keyGenerationShareToleranceInSecs;
 
 	/**
 	 * Keystore instance to handles and store cryptographic keys.
@@ -154,9 +189,36 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 	@Autowired
 	SessionKeyDecrytorHelper keyDecryptorHelper;
 
+	@Autowired
+	private PrivateKeyDecryptorHelper privateKeyDecryptorHelper;
+
+	/**
+	 * Pre-generated key pairs for the base keys generated on demand.
+	 */
+	@Autowired
+	private KeyPairPoolHelper keyPairPoolHelper;
+
+	@Autowired
+	private KeyGenerationLockHelper keyGenerationLockHelper;
+
+	@Autowired
+	private CachePurgeEventHelper cachePurgeEventHelper;
+
 	@Autowired
 	private ECKeyPairGenRequestValidator ecKeyPairGenRequestValidator;
 
+	/**
+	 * Services holding the resolved keys, notified when a key is changed. Resolved on use as the 
+	 * listeners depend on this service.
+	 */
+	@Autowired
+	private ObjectProvider<KeyAliasChangeListener> keyAliasChangeListeners;
+
+	/**
+	 * In progress key generations for appId & refId.
+	 */
+	private final Map<String, KeyGenerationFlight> keyGenerationFlights = new ConcurrentHashMap<>();
+
 	private static Map<String, String> ecRefIdsAlgoNamesMap = new HashMap<>();
 
 	static {
@@ -165,6 +227,31 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		ecRefIdsAlgoNamesMap.put(KeyReferenceIdConsts.ED25519_SIGN.name(), ECCurves.ED25519.name());
 	}
 
+	/**
+	 * Parsed certificate & thumbprint of the current key alias for appId & refId.
+	 */
+	private Cache<String, CertificateThumbprintInfo> certificateCache = null;
+
+	@PostConstruct
+	public void init() {
+		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+				"Creating certificate cache, size: " + certificateCacheSize + ", expire in mins: " + certificateCacheExpireInMins);
+		certificateCache = new Cache2kBuilder<String, CertificateThumbprintInfo>() {}
+				// added hashcode because test case execution failing with IllegalStateException: Cache already created
+				.name("certificateCache-" + this.hashCode())
+				.expireAfterWrite(certificateCacheExpireInMins, TimeUnit.MINUTES)
+				.entryCapacity(certificateCacheSize)
+				.build();
+		Metrics.gauge(KeymanagerConstant.CERTIFICATE_CACHE_METRIC + ".size", certificateCache, cache -> cache.asMap().size());
+		cachePurgeEventHelper.registerPurgeListener(KeymanagerConstant.CERTIFICATE_CACHE, cacheKey -> {
+			if (Objects.isNull(cacheKey)) {
+				certificateCache.removeAll();
+				return;
+			}
+			certificateCache.remove(cacheKey);
+		});
+	}
+
 	/**
 	 * Function to get Certificate from HSM. On first request for an applicationId
 	 * and duration, will create a new keypair.
@@ -208,13 +295,116 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.CURRENTKEYALIAS,
 					String.valueOf(currentKeyAlias.size()),
 					"CurrentKeyAlias size is zero. Will create new Keypair for this applicationId and timestamp");
-			alias = UUID.randomUUID().toString();
-			ImmutablePair<String, X509Certificate> immPair = generateKeyPairInHSM(alias, applicationId, referenceId, timeStamp, keyAlias);
-			x509Cert = immPair.getRight();
+			return generateKeyInSingleFlight(applicationId, referenceId, timeStamp,
+					generatedAlias -> (X509Certificate) keyStore.getCertificate(generatedAlias),
+					() -> {
+						String newAlias = UUID.randomUUID().toString();
+						ImmutablePair<String, X509Certificate> immPair = generateKeyPairInHSM(newAlias, applicationId,
+								referenceId, timeStamp, keyAlias);
+						return new CertificateInfo<>(newAlias, immPair.getRight());
+					});
 		}
 		return new CertificateInfo<>(alias, x509Cert);
 	}
 
+	/**
+	 * Generates the key for applicationId & referenceId once for all the concurrent requests. First
+	 * request generates the key and the other requests wait for the generated key. Across the instances
+	 * key generation is serialized with DB lock, key generated by other instance is returned if
+	 * available after acquiring the lock.
+	 */
+	private CertificateInfo<X509Certificate> generateKeyInSingleFlight(String applicationId, String referenceId,
+			LocalDateTime timeStamp, Function<String, X509Certificate> certificateLoader,
+			Supplier<CertificateInfo<X509Certificate>> keyGenerationTask) {
+		String flightKey = applicationId + KeymanagerConstant.APP_REF_ID_SEP + referenceId;
+		KeyGenerationFlight newFlight = new KeyGenerationFlight(timeStamp);
+		KeyGenerationFlight flight = keyGenerationFlights.putIfAbsent(flightKey, newFlight);
+		if (Objects.nonNull(flight)) {
+			if (flight.isSameValidity(timeStamp, keyGenerationShareToleranceInSecs)) {
+				LOGGER.info(KeymanagerConstant.SESSIONID, applicationId, referenceId,
+						"Key generation in progress, waiting for the generated key.");
+				return awaitKeyGeneration(flight);
+			}
+			// key requested for different validity (rollover), not shared with the in progress generation.
+			return generateKeyWithDBLock(applicationId, referenceId, timeStamp, certificateLoader, keyGenerationTask);
+		}
+		boolean txSyncActive = TransactionSynchronizationManager.isSynchronizationActive();
+		if (txSyncActive) {
+			// waiting requests get the generated key only after the commit, later requests read the committed key.
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					newFlight.completeGenerated();
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						LOGGER.info(KeymanagerConstant.SESSIONID, applicationId, referenceId,
+								"Key generation transaction rolled back, failing the waiting requests.");
+						newFlight.result.completeExceptionally(new KeymanagerServiceException(
+								KeymanagerErrorConstant.KEY_GENERATION_ROLLED_BACK.getErrorCode(),
+								KeymanagerErrorConstant.KEY_GENERATION_ROLLED_BACK.getErrorMessage()));
+					}
+					keyGenerationFlights.remove(flightKey, newFlight);
+					dbHelper.purgeKeyAliasCache(applicationId, referenceId);
+				}
+			});
+		}
+		try {
+			CertificateInfo<X509Certificate> certInfo = generateKeyWithDBLock(applicationId, referenceId, timeStamp,
+					certificateLoader, keyGenerationTask);
+			newFlight.generated = certInfo;
+			if (!txSyncActive) {
+				newFlight.completeGenerated();
+			}
+			return certInfo;
+		} catch (RuntimeException e) {
+			newFlight.result.completeExceptionally(e);
+			throw e;
+		} finally {
+			if (!txSyncActive) {
+				keyGenerationFlights.remove(flightKey, newFlight);
+			}
+		}
+	}
+
+	private CertificateInfo<X509Certificate> generateKeyWithDBLock(String applicationId, String referenceId,
+			LocalDateTime timeStamp, Function<String, X509Certificate> certificateLoader,
+			Supplier<CertificateInfo<X509Certificate>> keyGenerationTask) {
+		if (keyGenerationLockHelper.lockKeyGeneration(applicationId, referenceId)) {
+			dbHelper.purgeKeyAliasCache(applicationId, referenceId);
+			List<KeyAlias> currentKeyAlias = dbHelper.getKeyAliases(applicationId, referenceId, timeStamp)
+					.get(KeymanagerConstant.CURRENTKEYALIAS);
+			if (currentKeyAlias.size() == 1) {
+				String alias = currentKeyAlias.get(0).getAlias();
+				LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.CURRENTKEYALIAS, alias,
+						"Key generated by other instance, fetching certificate using this alias");
+				return new CertificateInfo<>(alias, certificateLoader.apply(alias));
+			}
+		}
+		return keyGenerationTask.get();
+	}
+
+	private CertificateInfo<X509Certificate> awaitKeyGeneration(KeyGenerationFlight flight) {
+		try {
+			return flight.result.get(keyGenerationWaitInSecs, TimeUnit.SECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new KeymanagerServiceException(KeymanagerErrorConstant.INTERNAL_SERVER_ERROR.getErrorCode(),
+					KeymanagerErrorConstant.INTERNAL_SERVER_ERROR.getErrorMessage(), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new KeymanagerServiceException(KeymanagerErrorConstant.KEY_GENERATION_WAIT_TIMEOUT.getErrorCode(),
+					KeymanagerErrorConstant.KEY_GENERATION_WAIT_TIMEOUT.getErrorMessage(), e);
+		} catch (TimeoutException e) {
+			throw new KeymanagerServiceException(KeymanagerErrorConstant.KEY_GENERATION_WAIT_TIMEOUT.getErrorCode(),
+					KeymanagerErrorConstant.KEY_GENERATION_WAIT_TIMEOUT.getErrorMessage(), e);
+		}
+	}
+
 	private ImmutablePair<String, X509Certificate> generateKeyPairInHSM(String alias, String applicationId, String referenceId, 
 							LocalDateTime timeStamp, List<KeyAlias> keyAlias) {
 		LocalDateTime generationDateTime = timeStamp;
@@ -232,6 +422,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 								"Unique Value formatter: " + uniqueValue);
 		String uniqueIdentifier = keymanagerUtil.getUniqueIdentifier(uniqueValue);
 		dbHelper.storeKeyInAlias(applicationId, generationDateTime, referenceId, alias, expiryDateTime, certThumbprint, uniqueIdentifier);
+		notifyKeyAliasChange(applicationId, referenceId);
 		ImmutablePair<String, X509Certificate> immPair = ImmutablePair.of(uniqueIdentifier, x509Cert);
 		return immPair;
 	}
@@ -278,22 +469,9 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.CURRENTKEYALIAS,
 					currentKeyAlias.get(0).getAlias(),
 					"CurrentKeyAlias size is one. Will fetch keypair using this alias");
-			Optional<io.mosip.kernel.keymanagerservice.entity.KeyStore> keyFromDBStore = dbHelper
-					.getKeyStoreFromDB(currentKeyAlias.get(0).getAlias());
-			if (!keyFromDBStore.isPresent()) {
-				LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.KEYFROMDB, keyFromDBStore.toString(),
-						"Key in DBStore does not exist for this alias. Throwing exception");
-				throw new NoUniqueAliasException(KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorCode(),
-						KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorMessage());
-			} else {
-				LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.KEYFROMDB,
-						currentKeyAlias.get(0).getAlias(),
-						"Key in DBStore exists for this alias. Fetching Certificate.");
-				KeyAlias fetchedKeyAlias = currentKeyAlias.get(0);
-				alias = fetchedKeyAlias.getAlias();
-				String certificateData = keyFromDBStore.get().getCertificateData();
-				x509Cert = (X509Certificate) keymanagerUtil.convertToCertificate(certificateData);
-			}
+			KeyAlias fetchedKeyAlias = currentKeyAlias.get(0);
+			alias = fetchedKeyAlias.getAlias();
+			x509Cert = getDBStoreCertificate(alias);
 		} else if (currentKeyAlias.isEmpty()) {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.CURRENTKEYALIAS,
 					String.valueOf(currentKeyAlias.size()),
@@ -338,60 +516,83 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 				throw new KeymanagerServiceException(KeymanagerErrorConstant.GENERATION_NOT_ALLOWED.getErrorCode(),
 					String.format(KeymanagerErrorConstant.GENERATION_NOT_ALLOWED.getErrorMessage(), "Ed25519 Signature Key"));
 			}
-			Optional<KeyPolicy> keyPolicy = dbHelper.getKeyPolicy(applicationId);
-			String encryptedPrivateKey;
-			alias = UUID.randomUUID().toString();
-			KeyPair keypair = null;
-			if (referenceId.equals(KeyReferenceIdConsts.ED25519_SIGN.name()) && isSignKey) {
-				keypair = keyGenerator.getEd25519KeyPair();
-			} else {
-				keypair = keyGenerator.getAsymmetricKey();
-			}
-			PrivateKey privateKey = keypair.getPrivate();
-			/**
-			 * Will get application's master key information from HSM. On first request for
-			 * an applicationId and duration, will create a new keypair.
-			 */
-			CertificateInfo<X509Certificate> certInfo = getCertificateFromHSM(applicationId, timeStamp, KeymanagerConstant.EMPTY);
-			X509Certificate hsmX509Cert = certInfo.getCertificate();
-			PublicKey masterPublicKey = hsmX509Cert.getPublicKey();
-
-			String masterAlias = certInfo.getAlias();
-			LocalDateTime generationDateTime = timeStamp;
-			LocalDateTime expiryDateTime = dbHelper.getExpiryPolicy(KeymanagerConstant.BASE_KEY_POLICY_CONST,
-					generationDateTime, keyAliasMap.get(KeymanagerConstant.KEYALIAS));
-			/**
-			 * Before storing a keypair in db, will first encrypt its private key with
-			 * application's master public key from softhsm's/HSM's keystore
-			 */
-			try {
-				encryptedPrivateKey = CryptoUtil.encodeToURLSafeBase64(keymanagerUtil.encryptKey(privateKey, masterPublicKey));
-			} catch (InvalidDataException | InvalidKeyException | NullDataException | NullKeyException
-					| NullMethodException e) {
-				throw new CryptoException(KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorCode(),
-						KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorMessage() + e.getErrorText());
-			}
-			PrivateKeyEntry signKeyEntry = keyStore.getAsymmetricKey(masterAlias);
-			PrivateKey signPrivateKey = signKeyEntry.getPrivateKey();
-			X509Certificate signCert = (X509Certificate) signKeyEntry.getCertificate();
-			X500Principal signerPrincipal = signCert.getSubjectX500Principal();
-
-			CertificateParameters certParams = keymanagerUtil.getCertificateParameters(signerPrincipal,
-													generationDateTime, expiryDateTime);
-			certParams.setCommonName(applicationId + "-" + referenceId);
-			x509Cert = (X509Certificate) CertificateUtility.generateX509Certificate(signPrivateKey, keypair.getPublic(), 
-						certParams, signerPrincipal, signAlgorithm, keyStore.getKeystoreProviderName(), KeymanagerConstant.ENCRYPTION_KEY);
-			String certificateData = keymanagerUtil.getPEMFormatedData(x509Cert);
-			dbHelper.storeKeyInDBStore(alias, masterAlias, certificateData, encryptedPrivateKey);
-			String certThumbprint = cryptomanagerUtil.getCertificateThumbprintInHex(x509Cert);
-			String uniqueValue = applicationId + KeymanagerConstant.UNDER_SCORE + referenceId + KeymanagerConstant.UNDER_SCORE +
-								timeStamp.format(KeymanagerConstant.DATE_FORMATTER);
-			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
-									"Unique Value formatter: " + uniqueValue);
-			String uniqueIdentifier = keymanagerUtil.getUniqueIdentifier(uniqueValue);
-			dbHelper.storeKeyInAlias(applicationId, generationDateTime, referenceId, alias, expiryDateTime, certThumbprint, uniqueIdentifier);
-			keymanagerUtil.destoryKey(privateKey);
+			return generateKeyInSingleFlight(applicationId, referenceId, timeStamp,
+					this::getDBStoreCertificate,
+					() -> generateKeyInDBStore(applicationId, timeStamp, referenceId, isSignKey, keyAliasMap));
+		}
+		return new CertificateInfo<>(alias, x509Cert);
+	}
+
+	private X509Certificate getDBStoreCertificate(String alias) {
+		Optional<io.mosip.kernel.keymanagerservice.entity.KeyStore> keyFromDBStore = dbHelper.getKeyStoreFromDB(alias);
+		if (!keyFromDBStore.isPresent()) {
+			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.KEYFROMDB, keyFromDBStore.toString(),
+					"Key in DBStore does not exist for this alias. Throwing exception");
+			throw new NoUniqueAliasException(KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorCode(),
+					KeymanagerErrorConstant.NO_UNIQUE_ALIAS.getErrorMessage());
 		}
+		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.KEYFROMDB, alias,
+				"Key in DBStore exists for this alias. Fetching Certificate.");
+		String certificateData = keyFromDBStore.get().getCertificateData();
+		return (X509Certificate) keymanagerUtil.convertToCertificate(certificateData);
+	}
+
+	private CertificateInfo<X509Certificate> generateKeyInDBStore(String applicationId, LocalDateTime timeStamp,
+			String referenceId, boolean isSignKey, Map<String, List<KeyAlias>> keyAliasMap) {
+		Optional<KeyPolicy> keyPolicy = dbHelper.getKeyPolicy(applicationId);
+		String encryptedPrivateKey;
+		String alias = UUID.randomUUID().toString();
+		KeyPair keypair = null;
+		if (referenceId.equals(KeyReferenceIdConsts.ED25519_SIGN.name()) && isSignKey) {
+			keypair = keyGenerator.getEd25519KeyPair();
+		} else {
+			keypair = keyPairPoolHelper.getAsymmetricKey();
+		}
+		PrivateKey privateKey = keypair.getPrivate();
+		/**
+		 * Will get application's master key information from HSM. On first request for
+		 * an applicationId and duration, will create a new keypair.
+		 */
+		CertificateInfo<X509Certificate> certInfo = getCertificateFromHSM(applicationId, timeStamp, KeymanagerConstant.EMPTY);
+		X509Certificate hsmX509Cert = certInfo.getCertificate();
+		PublicKey masterPublicKey = hsmX509Cert.getPublicKey();
+
+		String masterAlias = certInfo.getAlias();
+		LocalDateTime generationDateTime = timeStamp;
+		LocalDateTime expiryDateTime = dbHelper.getExpiryPolicy(KeymanagerConstant.BASE_KEY_POLICY_CONST,
+				generationDateTime, keyAliasMap.get(KeymanagerConstant.KEYALIAS));
+		/**
+		 * Before storing a keypair in db, will first encrypt its private key with
+		 * application's master public key from softhsm's/HSM's keystore
+		 */
+		try {
+			encryptedPrivateKey = CryptoUtil.encodeToURLSafeBase64(keymanagerUtil.encryptKey(privateKey, masterPublicKey));
+		} catch (InvalidDataException | InvalidKeyException | NullDataException | NullKeyException
+				| NullMethodException e) {
+			throw new CryptoException(KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorCode(),
+					KeymanagerErrorConstant.CRYPTO_EXCEPTION.getErrorMessage() + e.getErrorText());
+		}
+		PrivateKeyEntry signKeyEntry = keyStore.getAsymmetricKey(masterAlias);
+		PrivateKey signPrivateKey = signKeyEntry.getPrivateKey();
+		X509Certificate signCert = (X509Certificate) signKeyEntry.getCertificate();
+		X500Principal signerPrincipal = signCert.getSubjectX500Principal();
+
+		CertificateParameters certParams = keymanagerUtil.getCertificateParameters(signerPrincipal,
+												generationDateTime, expiryDateTime);
+		certParams.setCommonName(applicationId + "-" + referenceId);
+		X509Certificate x509Cert = (X509Certificate) CertificateUtility.generateX509Certificate(signPrivateKey, keypair.getPublic(), 
+					certParams, signerPrincipal, signAlgorithm, keyStore.getKeystoreProviderName(), KeymanagerConstant.ENCRYPTION_KEY);
+		String certificateData = keymanagerUtil.getPEMFormatedData(x509Cert);
+		dbHelper.storeKeyInDBStore(alias, masterAlias, certificateData, encryptedPrivateKey);
+		String certThumbprint = cryptomanagerUtil.getCertificateThumbprintInHex(x509Cert);
+		String uniqueValue = applicationId + KeymanagerConstant.UNDER_SCORE + referenceId + KeymanagerConstant.UNDER_SCORE +
+							timeStamp.format(KeymanagerConstant.DATE_FORMATTER);
+		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
+								"Unique Value formatter: " + uniqueValue);
+		String uniqueIdentifier = keymanagerUtil.getUniqueIdentifier(uniqueValue);
+		dbHelper.storeKeyInAlias(applicationId, generationDateTime, referenceId, alias, expiryDateTime, certThumbprint, uniqueIdentifier);
+		notifyKeyAliasChange(applicationId, referenceId);
+		keymanagerUtil.destoryKey(privateKey);
 		return new CertificateInfo<>(alias, x509Cert);
 	}
 
@@ -687,6 +888,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 									"Unique Value formatter: " + uniqueValue);
 		String uniqueIdentifier = keymanagerUtil.getUniqueIdentifier(uniqueValue);
 		dbHelper.storeKeyInAlias(appId, generationDateTime, refId, alias, expiryDateTime, certThumbprint, uniqueIdentifier);
+		notifyKeyAliasChange(appId, refId);
 	}
 
 	private KeyPairGenerateResponseDto buildResponseObject(String responseObjectType, String appId, String refId,
@@ -748,6 +950,99 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 				KeymanagerConstant.GET_CERTIFICATE);
 		
 		LocalDateTime localDateTimeStamp = DateUtils.getUTCCurrentDateTime();
+		X509Certificate x509Cert = getCertificateThumbprintInfo(appId, refId, localDateTimeStamp).getCertificate();
+		KeyPairGenerateResponseDto responseDto = new KeyPairGenerateResponseDto();
+		responseDto.setCertificate(keymanagerUtil.getPEMFormatedData(x509Cert));
+		responseDto.setExpiryAt(DateUtils.parseDateToLocalDateTime(x509Cert.getNotAfter()));
+		responseDto.setIssuedAt(DateUtils.parseDateToLocalDateTime(x509Cert.getNotBefore()));
+		responseDto.setTimestamp(localDateTimeStamp);
+		return responseDto;
+	}
+
+	@Override
+	public X509Certificate getX509Certificate(String appId, Optional<String> refId) {
+		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.APPLICATIONID, appId,
+				KeymanagerConstant.GET_CERTIFICATE);
+		return getCertificateThumbprintInfo(appId, refId, DateUtils.getUTCCurrentDateTime()).getCertificate();
+	}
+
+	@Override
+	public CertificateThumbprintInfo getCertificateThumbprintInfo(String appId, Optional<String> refId) {
+		LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.APPLICATIONID, appId,
+				KeymanagerConstant.GET_CERTIFICATE);
+		return getCertificateThumbprintInfo(appId, refId, DateUtils.getUTCCurrentDateTime());
+	}
+
+	private CertificateThumbprintInfo getCertificateThumbprintInfo(String appId, Optional<String> refId, 
+				LocalDateTime localDateTimeStamp) {
+		String referenceId = (!refId.isPresent() || refId.get().trim().isEmpty()) ? KeymanagerConstant.EMPTY : refId.get();
+		String cacheKey = appId + KeymanagerConstant.APP_REF_ID_SEP + referenceId;
+		CertificateThumbprintInfo cachedCertInfo = certificateCache.peek(cacheKey);
+		if (Objects.nonNull(cachedCertInfo) && isCurrentKeyAlias(appId, referenceId, localDateTimeStamp, cachedCertInfo)) {
+			return cachedCertInfo;
+		}
+		CertificateInfo<X509Certificate> certificateData = getCertificateInfo(appId, refId, localDateTimeStamp);
+		X509Certificate x509Cert = certificateData.getCertificate();
+		byte[] certThumbprint = cryptomanagerUtil.getCertificateThumbprint(x509Cert);
+		CertificateThumbprintInfo certInfo = new CertificateThumbprintInfo(certificateData.getAlias(), x509Cert, 
+				certThumbprint, Hex.toHexString(certThumbprint).toUpperCase());
+		certificateCache.put(cacheKey, certInfo);
+		return certInfo;
+	}
+
+	@Override
+	public boolean rolloverKey(String appId, String refId, LocalDateTime rolloverTimestamp) {
+		LOGGER.info(KeymanagerConstant.SESSIONID, appId, refId, 
+				"Key rollover requested for timestamp: " + rolloverTimestamp);
+		if (!keyGenerationLockHelper.tryKeyGenerationLock(appId, refId)) {
+			LOGGER.info(KeymanagerConstant.SESSIONID, appId, refId, 
+				"Key generation lock held by other instance, skipping key rollover.");
+			return false;
+		}
+		// key might have been generated by other instance, so not using the cached key alias.
+		dbHelper.purgeKeyAliasCache(appId, refId);
+		List<KeyAlias> currentKeyAlias = dbHelper.getKeyAliases(appId, refId, rolloverTimestamp)
+				.get(KeymanagerConstant.CURRENTKEYALIAS);
+		if (!currentKeyAlias.isEmpty()) {
+			LOGGER.info(KeymanagerConstant.SESSIONID, appId, refId, 
+				"Key already available for the rollover timestamp, skipping key rollover.");
+			return false;
+		}
+		CertificateInfo<X509Certificate> certificateInfo = getCertificateInfo(appId, Optional.of(refId), rolloverTimestamp);
+		LOGGER.info(KeymanagerConstant.SESSIONID, appId, refId, 
+				"Key rollover completed, new key alias: " + certificateInfo.getAlias());
+		return true;
+	}
+
+	/**
+	 * Cached certificate is valid only till the alias is the current key alias, any key rotation, revoke 
+	 * or certificate upload changes the current alias or its thumbprint.
+	 */
+	private boolean isCurrentKeyAlias(String appId, String referenceId, LocalDateTime localDateTimeStamp, 
+				CertificateThumbprintInfo cachedCertInfo) {
+		List<KeyAlias> currentKeyAlias = dbHelper.getKeyAliases(appId, referenceId, localDateTimeStamp)
+				.get(KeymanagerConstant.CURRENTKEYALIAS);
+		if (currentKeyAlias.size() != 1) {
+			return false;
+		}
+		KeyAlias keyAlias = currentKeyAlias.get(0);
+		return keyAlias.getAlias().equals(cachedCertInfo.getAlias()) && (Objects.isNull(keyAlias.getCertThumbprint()) 
+				|| keyAlias.getCertThumbprint().equalsIgnoreCase(cachedCertInfo.getCertThumbprintHex()));
+	}
+
+	private void purgeCertificateCache(String appId, String refId) {
+		String referenceId = keymanagerUtil.isValidReferenceId(refId) ? refId : KeymanagerConstant.EMPTY;
+		String cacheKey = appId + KeymanagerConstant.APP_REF_ID_SEP + referenceId;
+		certificateCache.remove(cacheKey);
+		cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.CERTIFICATE_CACHE, cacheKey);
+	}
+
+	private void notifyKeyAliasChange(String appId, String refId) {
+		keyAliasChangeListeners.forEach(listener -> listener.onKeyAliasChange(appId, refId));
+	}
+
+	private CertificateInfo<X509Certificate> getCertificateInfo(String appId, Optional<String> refId, 
+				LocalDateTime localDateTimeStamp) {
 		CertificateInfo<X509Certificate> certificateData = null;
 		if (!refId.isPresent() || refId.get().trim().isEmpty()) {
 			LOGGER.info(KeymanagerConstant.SESSIONID, KeymanagerConstant.EMPTY, KeymanagerConstant.EMPTY,
@@ -767,14 +1062,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 					"Reference Id is present. Will get Certificate from DB store");
 			certificateData = getCertificateFromDBStore(appId, localDateTimeStamp, refId.get(), false);
 		}
-		
-		X509Certificate x509Cert = certificateData.getCertificate();
-		KeyPairGenerateResponseDto responseDto = new KeyPairGenerateResponseDto();
-		responseDto.setCertificate(keymanagerUtil.getPEMFormatedData(x509Cert));
-		responseDto.setExpiryAt(DateUtils.parseDateToLocalDateTime(x509Cert.getNotAfter()));
-		responseDto.setIssuedAt(DateUtils.parseDateToLocalDateTime(x509Cert.getNotBefore()));
-		responseDto.setTimestamp(localDateTimeStamp);
-		return responseDto;
+		return certificateData;
 	}
 
 	@SuppressWarnings("java:S3655") // added suppress for sonarcloud, because handling the optional object properly in other if conditions.
@@ -952,6 +1240,9 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 									"Unique Value formatter: " + uniqueValue);
 		String uniqueIdentifier = keymanagerUtil.getUniqueIdentifier(uniqueValue);
 		dbHelper.storeKeyInAlias(appId, notBeforeDate, refId, keyAlias, notAfterDate, certThumbprint, uniqueIdentifier);
+		privateKeyDecryptorHelper.purgeKeyCache(currentKeyAlias.getCertThumbprint());
+		purgeCertificateCache(appId, refId);
+		notifyKeyAliasChange(appId, refId);
 		UploadCertificateResponseDto responseDto = new UploadCertificateResponseDto();
 		responseDto.setStatus(KeymanagerConstant.UPLOAD_SUCCESS);
 		responseDto.setTimestamp(timestamp);
@@ -1074,6 +1365,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 									"Unique Value formatter: " + uniqueValue);
 		String uniqueIdentifier = keymanagerUtil.getUniqueIdentifier(uniqueValue);
 		dbHelper.storeKeyInAlias(appId, notBeforeDate, refId, alias, notAfterDate, certThumbprint, uniqueIdentifier);
+		notifyKeyAliasChange(appId, refId);
 		UploadCertificateResponseDto responseDto = new UploadCertificateResponseDto();
 		responseDto.setStatus(KeymanagerConstant.UPLOAD_SUCCESS);
 		responseDto.setTimestamp(DateUtils.getUTCCurrentDateTime());
@@ -1133,6 +1425,7 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		LocalDateTime expiryDateTime = timestamp.plusDays(KeymanagerConstant.SYMMETRIC_KEY_VALIDITY);
 		keyStore.generateAndStoreSymmetricKey(alias);
 		dbHelper.storeKeyInAlias(appId, timestamp, refId, alias, expiryDateTime, null, null);
+		notifyKeyAliasChange(appId, refId);
 		return buildSymGenKeyRespObject(timestamp, KeymanagerConstant.GENERATE_SUCCESS);
 	}
 
@@ -1187,6 +1480,9 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		KeyAlias currentAlias = currentKeyAlias.get(0);
 		dbHelper.storeKeyInAlias(appId, currentAlias.getKeyGenerationTime(), refId, currentAlias.getAlias(), expireTime, 
 					currentAlias.getCertThumbprint(), currentAlias.getUniqueIdentifier());
+		privateKeyDecryptorHelper.purgeKeyCache(currentAlias.getCertThumbprint());
+		purgeCertificateCache(appId, refId);
+		notifyKeyAliasChange(appId, refId);
 		RevokeKeyResponseDto responseDto = new RevokeKeyResponseDto();
 		responseDto.setStatus(KeymanagerConstant.KEY_REVOKED);
 		responseDto.setTimestamp(timestamp);
@@ -1283,4 +1579,28 @@ public class KeymanagerServiceImpl implements KeymanagerService {
 		ecKeyPairGenRequestValidator.validate(objectType, request);
 		return generateKey(objectType, applicationId, refId, forceFlag, request);
 	}
+
+	private static final class KeyGenerationFlight {
+
+		private final LocalDateTime timeStamp;
+
+		private final CompletableFuture<CertificateInfo<X509Certificate>> result = new CompletableFuture<>();
+
+		/** Generated key, shared with the waiting requests after the generating transaction is committed. */
+		private volatile CertificateInfo<X509Certificate> generated;
+
+		private KeyGenerationFlight(LocalDateTime timeStamp) {
+			this.timeStamp = timeStamp;
+		}
+
+		private void completeGenerated() {
+			if (Objects.nonNull(generated)) {
+				result.complete(generated);
+			}
+		}
+
+		private boolean isSameValidity(LocalDateTime requestTimeStamp, long toleranceInSecs) {
+			return Math.abs(Duration.between(timeStamp, requestTimeStamp).getSeconds()) <= toleranceInSecs;
+		}
+	}
 }
@@ -49,10 +49,12 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
 import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
 import io.mosip.kernel.keymanagerservice.dto.SignatureCertificate;
 import io.mosip.kernel.keymanagerservice.entity.PartnerCertificateStore;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
@@ -136,6 +138,9 @@ public class PartnerCertificateManagerServiceImpl implements PartnerCertificateM
     @Autowired
     CryptomanagerUtils cryptomanagerUtil;
 
+    @Autowired
+    private CachePurgeEventHelper cachePurgeEventHelper;
+
     @PostConstruct
     public void init() {
         // Added Cache2kBuilder in the postConstruct because expire value 
@@ -155,6 +160,8 @@ public class PartnerCertificateManagerServiceImpl implements PartnerCertificateM
                         return certDBHelper.getTrustAnchors(partnerDomain);
                 })
                 .build();
+                cachePurgeEventHelper.registerPurgeListener(KeymanagerConstant.CA_CERT_TRUST_STORE_CACHE, 
+                                this::expireTrustStoreCache);
         }
     }
 
@@ -608,9 +615,31 @@ public class PartnerCertificateManagerServiceImpl implements PartnerCertificateM
                 "Trust Store Cache Purge for partner domain " + partnerDomain);
     }
 
+    @Override
+    public void loadTrustStoreCache() {
+        if (disableTrustStoreCache) {
+            return;
+        }
+        Stream.of(partnerAllowedDomains.split(",")).map(String::trim).map(String::toUpperCase)
+                .forEach(partnerDomain -> {
+                    LOGGER.info(PartnerCertManagerConstants.SESSIONID, PartnerCertManagerConstants.EMPTY, 
+                            PartnerCertManagerConstants.EMPTY, "Preloading Trust Store Cache for partner domain " + partnerDomain);
+                    caCertTrustStore.get(partnerDomain);
+                });
+    }
+
     private void purgeCache(String partnerDomain) {
         if(!disableTrustStoreCache) {
             caCertTrustStore.expireAt(partnerDomain, Expiry.NOW);
+            cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.CA_CERT_TRUST_STORE_CACHE, partnerDomain);
+        }
+    }
+
+    private void expireTrustStoreCache(String partnerDomain) {
+        if (Objects.isNull(partnerDomain)) {
+            caCertTrustStore.removeAll();
+            return;
         }
+        caCertTrustStore.expireAt(partnerDomain, Expiry.NOW);
     }
 }
\ No newline at end of file
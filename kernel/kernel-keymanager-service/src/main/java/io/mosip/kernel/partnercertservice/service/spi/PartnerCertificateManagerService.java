@@ -59,4 +59,11 @@ public interface PartnerCertificateManagerService {
      * @return void 
     */
     public void purgeTrustStoreCache(String partnerDomain);
+
+    /**
+     * Function to load trust store cache for all the allowed partner domains.
+     * 
+     * @return void 
+    */
+    public void loadTrustStoreCache();
 }
\ No newline at end of file
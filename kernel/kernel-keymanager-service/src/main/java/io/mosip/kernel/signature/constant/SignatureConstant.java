@@ -22,6 +22,8 @@ public class SignatureConstant {
 
 	public static final String JWT_SIGN = "JWTSignature";
 
+	public static final String JWT_VERIFY_BATCH = "JWTSignatureVerifyBatch";
+
 	public static final String BLANK = "";
 
 	public static final Boolean DEFAULT_INCLUDES = false;
@@ -42,6 +44,8 @@ public class SignatureConstant {
 
 	public static final String JWS_SIGN = "JWSSignature";
 
+	public static final String JWS_SIGN_BATCH = "JWSSignatureBatch";
+
 	public static final String JWS_PS256_SIGN_ALGO_CONST = "PS256";
 
 	public static final String JWS_RS256_SIGN_ALGO_CONST = "RS256";
@@ -73,4 +77,12 @@ public class SignatureConstant {
 	public static final String JWS_ES256K_SIGN_ALGO_CONST = "ES256K";
 
 	public static final String JWS_EDDSA_SIGN_ALGO_CONST = "EdDSA";
+
+	public static final String JWT_VERIFY_CERT_CACHE_METRIC = "keymanager.jwtverify.certificate.cache";
+
+	public static final String JWT_VERIFY_TRUST_CACHE_METRIC = "keymanager.jwtverify.trust.cache";
+
+	public static final String VERIFY_CACHE_KEY_HEADER = "H#";
+
+	public static final String VERIFY_CACHE_KEY_CERT = "C#";
 }
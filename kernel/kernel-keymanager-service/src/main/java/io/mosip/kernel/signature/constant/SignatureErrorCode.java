@@ -25,6 +25,8 @@ public enum SignatureErrorCode {
 
 	SIGN_NOT_ALLOWED("KER-JWS-108", "Signing data not allowed for the authenticated token."),
 
+	BATCH_SIZE_EXCEEDED("KER-JWS-109", "Number of items in the batch request exceeds the allowed limit."),
+
 	INTERNAL_SERVER_ERROR("KER-CSS-102", "Internal server error");
 
 	private final String errorCode;
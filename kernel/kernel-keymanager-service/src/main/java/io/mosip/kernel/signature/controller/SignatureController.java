@@ -13,9 +13,13 @@ import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseFilter;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.signatureutil.model.SignatureResponse;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchResponseDto;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyBatchRequestDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyBatchResponseDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyResponseDto;
 import io.mosip.kernel.signature.dto.PDFSignatureRequestDto;
@@ -164,6 +168,31 @@ public class SignatureController {
 		return response;
 	}
 
+	/**
+	 * Function to JWT Signature verification for a batch of JWTs
+	 * 
+	 * @param requestDto {@link JWTSignatureVerifyBatchRequestDto} having required
+	 *                   fields.
+	 * @return The {@link JWTSignatureVerifyBatchResponseDto}
+	 */
+	@Operation(summary = "Function to JWT Signature verification for a batch of JWTs", 
+			   description = "Function to JWT Signature verification for a batch of JWTs", tags = { "signaturecontroller" })
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success or you may find errors in error array in response"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	@ResponseFilter
+	@PreAuthorize("hasAnyRole(@signAuthRoles.getPostjwtverifybatch())")
+	@PostMapping(value = "/jwtVerifyBatch")
+	public ResponseWrapper<JWTSignatureVerifyBatchResponseDto> jwtVerifyBatch(
+			@RequestBody @Valid RequestWrapper<JWTSignatureVerifyBatchRequestDto> requestDto) {
+		JWTSignatureVerifyBatchResponseDto signatureResponse = service.jwtVerifyBatch(requestDto.getRequest().getBatchRequest());
+		ResponseWrapper<JWTSignatureVerifyBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(signatureResponse);
+		return response;
+	}
+
 	/**
 	 * Function to do JSON Web Signature(JWS) for the input data using input algorithm. Default Algorithm PS256.
 	 * 
@@ -187,4 +216,28 @@ public class SignatureController {
 		response.setResponse(signatureResponse);
 		return response;
 	}
+
+	/**
+	 * Function to do JSON Web Signature(JWS) for a batch of input data using input algorithm. Default Algorithm PS256.
+	 * 
+	 * @param requestDto {@link JWSSignatureBatchRequestDto} having required fields.
+	 * @return The {@link JWSSignatureBatchResponseDto}
+	 */
+	@Operation(summary = "Function to do JSON Web Signature(JWS) for a batch of input data using input algorithm. Default Algorithm PS256.", 
+			   description = "Function to JWS sign a batch of data", tags = { "signaturecontroller" })
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success or you may find errors in error array in response"),
+			@ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(schema = @Schema(hidden = true))) })
+	@ResponseFilter
+	@PreAuthorize("hasAnyRole(@signAuthRoles.getPostjwssignbatch())")
+	@PostMapping(value = "/jwsSignBatch")
+	public ResponseWrapper<JWSSignatureBatchResponseDto> jwsSignBatch(
+			@RequestBody @Valid RequestWrapper<JWSSignatureBatchRequestDto> requestDto) {
+		JWSSignatureBatchResponseDto signatureResponse = service.jwsSignBatch(requestDto.getRequest());
+		ResponseWrapper<JWSSignatureBatchResponseDto> response = new ResponseWrapper<>();
+		response.setResponse(signatureResponse);
+		return response;
+	}
 }
@@ -26,5 +26,9 @@ public class AuthorizedRolesDTO
 	
 	private List<String> postjwtverify;
 
+	private List<String> postjwtverifybatch;
+
 	private List<String> postjwssign;
+
+	private List<String> postjwssignbatch;
 }
\ No newline at end of file
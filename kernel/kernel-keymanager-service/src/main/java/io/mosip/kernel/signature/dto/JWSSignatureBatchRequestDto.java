@@ -0,0 +1,83 @@
+package io.mosip.kernel.signature.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWS Signature Batch Request model. Key & header attributes are common for all the data in the batch.
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a JWS Signature Batch Request")
+public class JWSSignatureBatchRequestDto {
+	/**
+	 * List of Base64 encoded data to sign, each item signed separately.
+	 */
+	@ApiModelProperty(notes = "List of Base64 encoded JSON Data to sign", required = true)
+	@NotEmpty
+	private List<String> dataToSign;
+
+	/**
+	 * Application id of signing module
+	 */
+	@ApiModelProperty(notes = "Application id to be used for signing", example = "KERNEL", required = false)
+	private String applicationId;
+
+	/**
+	 * Refrence Id
+	 */
+	@ApiModelProperty(notes = "Refrence Id", example = "SIGN", required = false)
+	private String referenceId;
+
+	/**
+	 * Flag to include payload in  JWT Signature Header
+	 */
+	@ApiModelProperty(notes = "Flag to include payload in  JWT Signature Header.", example = "false", required = false)
+	private Boolean includePayload;
+
+	/**
+	 * Flag to include certificate in  JWT Signature Header
+	 */
+	@ApiModelProperty(notes = "Flag to include certificate in  JWT Signature Header.", example = "false", required = false)
+	private Boolean includeCertificate;
+
+	/**
+	 * Flag to include certificate hash in JWT Signature Header
+	 */
+	@ApiModelProperty(notes = "Flag to include certificate hash(sha256) in  JWT Signature Header.", example = "false", required = false)
+	private Boolean includeCertHash;
+
+	/**
+	 * Certificate URL to include in JWT Signature Header
+	 */
+	@ApiModelProperty(notes = "Flag to include certificate URL in  JWT Signature Header.", required = false)
+	private String certificateUrl;
+
+	/**
+	 * Validate input JSON to be valid JSON 
+	 */
+	@ApiModelProperty(notes = "Flag to validate input JSON to be a valid JSON.", required = false)
+	private Boolean validateJson;
+
+	/**
+	 * Flag to determine the input data to be Base64URL encoded in signature process.  
+	 */
+	@ApiModelProperty(notes = "Flag to determine the input data to be Base64URL encoded in signature process", required = false)
+	private Boolean b64JWSHeaderParam;
+
+	/**
+	 * JWS Algorithm to use for data signing. Current supported Algorithm PS256
+	 */
+	@ApiModelProperty(notes = "JWS Algorithm to use for data signing. Current supported Algorithm PS256.", required = false)
+	private String signAlgorithm;
+}
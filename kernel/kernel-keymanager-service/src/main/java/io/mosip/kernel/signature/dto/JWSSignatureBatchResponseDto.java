@@ -0,0 +1,32 @@
+package io.mosip.kernel.signature.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWS Signature Batch Response model
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a JWS Signature Batch Response")
+public class JWSSignatureBatchResponseDto {
+	/**
+	 * Signed data for each item, in the same order as the request.
+	 */
+	@ApiModelProperty(notes = "Signed data for each item in request order")
+	private List<JWSSignatureBatchItemResponseDto> batchResponse;
+
+	/**
+	 * response time.
+	 */
+	private LocalDateTime timestamp;
+}
@@ -0,0 +1,31 @@
+package io.mosip.kernel.signature.dto;
+
+import io.mosip.kernel.core.exception.ServiceError;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT Signature Batch Verify Response model for a single item
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a JWT Signature Batch Verify Response Item")
+public class JWTSignatureVerifyBatchItemResponseDto {
+	/**
+	 * Signature & trust verification result, null when the item failed with error.
+	 */
+	@ApiModelProperty(notes = "Signature & trust verification result")
+	private JWTSignatureVerifyResponseDto response;
+
+	/**
+	 * Error in processing the item, null when processed successfully.
+	 */
+	@ApiModelProperty(notes = "Error in processing the item")
+	private ServiceError error;
+}
@@ -0,0 +1,29 @@
+package io.mosip.kernel.signature.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT Signature Batch Verify Request model
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a JWT Signature Batch Verify Request")
+public class JWTSignatureVerifyBatchRequestDto {
+	/**
+	 * List of JWT signatures to verify, each item validated separately.
+	 */
+	@ApiModelProperty(notes = "List of JWT signatures to verify", required = true)
+	@NotEmpty
+	private List<JWTSignatureVerifyRequestDto> batchRequest;
+}
@@ -0,0 +1,26 @@
+package io.mosip.kernel.signature.dto;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT Signature Batch Verify Response model
+ * 
+ * @since 1.3.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ApiModel(description = "Model representing a JWT Signature Batch Verify Response")
+public class JWTSignatureVerifyBatchResponseDto {
+	/**
+	 * Verification result for each item, in the same order as the request.
+	 */
+	@ApiModelProperty(notes = "Verification result for each item in request order")
+	private List<JWTSignatureVerifyBatchItemResponseDto> batchResponse;
+}
@@ -0,0 +1,27 @@
+package io.mosip.kernel.signature.dto;
+
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parsed certificate & public key used in JWT signature verification. Certificate
+ * is null when the JWT header does not include the certificate.
+ *
+ * @since 1.3.0
+ *
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VerifyCertificateInfo {
+
+	private X509Certificate certificate;
+
+	private PublicKey publicKey;
+
+	private String certificateHash;
+}
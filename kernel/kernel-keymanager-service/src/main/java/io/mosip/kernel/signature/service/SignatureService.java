@@ -1,9 +1,14 @@
 package io.mosip.kernel.signature.service;
 
+import java.util.List;
+
 import io.mosip.kernel.core.signatureutil.model.SignatureResponse;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchResponseDto;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyBatchResponseDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyResponseDto;
 import io.mosip.kernel.signature.dto.PDFSignatureRequestDto;
@@ -50,6 +55,15 @@ public interface SignatureService {
 	 */
 	public JWTSignatureVerifyResponseDto jwtVerify(JWTSignatureVerifyRequestDto jwtSignatureVerifyRequestDto);
 
+	/**
+	 * JWT Signature verification for a batch of JWTs. Items signed with the same certificate are
+	 * grouped and the signatures are verified in parallel.
+	 *
+	 * @param jwtSignatureVerifyRequestDtos the list of JWTSignatureVerifyRequestDto
+	 * @return the JWTSignatureVerifyBatchResponseDto with result for each item in request order
+	 */
+	public JWTSignatureVerifyBatchResponseDto jwtVerifyBatch(List<JWTSignatureVerifyRequestDto> jwtSignatureVerifyRequestDtos);
+
 
 	/**
 	 * JSON Web Signature(JWS) for the input data using input algorithm
@@ -59,4 +73,13 @@ public interface SignatureService {
 	 */
 	public JWTSignatureResponseDto jwsSign(JWSSignatureRequestDto jwsSignRequestDto);
 
+	/**
+	 * JSON Web Signature(JWS) for a batch of input data. Signing key is resolved and the JWS
+	 * header is built once for the batch and the data are signed in parallel.
+	 *
+	 * @param jwsSignBatchRequestDto the JWSSignatureBatchRequestDto
+	 * @return the JWSSignatureBatchResponseDto with compact JWS for each item in request order
+	 */
+	public JWSSignatureBatchResponseDto jwsSignBatch(JWSSignatureBatchRequestDto jwsSignBatchRequestDto);
+
 }
@@ -11,18 +11,29 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Security;
 import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
 import org.jose4j.jca.ProviderContext;
 import org.jose4j.jwa.AlgorithmFactory;
 import org.jose4j.jwa.AlgorithmFactoryFactory;
@@ -40,6 +51,8 @@ import org.springframework.stereotype.Service;
 import com.nimbusds.jose.JWSHeader;
 
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.exception.BaseUncheckedException;
+import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.pdfgenerator.model.Rectangle;
@@ -55,7 +68,6 @@ import io.mosip.kernel.keygenerator.bouncycastle.util.KeyGeneratorUtils;
 import io.mosip.kernel.keymanagerservice.constant.KeyReferenceIdConsts;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerErrorConstant;
-import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.PublicKeyResponse;
 import io.mosip.kernel.keymanagerservice.dto.SignatureCertificate;
 import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
@@ -67,9 +79,14 @@ import io.mosip.kernel.partnercertservice.dto.CertificateTrustResponeDto;
 import io.mosip.kernel.partnercertservice.service.spi.PartnerCertificateManagerService;
 import io.mosip.kernel.signature.constant.SignatureConstant;
 import io.mosip.kernel.signature.constant.SignatureErrorCode;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchItemResponseDto;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchRequestDto;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchResponseDto;
 import io.mosip.kernel.signature.dto.JWSSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureResponseDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyBatchItemResponseDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyBatchResponseDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyResponseDto;
 import io.mosip.kernel.signature.dto.PDFSignatureRequestDto;
@@ -78,6 +95,7 @@ import io.mosip.kernel.signature.dto.SignatureRequestDto;
 import io.mosip.kernel.signature.dto.SignatureResponseDto;
 import io.mosip.kernel.signature.dto.TimestampRequestDto;
 import io.mosip.kernel.signature.dto.ValidatorResponseDto;
+import io.mosip.kernel.signature.dto.VerifyCertificateInfo;
 import io.mosip.kernel.signature.exception.CertificateNotValidException;
 import io.mosip.kernel.signature.exception.PublicKeyParseException;
 import io.mosip.kernel.signature.exception.RequestException;
@@ -85,7 +103,9 @@ import io.mosip.kernel.signature.exception.SignatureFailureException;
 import io.mosip.kernel.signature.service.SignatureProvider;
 import io.mosip.kernel.signature.service.SignatureService;
 import io.mosip.kernel.signature.util.SignatureUtil;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 /**
  * @author Uday Kumar
@@ -126,6 +146,32 @@ public class SignatureServiceImpl implements SignatureService {
 	@Value("${mosip.kernel.keymanager.jwtsign.enable.secp256k1.algorithm:true}")
 	private boolean enableSecp256k1Algo;
 
+	/** Verifies the signature with the keystore (HSM) provider, by default verified with the software provider. */
+	@Value("${mosip.kernel.keymanager.jwtverify.use.keystore.provider:false}")
+	private boolean verifyWithKeystoreProvider;
+
+	@Value("${mosip.kernel.keymanager.jwtverify.cache.size:1000}")
+	private long verifyCacheSize;
+
+	@Value("${mosip.kernel.keymanager.jwtverify.cache.expire.inMins:60}")
+	private long verifyCacheExpireInMins;
+
+	@Value("${mosip.kernel.keymanager.jwtverify.trust.cache.expire.inMins:10}")
+	private long trustCacheExpireInMins;
+
+	@Value("${mosip.kernel.keymanager.jwtverify.batch.max-size:100}")
+	private int verifyBatchMaxSize;
+
+	@Value("${mosip.kernel.keymanager.jwtverify.batch.thread-count:4}")
+	private int verifyBatchThreadCount;
+
+	@Value("${mosip.kernel.keymanager.jwssign.batch.max-size:100}")
+	private int signBatchMaxSize;
+
+	/** Threads signing the batch data in parallel, 1 to sign the batch data sequentially in the request thread. */
+	@Value("${mosip.kernel.keymanager.jwssign.batch.thread-count:4}")
+	private int signBatchThreadCount;
+
 	/**
 	 * Utility to generate Metadata
 	 */
@@ -151,6 +197,21 @@ public class SignatureServiceImpl implements SignatureService {
 
 	AlgorithmFactory<JsonWebSignatureAlgorithm> jwsAlgorithmFactory;
 
+	/**
+	 * Parsed verification certificate, keyed by hash of the JWT header or the certificate data in request.
+	 */
+	private Cache<String, VerifyCertificateInfo> verifyCertificateCache = null;
+
+	/**
+	 * Valid trust validation result, keyed by certificate hash & partner domain. Failed results are not
+	 * cached, so the certificate is trusted right after the CA certificate is uploaded.
+	 */
+	private Cache<String, Boolean> trustResultCache = null;
+
+	private ExecutorService verifyBatchExecutor = null;
+
+	private ExecutorService signBatchExecutor = null;
+
 	static {
 		SIGNATURE_PROVIDER.put(SignatureConstant.JWS_PS256_SIGN_ALGO_CONST, new PS256SIgnatureProviderImpl());
 		SIGNATURE_PROVIDER.put(SignatureConstant.JWS_RS256_SIGN_ALGO_CONST, new RS256SignatureProviderImpl());
@@ -176,6 +237,39 @@ public class SignatureServiceImpl implements SignatureService {
 				AlgorithmFactoryFactory.getInstance().getJwsAlgorithmFactory();
 			jwsAlgorithmFactory.registerAlgorithm(new EcdsaSECP256K1UsingSha256());
 		}
+		verifyCertificateCache = new Cache2kBuilder<String, VerifyCertificateInfo>() {}
+				// added hashcode because test case execution failing with IllegalStateException: Cache already created
+				.name("verifyCertificateCache-" + this.hashCode())
+				.expireAfterWrite(verifyCacheExpireInMins, TimeUnit.MINUTES)
+				.entryCapacity(verifyCacheSize)
+				.build();
+		trustResultCache = new Cache2kBuilder<String, Boolean>() {}
+				.name("trustResultCache-" + this.hashCode())
+				.expireAfterWrite(trustCacheExpireInMins, TimeUnit.MINUTES)
+				.entryCapacity(verifyCacheSize)
+				.build();
+		Metrics.gauge(SignatureConstant.JWT_VERIFY_CERT_CACHE_METRIC + ".size", verifyCertificateCache, cache -> cache.asMap().size());
+		Metrics.gauge(SignatureConstant.JWT_VERIFY_TRUST_CACHE_METRIC + ".size", trustResultCache, cache -> cache.asMap().size());
+		verifyBatchExecutor = Executors.newFixedThreadPool(verifyBatchThreadCount, runnable -> {
+			Thread thread = new Thread(runnable, "jwt-verify-batch-" + this.hashCode());
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (signBatchThreadCount > 1) {
+			signBatchExecutor = Executors.newFixedThreadPool(signBatchThreadCount, runnable -> {
+				Thread thread = new Thread(runnable, "jws-sign-batch-" + this.hashCode());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	@PreDestroy
+	public void destroy() {
+		verifyBatchExecutor.shutdown();
+		if (Objects.nonNull(signBatchExecutor)) {
+			signBatchExecutor.shutdown();
+		}
 	}
 
 	@Override
@@ -378,6 +472,100 @@ public class SignatureServiceImpl implements SignatureService {
 	public JWTSignatureVerifyResponseDto jwtVerify(JWTSignatureVerifyRequestDto jwtVerifyRequestDto) {
 		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
 				"JWT Signature Verification Request.");
+		JWTVerifyItem verifyItem = parseJwtVerifyItem(jwtVerifyRequestDto, null);
+		validateCertificateDates(verifyItem.certInfo);
+		JWTSignatureVerifyResponseDto responseDto = verifyJwtItem(verifyItem);
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
+				"JWT Signature Verification Request - Completed.");
+		return responseDto;
+	}
+
+	/*
+	 * Items are grouped by the certificate used for verification. Certificate is resolved & validated once 
+	 * for each group in the request thread and the signature verification for the items run in parallel.
+	 */
+	@Override
+	public JWTSignatureVerifyBatchResponseDto jwtVerifyBatch(List<JWTSignatureVerifyRequestDto> jwtVerifyRequestDtos) {
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_VERIFY_BATCH, SignatureConstant.BLANK,
+				"JWT Signature Batch Verification Request.");
+		validateBatchSize(SignatureConstant.JWT_VERIFY_BATCH, jwtVerifyRequestDtos, verifyBatchMaxSize);
+
+		int batchSize = jwtVerifyRequestDtos.size();
+		JWTSignatureVerifyBatchItemResponseDto[] batchResponse = new JWTSignatureVerifyBatchItemResponseDto[batchSize];
+		JWTVerifyItem[] verifyItems = new JWTVerifyItem[batchSize];
+		Map<String, VerifyCertificateInfo> keyCertificates = new HashMap<>();
+		Map<String, List<Integer>> certificateGroups = new LinkedHashMap<>();
+		for (int index = 0; index < batchSize; index++) {
+			try {
+				verifyItems[index] = parseJwtVerifyItem(jwtVerifyRequestDtos.get(index), keyCertificates);
+				certificateGroups.computeIfAbsent(verifyItems[index].certInfo.getCertificateHash(), 
+							key -> new ArrayList<>()).add(index);
+			} catch (RuntimeException exp) {
+				batchResponse[index] = new JWTSignatureVerifyBatchItemResponseDto(null, 
+							getBatchItemError(SignatureConstant.JWT_VERIFY_BATCH, exp));
+			}
+		}
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_VERIFY_BATCH, SignatureConstant.BLANK,
+				"Batch Size: " + batchSize + ", Number of verification certificates: " + certificateGroups.size());
+
+		List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+		for (List<Integer> groupIndexes : certificateGroups.values()) {
+			try {
+				validateCertificateDates(verifyItems[groupIndexes.get(0)].certInfo);
+			} catch (RuntimeException exp) {
+				JWTSignatureVerifyBatchItemResponseDto errorResponse = new JWTSignatureVerifyBatchItemResponseDto(null, 
+							getBatchItemError(SignatureConstant.JWT_VERIFY_BATCH, exp));
+				groupIndexes.forEach(index -> batchResponse[index] = errorResponse);
+				continue;
+			}
+			groupIndexes.forEach(index -> batchFutures.add(CompletableFuture.runAsync(() -> {
+				try {
+					batchResponse[index] = new JWTSignatureVerifyBatchItemResponseDto(verifyJwtItem(verifyItems[index]), null);
+				} catch (RuntimeException exp) {
+					batchResponse[index] = new JWTSignatureVerifyBatchItemResponseDto(null, 
+								getBatchItemError(SignatureConstant.JWT_VERIFY_BATCH, exp));
+				}
+			}, verifyBatchExecutor)));
+		}
+		CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).join();
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_VERIFY_BATCH, SignatureConstant.BLANK,
+				"JWT Signature Batch Verification Request - Completed.");
+		return new JWTSignatureVerifyBatchResponseDto(Arrays.asList(batchResponse));
+	}
+
+	private void validateBatchSize(String operation, List<?> batchRequest, int batchMaxSize) {
+		if (batchRequest == null || batchRequest.isEmpty()) {
+			throw new RequestException(SignatureErrorCode.INVALID_INPUT.getErrorCode(),
+					SignatureErrorCode.INVALID_INPUT.getErrorMessage());
+		}
+		if (batchRequest.size() > batchMaxSize) {
+			LOGGER.error(SignatureConstant.SESSIONID, operation, SignatureConstant.BLANK,
+					"Batch size: " + batchRequest.size() + " exceeds the allowed limit: " + batchMaxSize);
+			throw new RequestException(SignatureErrorCode.BATCH_SIZE_EXCEEDED.getErrorCode(),
+					SignatureErrorCode.BATCH_SIZE_EXCEEDED.getErrorMessage());
+		}
+	}
+
+	private ServiceError getBatchItemError(String operation, RuntimeException exp) {
+		LOGGER.error(SignatureConstant.SESSIONID, operation, SignatureConstant.BLANK,
+				"Error processing the batch item.", exp);
+		if (exp instanceof BaseUncheckedException) {
+			BaseUncheckedException baseExp = (BaseUncheckedException) exp;
+			return new ServiceError(baseExp.getErrorCode(), baseExp.getErrorText());
+		}
+		return new ServiceError(SignatureErrorCode.INTERNAL_SERVER_ERROR.getErrorCode(), exp.getMessage());
+	}
+
+	/*
+	 * keyCertificates holds the certificates resolved by application id & reference id within a batch, 
+	 * null for single verification.
+	 */
+	private JWTVerifyItem parseJwtVerifyItem(JWTSignatureVerifyRequestDto jwtVerifyRequestDto, 
+				Map<String, VerifyCertificateInfo> keyCertificates) {
+		if (Objects.isNull(jwtVerifyRequestDto)) {
+			throw new RequestException(SignatureErrorCode.INVALID_INPUT.getErrorCode(),
+					SignatureErrorCode.INVALID_INPUT.getErrorMessage());
+		}
 		String signedData = jwtVerifyRequestDto.getJwtSignatureData();
 		if (!SignatureUtil.isDataValid(signedData)) {
 			LOGGER.error(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
@@ -398,39 +586,91 @@ public class SignatureServiceImpl implements SignatureService {
 			referenceId = signRefid;
 		}
 
-		String[] jwtTokens = signedData.split(SignatureConstant.PERIOD, -1);
-
-		boolean signatureValid = false;
-		Certificate certToVerify = certificateExistsInHeader(jwtTokens[0]);
-		if (Objects.nonNull(certToVerify)){
-			signatureValid = verifySignature(jwtTokens, encodedActualData, certToVerify);
+		JWTVerifyItem verifyItem = new JWTVerifyItem();
+		verifyItem.jwtVerifyRequestDto = jwtVerifyRequestDto;
+		verifyItem.jwtTokens = signedData.split(SignatureConstant.PERIOD, -1);
+		verifyItem.actualData = encodedActualData;
+		verifyItem.reqCertData = reqCertData;
+
+		VerifyCertificateInfo headerCertInfo = certificateExistsInHeader(verifyItem.jwtTokens[0]);
+		if (Objects.nonNull(headerCertInfo.getCertificate())) {
+			verifyItem.headerCertInfo = headerCertInfo;
+			verifyItem.certInfo = headerCertInfo;
+		} else if (reqCertData == null && Objects.nonNull(keyCertificates)) {
+			String keyAppId = applicationId;
+			String keyRefId = referenceId;
+			verifyItem.certInfo = keyCertificates.computeIfAbsent(keyAppId + KeymanagerConstant.APP_REF_ID_SEP + keyRefId, 
+						key -> getCertificateToVerify(null, keyAppId, keyRefId));
 		} else {
-			Certificate reqCertToVerify = getCertificateToVerify(reqCertData, applicationId, referenceId);
-			signatureValid = verifySignature(jwtTokens, encodedActualData, reqCertToVerify);
+			verifyItem.certInfo = getCertificateToVerify(reqCertData, applicationId, referenceId);
 		}
+		return verifyItem;
+	}
 
+	private JWTSignatureVerifyResponseDto verifyJwtItem(JWTVerifyItem verifyItem) {
+		boolean signatureValid = verifySignature(verifyItem.jwtTokens, verifyItem.actualData, verifyItem.certInfo);
 		JWTSignatureVerifyResponseDto responseDto = new JWTSignatureVerifyResponseDto();
 		responseDto.setSignatureValid(signatureValid);
 		responseDto.setMessage(signatureValid ? SignatureConstant.VALIDATION_SUCCESSFUL : SignatureConstant.VALIDATION_FAILED);
-		responseDto.setTrustValid(validateTrust(jwtVerifyRequestDto, certToVerify, reqCertData));
-		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
-				"JWT Signature Verification Request - Completed.");
+		responseDto.setTrustValid(validateTrust(verifyItem.jwtVerifyRequestDto, verifyItem.headerCertInfo, verifyItem.reqCertData));
 		return responseDto;
 	}
 
-	private Certificate getCertificateToVerify(String reqCertData, String applicationId, String referenceId) {
+	private static class JWTVerifyItem {
+		private JWTSignatureVerifyRequestDto jwtVerifyRequestDto;
+		private String[] jwtTokens;
+		private String actualData;
+		private String reqCertData;
+		private VerifyCertificateInfo headerCertInfo;
+		private VerifyCertificateInfo certInfo;
+	}
+
+	private VerifyCertificateInfo getCertificateToVerify(String reqCertData, String applicationId, String referenceId) {
 		// 2nd precedence to consider certificate to use in signature verification (Certificate Data provided in request).
-		if (reqCertData != null)
-			return keymanagerUtil.convertToCertificate(reqCertData);
+		if (reqCertData != null) {
+			String cacheKey = SignatureConstant.VERIFY_CACHE_KEY_CERT + DigestUtils.sha256Hex(reqCertData);
+			VerifyCertificateInfo cachedCertInfo = verifyCertificateCache.peek(cacheKey);
+			if (Objects.nonNull(cachedCertInfo))
+				return cachedCertInfo;
+			VerifyCertificateInfo certInfo = getVerifyCertificateInfo(keymanagerUtil.convertToCertificate(reqCertData));
+			verifyCertificateCache.put(cacheKey, certInfo);
+			return certInfo;
+		}
 		
 		// 3rd precedence to consider certificate to use in signature verification. (based on AppId & RefId)
-		KeyPairGenerateResponseDto certificateResponse = keymanagerService.getCertificate(applicationId,
-				Optional.of(referenceId));
-		return keymanagerUtil.convertToCertificate(certificateResponse.getCertificate());
+		// certificate is cached in keymanager service.
+		return getVerifyCertificateInfo(keymanagerService.getX509Certificate(applicationId, Optional.of(referenceId)));
+	}
+
+	private VerifyCertificateInfo certificateExistsInHeader(String jwtHeader) {
+		// Same header (same x5c) is used in many tokens of a partner, so parsed header is cached.
+		String cacheKey = SignatureConstant.VERIFY_CACHE_KEY_HEADER + DigestUtils.sha256Hex(jwtHeader);
+		VerifyCertificateInfo cachedCertInfo = verifyCertificateCache.peek(cacheKey);
+		if (Objects.nonNull(cachedCertInfo))
+			return cachedCertInfo;
+		Certificate headerCertificate = parseHeaderCertificate(jwtHeader);
+		VerifyCertificateInfo certInfo = Objects.isNull(headerCertificate) ? new VerifyCertificateInfo() :
+					getVerifyCertificateInfo(headerCertificate);
+		verifyCertificateCache.put(cacheKey, certInfo);
+		return certInfo;
+	}
+
+	private VerifyCertificateInfo getVerifyCertificateInfo(Certificate certificate) {
+		X509Certificate x509Certificate = (X509Certificate) certificate;
+		PublicKey publicKey = x509Certificate.getPublicKey();
+		if (publicKey.getAlgorithm().equals(KeymanagerConstant.EDDSA_KEY_TYPE)) {
+			publicKey = KeyGeneratorUtils.createPublicKey(KeymanagerConstant.ED25519_KEY_TYPE, publicKey.getEncoded());
+		}
+		try {
+			return new VerifyCertificateInfo(x509Certificate, publicKey, DigestUtils.sha256Hex(x509Certificate.getEncoded()));
+		} catch (CertificateEncodingException e) {
+			throw new CertificateNotValidException(SignatureErrorCode.CERT_NOT_VALID.getErrorCode(),
+								SignatureErrorCode.CERT_NOT_VALID.getErrorMessage(), e);
+		}
 	}
 	
 	@SuppressWarnings("unchecked")
-	private Certificate certificateExistsInHeader(String jwtHeader) {
+	private Certificate parseHeaderCertificate(String jwtHeader) {
 		String jwtTokenHeader = new String(CryptoUtil.decodeURLSafeBase64(jwtHeader));
 		Map<String, Object> jwtTokenHeadersMap = null;
 		try {
@@ -453,38 +693,28 @@ public class SignatureServiceImpl implements SignatureService {
 		return null;
 	}
 
-	private boolean verifySignature(String[] jwtTokens, String actualData, Certificate certToVerify) {
+	private boolean verifySignature(String[] jwtTokens, String actualData, VerifyCertificateInfo certInfo) {
 		JsonWebSignature jws = new JsonWebSignature();
 		try {
-			X509Certificate x509CertToVerify = (X509Certificate) certToVerify;
-			boolean validCert = SignatureUtil.isCertificateDatesValid(x509CertToVerify);
-			if (!validCert) {
-				LOGGER.error(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
-					"Error certificate dates are not valid.");
-					throw new CertificateNotValidException(SignatureErrorCode.CERT_NOT_VALID.getErrorCode(),
-								SignatureErrorCode.CERT_NOT_VALID.getErrorMessage());
-			}
-
+			X509Certificate x509CertToVerify = certInfo.getCertificate();
 			String keyAlgorithm = x509CertToVerify.getPublicKey().getAlgorithm();
-			PublicKey publicKey = null;
+			PublicKey publicKey = certInfo.getPublicKey();
 			if (keyAlgorithm.equals(KeymanagerConstant.EDDSA_KEY_TYPE)) {
 				LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
 					"Found Ed25519 Certificate for Signature verification.");
-				publicKey = KeyGeneratorUtils.createPublicKey(KeymanagerConstant.ED25519_KEY_TYPE, 
-							x509CertToVerify.getPublicKey().getEncoded());
 				LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
 							"Supported Signature Algorithm: " + 
 					AlgorithmFactoryFactory.getInstance().getJwsAlgorithmFactory().getSupportedAlgorithms());
 			} else {
-				LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
-					"KeyStore Provider Name:" + ecKeyStore.getKeystoreProviderName());
-				if (!ecKeyStore.getKeystoreProviderName().equals(
+				// Verification needs only the public key, so HSM round trip is avoided unless configured.
+				if (verifyWithKeystoreProvider && !ecKeyStore.getKeystoreProviderName().equals(
 						io.mosip.kernel.keymanager.hsm.constant.KeymanagerConstant.KEYSTORE_TYPE_OFFLINE)) {
+					LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
+						"KeyStore Provider Name:" + ecKeyStore.getKeystoreProviderName());
 					ProviderContext provContext = new ProviderContext();
 					provContext.getSuppliedKeyProviderContext().setSignatureProvider(ecKeyStore.getKeystoreProviderName());
 					jws.setProviderContext(provContext);
 				}
-				publicKey = certToVerify.getPublicKey();
 			}
 						
 			if (Objects.nonNull(actualData))
@@ -504,7 +734,17 @@ public class SignatureServiceImpl implements SignatureService {
 		}
 	}
 
-	private String validateTrust(JWTSignatureVerifyRequestDto jwtVerifyRequestDto, Certificate headerCertificate, String reqCertData) {
+	private void validateCertificateDates(VerifyCertificateInfo certInfo) {
+		boolean validCert = SignatureUtil.isCertificateDatesValid(certInfo.getCertificate());
+		if (!validCert) {
+			LOGGER.error(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
+				"Error certificate dates are not valid.");
+				throw new CertificateNotValidException(SignatureErrorCode.CERT_NOT_VALID.getErrorCode(),
+							SignatureErrorCode.CERT_NOT_VALID.getErrorMessage());
+		}
+	}
+
+	private String validateTrust(JWTSignatureVerifyRequestDto jwtVerifyRequestDto, VerifyCertificateInfo headerCertInfo, String reqCertData) {
 		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
 				"JWT Signature Verification Request - Trust Validation.");
 		boolean validateTrust = SignatureUtil.isIncludeAttrsValid(jwtVerifyRequestDto.getValidateTrust());
@@ -516,21 +756,27 @@ public class SignatureServiceImpl implements SignatureService {
 		if(!SignatureUtil.isDataValid(domain))
 			return SignatureConstant.TRUST_NOT_VERIFIED_NO_DOMAIN;
 		
-		String certData = null;
-		if (Objects.nonNull(headerCertificate)) {
-			certData = keymanagerUtil.getPEMFormatedData(headerCertificate);
-		}
-		String trustCertData = certData == null ? reqCertData : certData;
-
-		if (trustCertData == null) 
+		if (Objects.isNull(headerCertInfo) && reqCertData == null) 
 			return SignatureConstant.TRUST_NOT_VERIFIED;
+
+		String certHash = Objects.nonNull(headerCertInfo) ? headerCertInfo.getCertificateHash() : 
+							DigestUtils.sha256Hex(reqCertData);
+		String trustCacheKey = certHash + KeymanagerConstant.APP_REF_ID_SEP + domain.toUpperCase();
+		Boolean trustValid = trustResultCache.peek(trustCacheKey);
+		if (Objects.isNull(trustValid)) {
+			String trustCertData = Objects.nonNull(headerCertInfo) ? 
+						keymanagerUtil.getPEMFormatedData(headerCertInfo.getCertificate()) : reqCertData;
+			CertificateTrustRequestDto trustRequestDto = new CertificateTrustRequestDto();
+			trustRequestDto.setCertificateData(trustCertData);
+			trustRequestDto.setPartnerDomain(domain);
+			CertificateTrustResponeDto responseDto = partnerCertManagerService.verifyCertificateTrust(trustRequestDto);
+			trustValid = responseDto.getStatus();
+			if (trustValid) {
+				trustResultCache.put(trustCacheKey, trustValid);
+			}
+		}
 		
-		CertificateTrustRequestDto trustRequestDto = new CertificateTrustRequestDto();
-		trustRequestDto.setCertificateData(trustCertData);
-		trustRequestDto.setPartnerDomain(domain);
-		CertificateTrustResponeDto responseDto = partnerCertManagerService.verifyCertificateTrust(trustRequestDto);
-		
-		if (responseDto.getStatus()){
+		if (trustValid){
 			return SignatureConstant.TRUST_VALID;
 		}
 		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWT_SIGN, SignatureConstant.BLANK,
@@ -629,6 +875,114 @@ public class SignatureServiceImpl implements SignatureService {
 		return responseDto;
 	}
 
+	/*
+	 * Key access check, signing key resolution & JWS header are done once for the batch. Only the JSON 
+	 * validation & signature are computed for each data, in parallel when the thread count is more than 1.
+	 */
+	@Override
+	public JWSSignatureBatchResponseDto jwsSignBatch(JWSSignatureBatchRequestDto jwsSignBatchRequestDto) {
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWS_SIGN_BATCH, SignatureConstant.BLANK,
+				"JWS Signature Batch Request.");
+		List<String> batchDataToSign = jwsSignBatchRequestDto.getDataToSign();
+		validateBatchSize(SignatureConstant.JWS_SIGN_BATCH, batchDataToSign, signBatchMaxSize);
+
+		boolean hasAcccess = cryptomanagerUtil.hasKeyAccess(jwsSignBatchRequestDto.getApplicationId());
+		if (!hasAcccess) {
+			LOGGER.error(SignatureConstant.SESSIONID, SignatureConstant.JWS_SIGN_BATCH, SignatureConstant.BLANK,
+							"Signing Data is not allowed for the authenticated user for the provided application id.");
+			throw new RequestException(SignatureErrorCode.SIGN_NOT_ALLOWED.getErrorCode(),
+				SignatureErrorCode.SIGN_NOT_ALLOWED.getErrorMessage());
+		}
+
+		String timestamp = DateUtils.getUTCCurrentDateTimeString();
+		String applicationId = jwsSignBatchRequestDto.getApplicationId();
+		String referenceId = jwsSignBatchRequestDto.getReferenceId();
+		if (!keymanagerUtil.isValidApplicationId(applicationId)) {
+			applicationId = signApplicationid;
+			referenceId = signRefid;
+		}
+
+		boolean validateJson = Objects.isNull(jwsSignBatchRequestDto.getValidateJson()) ? confValidateJson : 
+									jwsSignBatchRequestDto.getValidateJson();
+		boolean includePayload = SignatureUtil.isIncludeAttrsValid(jwsSignBatchRequestDto.getIncludePayload());
+		boolean includeCertificate = SignatureUtil.isIncludeAttrsValid(jwsSignBatchRequestDto.getIncludeCertificate());
+		boolean includeCertHash = SignatureUtil.isIncludeAttrsValid(jwsSignBatchRequestDto.getIncludeCertHash());
+		String certificateUrl = SignatureUtil.isDataValid(
+								jwsSignBatchRequestDto.getCertificateUrl()) ? jwsSignBatchRequestDto.getCertificateUrl(): null;
+		boolean b64JWSHeaderParam = SignatureUtil.isIncludeAttrsValid(jwsSignBatchRequestDto.getB64JWSHeaderParam());
+		String signAlgorithm = SignatureUtil.isDataValid(jwsSignBatchRequestDto.getSignAlgorithm()) ? 
+									jwsSignBatchRequestDto.getSignAlgorithm(): SignatureConstant.JWS_PS256_SIGN_ALGO_CONST;
+
+		SignatureCertificate certificateResponse = keymanagerService.getSignatureCertificate(applicationId,
+									Optional.of(referenceId), timestamp);
+		keymanagerUtil.isCertificateValid(certificateResponse.getCertificateEntry(),
+									DateUtils.parseUTCToDate(timestamp));
+		PrivateKey privateKey = certificateResponse.getCertificateEntry().getPrivateKey();
+		X509Certificate x509Certificate = certificateResponse.getCertificateEntry().getChain()[0];
+		String providerName = certificateResponse.getProviderName();
+		JWSHeader jwsHeader = SignatureUtil.getJWSHeader(signAlgorithm, b64JWSHeaderParam, includeCertificate, 
+					includeCertHash, certificateUrl, x509Certificate, certificateResponse.getUniqueIdentifier(), includeKeyId);
+		String encodedJwsHeader = jwsHeader.toBase64URL().toString();
+		byte[] jwsHeaderBytes = encodedJwsHeader.getBytes(StandardCharsets.UTF_8);
+
+		SignatureProvider signatureProvider = SIGNATURE_PROVIDER.getOrDefault(signAlgorithm, 
+					SIGNATURE_PROVIDER.get(SignatureConstant.JWS_PS256_SIGN_ALGO_CONST));
+
+		int batchSize = batchDataToSign.size();
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWS_SIGN_BATCH, SignatureConstant.BLANK,
+				"Batch Size: " + batchSize + ", Sign Algorithm: " + signAlgorithm);
+		JWSSignatureBatchItemResponseDto[] batchResponse = new JWSSignatureBatchItemResponseDto[batchSize];
+		List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+		for (int index = 0; index < batchSize; index++) {
+			final int itemIndex = index;
+			Runnable signItem = () -> {
+				try {
+					String signature = signJWSItem(batchDataToSign.get(itemIndex), validateJson, b64JWSHeaderParam, 
+								jwsHeaderBytes, signatureProvider, privateKey, providerName);
+					String signedData = new StringBuilder().append(encodedJwsHeader)
+														 .append(".")
+														 .append(includePayload? batchDataToSign.get(itemIndex): "")
+														 .append(".")
+														 .append(signature).toString();
+					batchResponse[itemIndex] = new JWSSignatureBatchItemResponseDto(signedData, null);
+				} catch (RuntimeException exp) {
+					batchResponse[itemIndex] = new JWSSignatureBatchItemResponseDto(null, 
+								getBatchItemError(SignatureConstant.JWS_SIGN_BATCH, exp));
+				}
+			};
+			if (Objects.isNull(signBatchExecutor)) {
+				signItem.run();
+			} else {
+				batchFutures.add(CompletableFuture.runAsync(signItem, signBatchExecutor));
+			}
+		}
+		CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).join();
+		LOGGER.info(SignatureConstant.SESSIONID, SignatureConstant.JWS_SIGN_BATCH, SignatureConstant.BLANK,
+				"JWS Signature Batch Request - Completed.");
+		return new JWSSignatureBatchResponseDto(Arrays.asList(batchResponse), DateUtils.getUTCCurrentDateTime());
+	}
+
+	private String signJWSItem(String reqDataToSign, boolean validateJson, boolean b64JWSHeaderParam, byte[] jwsHeaderBytes, 
+				SignatureProvider signatureProvider, PrivateKey privateKey, String providerName) {
+		if (!SignatureUtil.isDataValid(reqDataToSign)) {
+			LOGGER.error(SignatureConstant.SESSIONID, SignatureConstant.JWS_SIGN_BATCH, SignatureConstant.BLANK,
+					"Provided Data to sign is invalid.");
+			throw new RequestException(SignatureErrorCode.INVALID_INPUT.getErrorCode(),
+					SignatureErrorCode.INVALID_INPUT.getErrorMessage());
+		}
+		byte[] dataToSign = CryptoUtil.decodeURLSafeBase64(reqDataToSign);
+		if (validateJson && !SignatureUtil.isJsonValid(new String(dataToSign))) {
+			LOGGER.error(SignatureConstant.SESSIONID, SignatureConstant.JWS_SIGN_BATCH, SignatureConstant.BLANK,
+					"Provided Data to sign value is invalid JSON.");
+			throw new RequestException(SignatureErrorCode.INVALID_JSON.getErrorCode(),
+					SignatureErrorCode.INVALID_JSON.getErrorMessage());
+		}
+		if (b64JWSHeaderParam) {
+			dataToSign = reqDataToSign.getBytes(StandardCharsets.UTF_8);
+		}
+		return signatureProvider.sign(privateKey, SignatureUtil.buildSignData(jwsHeaderBytes, dataToSign), providerName);
+	}
+
 	public static class EcdsaSECP256K1UsingSha256 extends EcdsaUsingShaAlgorithm
     {
         public EcdsaSECP256K1UsingSha256() {
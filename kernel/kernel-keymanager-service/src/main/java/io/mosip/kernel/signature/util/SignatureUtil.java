@@ -168,6 +168,10 @@ public class SignatureUtil {
 	public static byte[] buildSignData(JWSHeader jwsHeader, byte[] actualDataToSign) {
 
 		byte[] jwsHeaderBytes = jwsHeader.toBase64URL().toString().getBytes(StandardCharsets.UTF_8);
+		return buildSignData(jwsHeaderBytes, actualDataToSign);
+	}
+
+	public static byte[] buildSignData(byte[] jwsHeaderBytes, byte[] actualDataToSign) {
 		byte[] jwsSignData = new byte[jwsHeaderBytes.length + actualDataToSign.length + 1];
 		System.arraycopy(jwsHeaderBytes, 0, jwsSignData, 0, jwsHeaderBytes.length);
 		jwsSignData[jwsHeaderBytes.length] = (byte) '.';
@@ -19,7 +19,9 @@ public enum ZKCryptoErrorConstants {
 
 	KEY_DERIVATION_ERROR("KER-ZKC-005", "Error Key derivation."),
 
-	INVALID_ENCRYPTED_RANDOM_KEY("KER-ZKC-006", "Invalid encrypted random Key.");
+	INVALID_ENCRYPTED_RANDOM_KEY("KER-ZKC-006", "Invalid encrypted random Key."),
+
+	NO_ACTIVE_RANDOM_KEY("KER-ZKC-007", "No active random key available.");
 
 	/**
 	 * The error code.
@@ -48,4 +48,18 @@ public interface ZKCryptoManagerConstants {
 	String RE_ENCRYPT_RANDOM_KEY = "Re-EncryptRandomKey";
 
 	String PERIOD = "\\.";
+
+	String ACTIVE_KEY_INDEX = "ActiveKeyIndex";
+
+	String ACTIVE_KEY_INDEX_CACHE = "zkActiveKeyIndexCache";
+
+	String ACTIVE_KEY_INDEX_METRIC = "keymanager.zk.active.key.index";
+
+	String RANDOM_KEY_CACHE = "zkRandomKeyCache";
+
+	String RANDOM_KEY_CACHE_METRIC = "keymanager.zk.randomkey.cache";
+
+	String KEY_HOLDER_CACHE = "zkKeyHolderCache";
+
+	String ENCRYPTED_RANDOM_KEY_CACHE_METRIC = "keymanager.zk.encrypted.randomkey.cache";
 }
\ No newline at end of file
@@ -9,18 +9,25 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
-import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -29,14 +36,25 @@ import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import javax.security.auth.DestroyFailedException;
 
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.bouncycastle.util.encoders.Hex;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.event.CacheEntryEvictedListener;
+import org.cache2k.event.CacheEntryExpiredListener;
+import org.cache2k.event.CacheEntryRemovedListener;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
 import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -45,13 +63,15 @@ import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyRequestDto;
 import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
 import io.mosip.kernel.keymanagerservice.exception.NoUniqueAliasException;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
 import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
 import io.mosip.kernel.keymanagerservice.logger.KeymanagerLogger;
 import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
-import io.mosip.kernel.keymanagerservice.repository.KeyStoreRepository;
+import io.mosip.kernel.keymanagerservice.service.KeyAliasChangeListener;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
 import io.mosip.kernel.zkcryptoservice.constant.ZKCryptoErrorConstants;
@@ -64,6 +84,7 @@ import io.mosip.kernel.zkcryptoservice.exception.ZKCryptoException;
 import io.mosip.kernel.zkcryptoservice.exception.ZKKeyDerivationException;
 import io.mosip.kernel.zkcryptoservice.exception.ZKRandomKeyDecryptionException;
 import io.mosip.kernel.zkcryptoservice.service.spi.ZKCryptoManagerService;
+import jakarta.annotation.PreDestroy;
 
 /**
  * Service Implementation for {@link ZKCryptoManagerService} interface
@@ -74,7 +95,7 @@ import io.mosip.kernel.zkcryptoservice.service.spi.ZKCryptoManagerService;
  */
 @Service
 @Transactional
-public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, InitializingBean {
+public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, KeyAliasChangeListener, InitializingBean {
 
 	private static final Logger LOGGER = KeymanagerLogger.getLogger(ZKCryptoManagerServiceImpl.class);
 	
@@ -96,7 +117,89 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
     @Value("${mosip.kernel.zkcrypto.wrap.algorithm-name}")
 	private String aesECBTransformation;
 	
+	/**
+	 * Interval to reload the active random key indexes from DB, 0 or less disables the scheduled reload. The keys
+	 * generator publishes a purge event to reload the indexes right after generating keys, the event is delivered only
+	 * when mosip.kernel.keymanager.cache.purge.broadcast.enabled is true (default false). Otherwise the newly
+	 * generated keys are used only after this interval.
+	 */
+	@Value("${mosip.kernel.zkcrypto.active-key-index.refresh.inMins:30}")
+	private long activeKeyIndexRefreshInMins;
+
+	@Value("${mosip.kernel.zkcrypto.randomkey.cache.enabled:false}")
+	private boolean randomKeyCacheEnabled;
+
+	@Value("${mosip.kernel.zkcrypto.randomkey.cache.size:1000}")
+	private long randomKeyCacheSize;
+
+	@Value("${mosip.kernel.zkcrypto.randomkey.cache.expire.inMins:30}")
+	private long randomKeyCacheExpireInMins;
+
+	/** Threads for the attribute cipher operations of a request, 1 or less runs the attributes sequentially. */
+	@Value("${mosip.kernel.zkcrypto.attribute.thread-count:4}")
+	private int attributeThreadCount;
+
+	/** Attribute count from which the attribute cipher operations of a request run in parallel. */
+	@Value("${mosip.kernel.zkcrypto.attribute.parallel.min-count:16}")
+	private int attributeParallelMinCount;
+
+	/** Max time the resolved master key & public keys are used before resolving the current key alias again. */
+	@Value("${mosip.kernel.zkcrypto.key-holder.refresh.inMins:60}")
+	private long keyHolderRefreshInMins;
+
+	@Value("${mosip.kernel.zkcrypto.encrypted-randomkey.cache.enabled:true}")
+	private boolean encryptedRandomKeyCacheEnabled;
+
+	@Value("${mosip.kernel.zkcrypto.encrypted-randomkey.cache.size:10000}")
+	private long encryptedRandomKeyCacheSize;
+
+	@Value("${mosip.kernel.zkcrypto.encrypted-randomkey.cache.expire.inMins:60}")
+	private long encryptedRandomKeyCacheExpireInMins;
+
 	private List<KeyAlias> keyAliases = null;
+
+	/** 
+	 * Current master key alias. Key handle is resolved from keystore on every use, HSM key handles are bound
+	 * to the HSM session and the keystore clears its key references on provider reload.
+	 */
+	private volatile ZKKeyHolder<String> masterKeyHolder = null;
+
+	/** Current public key alias & certificate, keyed by public key reference id. */
+	private final Map<String, ZKKeyHolder<CertificateThumbprintInfo>> publicKeyHolders = new ConcurrentHashMap<>();
+
+	/**
+	 * Random key encrypted with all the public keys, keyed by random key index. Value holds the public key 
+	 * aliases used to encrypt, entry is not used after the public key rotation.
+	 */
+	private Cache<Integer, ImmutablePair<String, String>> encryptedRandomKeyCache = null;
+
+	private Counter encryptedRandomKeyCacheHits;
+
+	private Counter encryptedRandomKeyCacheMisses;
+
+	/**
+	 * Random keys unwrapped with the master key, keyed by random key index. Key material is wiped when
+	 * the entry is evicted, expired or removed.
+	 */
+	private Cache<Integer, CachedRandomKey> randomKeyCache = null;
+
+	/**
+	 * Master key alias used to unwrap the cached random keys, cache is purged when the current alias changes.
+	 */
+	private volatile String randomKeyCacheMasterAlias = null;
+
+	private Counter randomKeyCacheHits;
+
+	private Counter randomKeyCacheMisses;
+
+	/**
+	 * Active random key indexes in data_encrypt_keystore, random index picked from memory for every encryption.
+	 */
+	private volatile int[] activeKeyIndexes = new int[0];
+
+	private ScheduledExecutorService activeKeyIndexExecutor = null;
+
+	private ExecutorService attributeExecutor = null;
         
     @Autowired
 	private DataEncryptKeystoreRepository dataEncryptKeystoreRepository;
@@ -107,9 +210,6 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 	@Autowired
 	private KeymanagerDBHelper dbHelper;
 	
-	@Autowired
-	private KeyStoreRepository keyStoreRepository;
-
 	/**
 	 * Keystore instance to handles and store cryptographic keys.
 	 */
@@ -136,8 +236,41 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 	@Autowired
 	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
 
+	@Autowired
+	private CachePurgeEventHelper cachePurgeEventHelper;
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
+		loadActiveKeyIndexes();
+		if (randomKeyCacheEnabled) {
+			createRandomKeyCache();
+		}
+		if (encryptedRandomKeyCacheEnabled) {
+			createEncryptedRandomKeyCache();
+		}
+		// master key/public key generated or rotated in other instance.
+		cachePurgeEventHelper.registerPurgeListener(ZKCryptoManagerConstants.KEY_HOLDER_CACHE, cacheKey -> resetKeyHolders());
+		Metrics.gauge(ZKCryptoManagerConstants.ACTIVE_KEY_INDEX_METRIC + ".size", this, service -> service.activeKeyIndexes.length);
+		// random keys are generated/updated by the key generator job, purge event with the cache name reloads the indexes.
+		cachePurgeEventHelper.registerPurgeListener(ZKCryptoManagerConstants.ACTIVE_KEY_INDEX_CACHE, 
+						cacheKey -> loadActiveKeyIndexes());
+		if (attributeThreadCount > 1) {
+			attributeExecutor = Executors.newFixedThreadPool(attributeThreadCount, runnable -> {
+				Thread thread = new Thread(runnable, "zk-attribute-" + this.hashCode());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		if (activeKeyIndexRefreshInMins > 0) {
+			activeKeyIndexExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "zk-active-key-index-" + this.hashCode());
+				thread.setDaemon(true);
+				return thread;
+			});
+			activeKeyIndexExecutor.scheduleWithFixedDelay(this::loadActiveKeyIndexes, activeKeyIndexRefreshInMins, 
+						activeKeyIndexRefreshInMins, TimeUnit.MINUTES);
+		}
+
 		// temporary fix to resolve issue occurring for first time(softhsm)/third time(real hsm) symmetric key retrival from HSM.
 		for (int i = 0; i < 3; i++) {
 			try {
@@ -155,15 +288,22 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ZK_ENCRYPT, 
 						ZKCryptoManagerConstants.EMPTY, "Zero Knowledge Encryption.");
 		String id = cryptoRequestDto.getId();
-		Stream<CryptoDataDto> cryptoDataList = cryptoRequestDto.getZkDataAttributes().stream();
 		int randomKeyIndex = getRandomKeyIndex();
-		String encryptedKeyData = dataEncryptKeystoreRepository.findKeyById(randomKeyIndex);
-		Key secretRandomKey = getDecryptedRandomKey(encryptedKeyData);
+		Key secretRandomKey = getRandomKey(randomKeyIndex);
+		try {
+			return encryptAttributes(cryptoRequestDto, id, randomKeyIndex, secretRandomKey);
+		} finally {
+			releaseRandomKey(secretRandomKey);
+		}
+	}
+
+	private ZKCryptoResponseDto encryptAttributes(ZKCryptoRequestDto cryptoRequestDto, String id, int randomKeyIndex, 
+				Key secretRandomKey) {
 		Key derivedKey = getDerivedKey(id, secretRandomKey);
 
 		SecureRandom sRandom = new SecureRandom();
-		List<CryptoDataDto> responseCryptoData = new ArrayList<>();
-		cryptoDataList.forEach(reqCryptoData -> {
+		byte[] dbIndexBytes = getIndexBytes(randomKeyIndex);
+		List<CryptoDataDto> responseCryptoData = processAttributes(cryptoRequestDto.getZkDataAttributes(), reqCryptoData -> {
 			String identifier = reqCryptoData.getIdentifier();
 			byte[] dataToEncrypt = reqCryptoData.getValue().getBytes();
 			byte[] nonce = new byte[ZKCryptoManagerConstants.GCM_NONCE_LENGTH];
@@ -173,14 +313,12 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 			sRandom.nextBytes(aad);
 
 			byte[] encryptedData = doCipherOps(derivedKey, dataToEncrypt, Cipher.ENCRYPT_MODE, nonce, aad);
-			byte[] dbIndexBytes = getIndexBytes(randomKeyIndex);
-			responseCryptoData.add(getResponseCryptoData(encryptedData, dbIndexBytes, nonce, aad, identifier));
+			return getResponseCryptoData(encryptedData, dbIndexBytes, nonce, aad, identifier);
 		});
 		ZKCryptoResponseDto cryptoResponseDto = new ZKCryptoResponseDto();
 		cryptoResponseDto.setRankomKeyIndex(Integer.toString(randomKeyIndex));
 		cryptoResponseDto.setZkDataAttributes(responseCryptoData);
-		cryptoResponseDto.setEncryptedRandomKey(encryptRandomKey(secretRandomKey));
-		keymanagerUtil.destoryKey((SecretKey) secretRandomKey);
+		cryptoResponseDto.setEncryptedRandomKey(getEncryptedRandomKey(randomKeyIndex, secretRandomKey));
 		return cryptoResponseDto;
 	}
 
@@ -189,10 +327,8 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ZK_DECRYPT, 
 						ZKCryptoManagerConstants.EMPTY, "Zero Knowledge Decryption.");
 		String id = cryptoRequestDto.getId();
-		Stream<CryptoDataDto> cryptoDataList = cryptoRequestDto.getZkDataAttributes().stream();
-
-		List<CryptoDataDto> responseCryptoData = new ArrayList<>();
-		cryptoDataList.forEach(reqCryptoData -> {
+		List<ZKDecryptItem> decryptItems = new ArrayList<>();
+		cryptoRequestDto.getZkDataAttributes().forEach(reqCryptoData -> {
 			String identifier = reqCryptoData.getIdentifier();
 			String dataToDecrypt = reqCryptoData.getValue();
 
@@ -205,27 +341,313 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 			byte[] encryptedData = Arrays.copyOfRange(decodedData, ZKCryptoManagerConstants.GCM_NONCE_PLUS_INT_BYTES_PLUS_GCM_AAD_LEN,
 															decodedData.length);
 			
-			int randomKeyIndex = getIndexInt(dbIndexBytes);
-			String encryptedKeyData = dataEncryptKeystoreRepository.findKeyById(randomKeyIndex);
-			Key secretRandomKey = getDecryptedRandomKey(encryptedKeyData);
-			Key derivedKey = getDerivedKey(id, secretRandomKey);
-			byte[] decryptedData = doCipherOps(derivedKey, encryptedData, Cipher.DECRYPT_MODE, nonce, aad);
-			responseCryptoData.add(getResponseCryptoData(decryptedData, identifier));
-			keymanagerUtil.destoryKey((SecretKey) secretRandomKey);
+			decryptItems.add(new ZKDecryptItem(identifier, getIndexInt(dbIndexBytes), nonce, aad, encryptedData));
+		});
+
+		// attributes of an identity are mostly encrypted with one random key, so key is unwrapped & derived once per index.
+		Map<Integer, Key> derivedKeys = new LinkedHashMap<>();
+		for (ZKDecryptItem decryptItem : decryptItems) {
+			if (!derivedKeys.containsKey(decryptItem.randomKeyIndex)) {
+				Key secretRandomKey = getRandomKey(decryptItem.randomKeyIndex);
+				try {
+					derivedKeys.put(decryptItem.randomKeyIndex, getDerivedKey(id, secretRandomKey));
+				} finally {
+					releaseRandomKey(secretRandomKey);
+				}
+			}
+		}
+		List<CryptoDataDto> responseCryptoData = processAttributes(decryptItems, decryptItem -> {
+			byte[] decryptedData = doCipherOps(derivedKeys.get(decryptItem.randomKeyIndex), decryptItem.encryptedData, 
+						Cipher.DECRYPT_MODE, decryptItem.nonce, decryptItem.aad);
+			return getResponseCryptoData(decryptedData, decryptItem.identifier);
 		});
 		ZKCryptoResponseDto cryptoResponseDto = new ZKCryptoResponseDto();
 		cryptoResponseDto.setZkDataAttributes(responseCryptoData);		
 		return cryptoResponseDto;
 	}
+
+	/**
+	 * Runs the cipher operation for every attribute, in parallel on the attribute executor when the 
+	 * request has enough attributes. Response is in the request order.
+	 */
+	private <T> List<CryptoDataDto> processAttributes(List<T> attributes, Function<T, CryptoDataDto> attributeOps) {
+		if (Objects.isNull(attributeExecutor) || attributes.size() < attributeParallelMinCount) {
+			return attributes.stream().map(attributeOps).collect(Collectors.toList());
+		}
+		List<CompletableFuture<CryptoDataDto>> attributeFutures = attributes.stream()
+				.map(attribute -> CompletableFuture.supplyAsync(() -> attributeOps.apply(attribute), attributeExecutor))
+				.collect(Collectors.toList());
+		try {
+			return attributeFutures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static final class ZKDecryptItem {
+
+		private final String identifier;
+
+		private final int randomKeyIndex;
+
+		private final byte[] nonce;
+
+		private final byte[] aad;
+
+		private final byte[] encryptedData;
+
+		private ZKDecryptItem(String identifier, int randomKeyIndex, byte[] nonce, byte[] aad, byte[] encryptedData) {
+			this.identifier = identifier;
+			this.randomKeyIndex = randomKeyIndex;
+			this.nonce = nonce;
+			this.aad = aad;
+			this.encryptedData = encryptedData;
+		}
+	}
 	
+	private void createRandomKeyCache() {
+		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.RANDOM_KEY, ZKCryptoManagerConstants.EMPTY,
+				"Random key cache enabled, size: " + randomKeyCacheSize + ", expire in mins: " + randomKeyCacheExpireInMins);
+		randomKeyCache = new Cache2kBuilder<Integer, CachedRandomKey>() {}
+				.name("zkRandomKeyCache-" + this.hashCode())
+				.expireAfterWrite(randomKeyCacheExpireInMins, TimeUnit.MINUTES)
+				.entryCapacity(randomKeyCacheSize)
+				.addListener((CacheEntryEvictedListener<Integer, CachedRandomKey>)
+							(cache, entry) -> keymanagerUtil.destoryKey(entry.getValue()))
+				.addListener((CacheEntryExpiredListener<Integer, CachedRandomKey>)
+							(cache, entry) -> keymanagerUtil.destoryKey(entry.getValue()))
+				.addListener((CacheEntryRemovedListener<Integer, CachedRandomKey>)
+							(cache, entry) -> keymanagerUtil.destoryKey(entry.getValue()))
+				.build();
+		randomKeyCacheHits = Metrics.counter(ZKCryptoManagerConstants.RANDOM_KEY_CACHE_METRIC, "result", "hit");
+		randomKeyCacheMisses = Metrics.counter(ZKCryptoManagerConstants.RANDOM_KEY_CACHE_METRIC, "result", "miss");
+		Metrics.gauge(ZKCryptoManagerConstants.RANDOM_KEY_CACHE_METRIC + ".size", randomKeyCache, cache -> cache.asMap().size());
+		cachePurgeEventHelper.registerPurgeListener(ZKCryptoManagerConstants.RANDOM_KEY_CACHE, cacheKey -> {
+			if (Objects.isNull(cacheKey)) {
+				randomKeyCache.removeAll();
+				return;
+			}
+			randomKeyCache.remove(Integer.valueOf(cacheKey));
+		});
+	}
+
+	private void createEncryptedRandomKeyCache() {
+		encryptedRandomKeyCache = new Cache2kBuilder<Integer, ImmutablePair<String, String>>() {}
+				.name("zkEncryptedRandomKeyCache-" + this.hashCode())
+				.expireAfterWrite(encryptedRandomKeyCacheExpireInMins, TimeUnit.MINUTES)
+				.entryCapacity(encryptedRandomKeyCacheSize)
+				.build();
+		encryptedRandomKeyCacheHits = Metrics.counter(ZKCryptoManagerConstants.ENCRYPTED_RANDOM_KEY_CACHE_METRIC, "result", "hit");
+		encryptedRandomKeyCacheMisses = Metrics.counter(ZKCryptoManagerConstants.ENCRYPTED_RANDOM_KEY_CACHE_METRIC, "result", "miss");
+		Metrics.gauge(ZKCryptoManagerConstants.ENCRYPTED_RANDOM_KEY_CACHE_METRIC + ".size", encryptedRandomKeyCache, 
+					cache -> cache.asMap().size());
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (Objects.nonNull(activeKeyIndexExecutor)) {
+			activeKeyIndexExecutor.shutdownNow();
+		}
+		if (Objects.nonNull(attributeExecutor)) {
+			attributeExecutor.shutdown();
+		}
+		if (Objects.nonNull(randomKeyCache)) {
+			randomKeyCache.removeAll();
+		}
+	}
+
+	/**
+	 * Purges the resolved keys when the key of the ZK master key or public key application id & reference id 
+	 * is changed, so the new key is used without waiting for the key holder refresh.
+	 */
+	@Override
+	public void onKeyAliasChange(String applicationId, String referenceId) {
+		boolean masterKeyChanged = applicationId.equals(masterKeyAppId) && masterKeyRefId.equals(referenceId);
+		boolean pubKeyChanged = applicationId.equals(pubKeyApplicationId) && Objects.nonNull(referenceId) 
+				&& Arrays.asList(pubKeyReferenceId.split(KeymanagerConstant.COMMA)).contains(referenceId);
+		if (!masterKeyChanged && !pubKeyChanged) {
+			return;
+		}
+		purgeKeyHolders();
+		if (masterKeyChanged) {
+			// random keys unwrapped with the previous master key.
+			purgeRandomKeyCache();
+		}
+	}
+
+	/**
+	 * Removes the resolved master key alias, public keys & encrypted random keys in all the instances. Called 
+	 * when the master key or public key is generated, uploaded or revoked.
+	 */
+	public void purgeKeyHolders() {
+		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.MASTER_KEY, ZKCryptoManagerConstants.EMPTY,
+				"Purging the master key & public key holders.");
+		resetKeyHolders();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			// holders reloaded by other requests before the commit still have the previous key.
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					resetKeyHolders();
+				}
+			});
+		}
+		cachePurgeEventHelper.publishPurgeEvent(ZKCryptoManagerConstants.KEY_HOLDER_CACHE, null);
+	}
+
+	private void resetKeyHolders() {
+		masterKeyHolder = null;
+		publicKeyHolders.clear();
+		if (Objects.nonNull(encryptedRandomKeyCache)) {
+			encryptedRandomKeyCache.removeAll();
+		}
+	}
+
+	/**
+	 * Removes all the unwrapped random keys from cache in all the instances. To be called after the
+	 * master key rotation or re-wrapping of the random keys.
+	 */
+	public void purgeRandomKeyCache() {
+		if (Objects.isNull(randomKeyCache)) {
+			return;
+		}
+		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.RANDOM_KEY, ZKCryptoManagerConstants.EMPTY,
+				"Purging all the random keys from Cache.");
+		randomKeyCache.removeAll();
+		cachePurgeEventHelper.publishPurgeEvent(ZKCryptoManagerConstants.RANDOM_KEY_CACHE, null);
+	}
+
+	/**
+	 * Returns the unwrapped random key for the index. Keys held in the random key cache are owned by 
+	 * the cache & wiped when removed from the cache, callers get their own copy of the key and release 
+	 * it with {@link #releaseRandomKey(Key)}.
+	 */
+	private Key getRandomKey(int randomKeyIndex) {
+		if (Objects.isNull(randomKeyCache)) {
+			return getDecryptedRandomKey(dataEncryptKeystoreRepository.findKeyById(randomKeyIndex));
+		}
+		String masterKeyAlias = getMasterKeyHolder().alias;
+		if (!masterKeyAlias.equals(randomKeyCacheMasterAlias)) {
+			// master key rotated, keys unwrapped with the previous master key are not reused.
+			LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.RANDOM_KEY, ZKCryptoManagerConstants.EMPTY,
+				"Master key alias changed, purging the random key Cache.");
+			randomKeyCache.removeAll();
+			randomKeyCacheMasterAlias = masterKeyAlias;
+		}
+		CachedRandomKey cachedKey = randomKeyCache.peek(randomKeyIndex);
+		SecretKey randomKey = Objects.isNull(cachedKey) ? null : cachedKey.copy();
+		if (Objects.nonNull(randomKey)) {
+			randomKeyCacheHits.increment();
+			return randomKey;
+		}
+		randomKeyCacheMisses.increment();
+		randomKey = randomKeyCache.computeIfAbsent(randomKeyIndex, index -> {
+			byte[] unwrappedKey = doFinal(dataEncryptKeystoreRepository.findKeyById(index), Cipher.DECRYPT_MODE);
+			return new CachedRandomKey(unwrappedKey);
+		}).copy();
+		if (Objects.isNull(randomKey)) {
+			// purged right after loading, unwrapped again without caching.
+			randomKey = new CachedRandomKey(doFinal(dataEncryptKeystoreRepository.findKeyById(randomKeyIndex), 
+								Cipher.DECRYPT_MODE));
+		}
+		return randomKey;
+	}
+
+	private void releaseRandomKey(Key secretRandomKey) {
+		keymanagerUtil.destoryKey((SecretKey) secretRandomKey);
+	}
+
+	/**
+	 * AES random key, key bytes are wiped on destroy. SecretKeySpec does not support destroy.
+	 */
+	private static final class CachedRandomKey implements SecretKey {
+
+		private static final long serialVersionUID = 1L;
+
+		private final byte[] keyBytes;
+
+		private volatile boolean destroyed = false;
+
+		private CachedRandomKey(byte[] keyBytes) {
+			this.keyBytes = keyBytes;
+		}
+
+		@Override
+		public String getAlgorithm() {
+			return "AES";
+		}
+
+		@Override
+		public String getFormat() {
+			return "RAW";
+		}
+
+		@Override
+		public synchronized byte[] getEncoded() {
+			if (destroyed) {
+				throw new IllegalStateException("Random key is destroyed.");
+			}
+			return keyBytes.clone();
+		}
+
+		/**
+		 * @return copy of the key, null when the key is already destroyed.
+		 */
+		private synchronized CachedRandomKey copy() {
+			return destroyed ? null : new CachedRandomKey(keyBytes.clone());
+		}
+
+		@Override
+		public synchronized void destroy() throws DestroyFailedException {
+			destroyed = true;
+			Arrays.fill(keyBytes, (byte) 0);
+		}
+
+		@Override
+		public boolean isDestroyed() {
+			return destroyed;
+		}
+	}
+
 	@SuppressWarnings("java:S2245") // added suppress for sonarcloud. random index to fetch the key from DB.
 	private int getRandomKeyIndex() {
-		List<Integer> indexes = dataEncryptKeystoreRepository.getIdsByKeyStatus(ZKCryptoManagerConstants.ACTIVE_STATUS);
+		int[] indexes = activeKeyIndexes;
+		if (indexes.length == 0) {
+			// keys not available at startup or load failed, retry the load before failing the request.
+			loadActiveKeyIndexes();
+			indexes = activeKeyIndexes;
+		}
+		if (indexes.length == 0) {
+			LOGGER.error(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ACTIVE_KEY_INDEX, 
+						ZKCryptoManagerConstants.EMPTY, "No active random key found in DB.");
+			throw new ZKCryptoException(ZKCryptoErrorConstants.NO_ACTIVE_RANDOM_KEY.getErrorCode(),
+						ZKCryptoErrorConstants.NO_ACTIVE_RANDOM_KEY.getErrorMessage());
+		}
 		// Removed plus one ( + 1) because 10000 random number is generated
 		// but in DB we have indexes from 0 - 9999 only.
 		// So removed + 1
-		int randomNum = ThreadLocalRandom.current().nextInt(0, indexes.size());
-		return indexes.get(randomNum);
+		int randomNum = ThreadLocalRandom.current().nextInt(0, indexes.length);
+		return indexes[randomNum];
+	}
+
+	/**
+	 * Reloads the active random key indexes from DB. Called at startup, on schedule and on the purge event
+	 * for the active key index cache. Indexes are replaced as a new array, so concurrent encryptions are not blocked.
+	 */
+	public synchronized void loadActiveKeyIndexes() {
+		try {
+			List<Integer> indexes = dataEncryptKeystoreRepository.getIdsByKeyStatus(ZKCryptoManagerConstants.ACTIVE_STATUS);
+			activeKeyIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+			LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ACTIVE_KEY_INDEX, 
+						ZKCryptoManagerConstants.EMPTY, "Active random key indexes loaded, count: " + activeKeyIndexes.length);
+		} catch (RuntimeException e) {
+			// keeps the previously loaded indexes.
+			LOGGER.error(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ACTIVE_KEY_INDEX, 
+						ZKCryptoManagerConstants.EMPTY, "Error loading active random key indexes. Error: " + e.getMessage());
+		}
 	}
 
 	private int getIndexInt(byte[] indexBytes) {
@@ -287,20 +709,67 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 	}
 
 	private Key getMasterKeyFromHSM() {
+		return keyStore.getSymmetricKey(getMasterKeyHolder().alias);
+	}
+
+	private ZKKeyHolder<String> getMasterKeyHolder() {
+		ZKKeyHolder<String> keyHolder = masterKeyHolder;
+		if (Objects.nonNull(keyHolder) && keyHolder.isValid()) {
+			return keyHolder;
+		}
 		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.MASTER_KEY, 
-						ZKCryptoManagerConstants.RANDOM_KEY, "Retrieve Master Key from HSM.");
-		String keyAlias = getKeyAlias(masterKeyAppId, masterKeyRefId);
-		if (Objects.nonNull(keyAlias)) {
-			return keyStore.getSymmetricKey(keyAlias);
+						ZKCryptoManagerConstants.RANDOM_KEY, "Retrieve current Master Key alias.");
+		KeyAlias keyAlias = getCurrentKeyAlias(masterKeyAppId, masterKeyRefId);
+		keyHolder = new ZKKeyHolder<>(keyAlias.getAlias(), keyAlias.getAlias(), 
+						getKeyHolderValidTill(masterKeyAppId, masterKeyRefId, keyAlias));
+		masterKeyHolder = keyHolder;
+		return keyHolder;
+	}
+
+	private ZKKeyHolder<CertificateThumbprintInfo> getPublicKeyHolder(String pubKeyRefId) {
+		ZKKeyHolder<CertificateThumbprintInfo> keyHolder = publicKeyHolders.get(pubKeyRefId);
+		if (Objects.nonNull(keyHolder) && keyHolder.isValid()) {
+			return keyHolder;
 		}
-		
-		LOGGER.error(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.MASTER_KEY,
-						ZKCryptoManagerConstants.MASTER_KEY, "No Key Alias found.");
-		throw new NoUniqueAliasException(ZKCryptoErrorConstants.NO_UNIQUE_ALIAS.getErrorCode(),
-						ZKCryptoErrorConstants.NO_UNIQUE_ALIAS.getErrorMessage());
+		// throws error in case current key is not available, key will not be generated here.
+		KeyAlias keyAlias = getCurrentKeyAlias(pubKeyApplicationId, pubKeyRefId);
+		CertificateThumbprintInfo certInfo = keyManagerService.getCertificateThumbprintInfo(pubKeyApplicationId, 
+						Optional.of(pubKeyRefId));
+		keyHolder = new ZKKeyHolder<>(certInfo.getAlias(), certInfo, getKeyHolderValidTill(pubKeyApplicationId, pubKeyRefId, keyAlias));
+		publicKeyHolders.put(pubKeyRefId, keyHolder);
+		return keyHolder;
 	}
 
-	private String getKeyAlias(String keyAppId, String keyRefId) {
+	/**
+	 * Key is used till the pre expire time of the key alias, bounded by the refresh interval to pick
+	 * up the keys generated before the expiry of the current key.
+	 */
+	private LocalDateTime getKeyHolderValidTill(String keyAppId, String keyRefId, KeyAlias keyAlias) {
+		LocalDateTime refreshAt = DateUtils.getUTCCurrentDateTime().plusMinutes(keyHolderRefreshInMins);
+		LocalDateTime preExpireAt = keyAlias.getKeyExpiryTime().minusDays(dbHelper.getPreExpireDays(keyAppId, keyRefId));
+		return preExpireAt.isBefore(refreshAt) ? preExpireAt : refreshAt;
+	}
+
+	private static final class ZKKeyHolder<T> {
+
+		private final String alias;
+
+		private final T key;
+
+		private final LocalDateTime validTill;
+
+		private ZKKeyHolder(String alias, T key, LocalDateTime validTill) {
+			this.alias = alias;
+			this.key = key;
+			this.validTill = validTill;
+		}
+
+		private boolean isValid() {
+			return DateUtils.getUTCCurrentDateTime().isBefore(validTill);
+		}
+	}
+
+	private KeyAlias getCurrentKeyAlias(String keyAppId, String keyRefId) {
 		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.MASTER_KEY, 
 						ZKCryptoManagerConstants.RANDOM_KEY, "Retrieve Master Key Alias from DB.");
 
@@ -311,7 +780,7 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 		if (!currentKeyAliases.isEmpty() && currentKeyAliases.size() == 1) {
 			LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.MASTER_CURRENT_ALIAS, "getKeyAlias",
 					"CurrentKeyAlias size is one. Will decrypt random symmetric key for this alias");
-			return currentKeyAliases.get(0).getAlias();
+			return currentKeyAliases.get(0);
 		}
 
 		LOGGER.error(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.MASTER_KEY, 
@@ -368,33 +837,46 @@ public class ZKCryptoManagerServiceImpl implements ZKCryptoManagerService, Initi
 		return resCryptoData;
 	}
 
-	private String encryptRandomKey(Key secretRandomKey) {
+	/**
+	 * Returns the random key encrypted with all the public keys, reused from cache for the random key index 
+	 * till any of the public keys is rotated.
+	 */
+	private String getEncryptedRandomKey(int randomKeyIndex, Key secretRandomKey) {
+		List<CertificateThumbprintInfo> publicKeyCerts = new ArrayList<>();
+		for (String pubKeyRefId : pubKeyReferenceId.split(KeymanagerConstant.COMMA)) {
+			if (Objects.isNull(pubKeyRefId) || pubKeyRefId.trim().length() == 0) 
+				continue;
+			publicKeyCerts.add(getPublicKeyHolder(pubKeyRefId).key);
+		}
+		if (Objects.isNull(encryptedRandomKeyCache)) {
+			return encryptRandomKey(secretRandomKey, publicKeyCerts);
+		}
+		String publicKeyAliases = publicKeyCerts.stream().map(CertificateThumbprintInfo::getAlias)
+					.collect(Collectors.joining(KeymanagerConstant.COMMA));
+		ImmutablePair<String, String> cachedEncryptedKey = encryptedRandomKeyCache.peek(randomKeyIndex);
+		if (Objects.nonNull(cachedEncryptedKey) && publicKeyAliases.equals(cachedEncryptedKey.getLeft())) {
+			encryptedRandomKeyCacheHits.increment();
+			return cachedEncryptedKey.getRight();
+		}
+		encryptedRandomKeyCacheMisses.increment();
+		String encryptedRandomKey = encryptRandomKey(secretRandomKey, publicKeyCerts);
+		encryptedRandomKeyCache.put(randomKeyIndex, ImmutablePair.of(publicKeyAliases, encryptedRandomKey));
+		return encryptedRandomKey;
+	}
+
+	private String encryptRandomKey(Key secretRandomKey, List<CertificateThumbprintInfo> publicKeyCerts) {
 		LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ENCRYPT_RANDOM_KEY, 
 						ZKCryptoManagerConstants.EMPTY, "Encrypting Random Key with Public Key.");
 		
-		String[] pubKeyReferenceIds = pubKeyReferenceId.split(KeymanagerConstant.COMMA);
 		List<String> encryptedRandomKeyList = new ArrayList<>();
 
-		for (String pubKeyRefId : pubKeyReferenceIds) {
-			if (Objects.isNull(pubKeyRefId) || pubKeyRefId.trim().length() == 0) 
-				continue;
+		for (CertificateThumbprintInfo certInfo : publicKeyCerts) {
 			LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ENCRYPT_RANDOM_KEY, 
-						ZKCryptoManagerConstants.EMPTY, "Encrypting Random Key with Reference Id:" + pubKeyRefId);
-
-			String keyAlias = getKeyAlias(pubKeyApplicationId, pubKeyRefId);
-			Optional<io.mosip.kernel.keymanagerservice.entity.KeyStore> dbKeyStore = keyStoreRepository.findByAlias(keyAlias);
-			if (!dbKeyStore.isPresent()) {
-				LOGGER.info(ZKCryptoManagerConstants.SESSIONID, ZKCryptoManagerConstants.ENCRYPT_RANDOM_KEY, 
-							ZKCryptoManagerConstants.ENCRYPT_RANDOM_KEY, "Key in DBStore does not exist for this alias. Throwing exception");
-				throw new NoUniqueAliasException(ZKCryptoErrorConstants.NO_UNIQUE_ALIAS.getErrorCode(),
-								ZKCryptoErrorConstants.NO_UNIQUE_ALIAS.getErrorMessage());
-			}
-			String certificateData = dbKeyStore.get().getCertificateData();
-			X509Certificate x509Cert = (X509Certificate) keymanagerUtil.convertToCertificate(certificateData);
-			PublicKey publicKey = x509Cert.getPublicKey();
+						ZKCryptoManagerConstants.EMPTY, "Encrypting Random Key with Key Alias:" + certInfo.getAlias());
+
+			PublicKey publicKey = certInfo.getCertificate().getPublicKey();
 			byte[] encryptedRandomKey = cryptoCore.asymmetricEncrypt(publicKey, secretRandomKey.getEncoded());
-			byte[] certThumbprint = cryptomanagerUtil.getCertificateThumbprint(x509Cert);
-			byte[] concatedData = cryptomanagerUtil.concatCertThumbprint(certThumbprint, encryptedRandomKey);
+			byte[] concatedData = cryptomanagerUtil.concatCertThumbprint(certInfo.getCertThumbprint(), encryptedRandomKey);
 			encryptedRandomKeyList.add(CryptoUtil.encodeToURLSafeBase64(concatedData));
 		}
 		return encryptedRandomKeyList.stream().collect(Collectors.joining(KeymanagerConstant.DOT));
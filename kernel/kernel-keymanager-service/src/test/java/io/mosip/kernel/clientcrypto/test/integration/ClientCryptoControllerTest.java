@@ -1,8 +1,14 @@
 package io.mosip.kernel.clientcrypto.test.integration;
 
 import io.mosip.kernel.clientcrypto.constant.ClientType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,6 +48,15 @@ public class ClientCryptoControllerTest {
 	private static final String public_key = "AAEACwACAHIAIINxl2dEhLP4GpDMjUal1yT9UtduBlILZPKh2hszFGmqABAAFwALCAAAAQABAQDiSa/AdVmDrj+ypFywexe/eSaSsrIoO5Ns0jp7niMu4hiFIwsFT7yWx2aQUQcdX5OjyXjv/XJctGxFcphLXke5fwAoW6BsbeM//1Mlhq9YvdMKlwMjhKcd+7MHHAXPUKGVmMjIJe6kWwUWh7FaZyu5hDymM5MJyYZRxz5fRos/N9ykiBxjWKZK06ZpIYI6Tj9rUNZ6HAdbJH2RmBHuO0knpbXdB+lnnVhvArAt3KWoyH3YzodHeOLJRe/Y8a+p8zRZb5h1tqlcLgshpNAqb+WJgyq2xDb0RJwzuyjjHPmJrDqlBMXHestz+ADRwXQL44iVb84LcuMbQTQ1hGcawtBj";
 	private static final String dataToEncrypt = "HeloolHelloHelloHello";
 
+	/**
+	 * Local client keys are written to a temp directory instead of the working directory.
+	 */
+	@BeforeClass
+	public static void setupKeysPath() throws IOException {
+		Path keysPath = Files.createTempDirectory("clientcrypto-keys");
+		System.setProperty("mosip.kernel.clientcrypto.keys.path", keysPath.toString());
+	}
+
 	@Before
 	public void init() {
 		mapper = JsonMapper.builder().addModule(new AfterburnerModule()).build();
@@ -2,8 +2,11 @@ package io.mosip.kernel.crypto.jce.test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteBuffer;
+
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
@@ -25,6 +28,7 @@ import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
 import io.mosip.kernel.core.crypto.exception.SignatureException;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
 
 @SpringBootTest
 @RunWith(SpringRunner.class)
@@ -197,6 +201,38 @@ public class CryptoCoreTest {
 		cryptoCore.symmetricDecrypt(setSymmetricUp(32, "AES"), new byte[121], MOCKAAD.getBytes());
 	}
 
+	@Test
+	public void testAESSymmetricDecryptWithOffset() throws java.security.NoSuchAlgorithmException {
+		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
+		byte[] encryptedData = cryptoCore.symmetricEncrypt(secretKeySpec, data, MOCKAAD.getBytes());
+		byte[] prefixedData = new byte[encryptedData.length + 5];
+		System.arraycopy(encryptedData, 0, prefixedData, 5, encryptedData.length);
+		assertArrayEquals(data, ((CryptoCore) cryptoCore).symmetricDecrypt(secretKeySpec, prefixedData, 5,
+				encryptedData.length, MOCKAAD.getBytes()));
+	}
+
+	@Test(expected = InvalidDataException.class)
+	public void testAESSymmetricDecryptWithInvalidOffset() throws java.security.NoSuchAlgorithmException {
+		((CryptoCore) cryptoCore).symmetricDecrypt(setSymmetricUp(32, "AES"), new byte[32], 20, 20,
+				MOCKAAD.getBytes());
+	}
+
+	@Test
+	public void testAESSymmetricByteBufferEncryptDecrypt() throws java.security.NoSuchAlgorithmException {
+		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
+		ByteBuffer directData = ByteBuffer.allocateDirect(data.length).put(data).flip();
+		ByteBuffer encryptedData = ((CryptoCore) cryptoCore).symmetricEncrypt(secretKeySpec, directData,
+				MOCKAAD.getBytes());
+		byte[] encryptedBytes = new byte[encryptedData.remaining()];
+		encryptedData.duplicate().get(encryptedBytes);
+		assertArrayEquals(data, cryptoCore.symmetricDecrypt(secretKeySpec, encryptedBytes, MOCKAAD.getBytes()));
+		ByteBuffer decryptedData = ((CryptoCore) cryptoCore).symmetricDecrypt(secretKeySpec, encryptedData,
+				MOCKAAD.getBytes());
+		byte[] decryptedBytes = new byte[decryptedData.remaining()];
+		decryptedData.get(decryptedBytes);
+		assertArrayEquals(data, decryptedBytes);
+	}
+
 	@Test(expected = InvalidKeyException.class)
 	public void testAESSymmetricDecryptInvalidKeyLength() throws java.security.NoSuchAlgorithmException {
 		SecretKeySpec secretKeySpec = setSymmetricUp(32, "AES");
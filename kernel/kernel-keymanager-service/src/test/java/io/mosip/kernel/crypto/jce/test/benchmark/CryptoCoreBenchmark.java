@@ -0,0 +1,120 @@
+package io.mosip.kernel.crypto.jce.test.benchmark;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.crypto.jce.core.CryptoCore;
+
+/**
+ * JMH benchmark for AES-GCM encryption & decryption in {@link CryptoCore}. The
+ * per call variants repeat the Cipher lookup & key copy done before the Cipher
+ * instances were reused, to compare against the current implementation.
+ *
+ * Run with main method from test classpath, not executed as part of unit tests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoCoreBenchmark {
+
+	private static final String SYMMETRIC_ALGORITHM = "AES/GCM/NoPadding";
+
+	private static final int TAG_LENGTH = 128;
+
+	private static final int IV_LENGTH = 16;
+
+	@Param({ "1024", "16384", "131072", "1048576" })
+	private int payloadSize;
+
+	private CryptoCore cryptoCore;
+
+	private SecretKey secretKey;
+
+	private byte[] data;
+
+	private byte[] aad;
+
+	private byte[] encryptedData;
+
+	private final SecureRandom random = new SecureRandom();
+
+	@Setup
+	public void setup() {
+		cryptoCore = new CryptoCore();
+		ReflectionTestUtils.setField(cryptoCore, "symmetricAlgorithm", SYMMETRIC_ALGORITHM);
+		ReflectionTestUtils.setField(cryptoCore, "tagLength", TAG_LENGTH);
+		cryptoCore.init();
+		byte[] keyBytes = new byte[32];
+		random.nextBytes(keyBytes);
+		secretKey = new SecretKeySpec(keyBytes, "AES");
+		data = new byte[payloadSize];
+		random.nextBytes(data);
+		aad = new byte[32];
+		random.nextBytes(aad);
+		encryptedData = cryptoCore.symmetricEncrypt(secretKey, data, aad);
+	}
+
+	@Benchmark
+	public byte[] symmetricEncrypt() {
+		return cryptoCore.symmetricEncrypt(secretKey, data, aad);
+	}
+
+	@Benchmark
+	public byte[] symmetricDecrypt() {
+		return cryptoCore.symmetricDecrypt(secretKey, encryptedData, aad);
+	}
+
+	@Benchmark
+	public byte[] symmetricEncryptPerCallInstance() throws Exception {
+		Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+		byte[] iv = new byte[cipher.getBlockSize()];
+		random.nextBytes(iv);
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey.getEncoded(), "AES"),
+				new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(aad);
+		byte[] output = new byte[cipher.getOutputSize(data.length) + cipher.getBlockSize()];
+		byte[] processData = cipher.doFinal(data);
+		System.arraycopy(processData, 0, output, 0, processData.length);
+		System.arraycopy(iv, 0, output, processData.length, iv.length);
+		return output;
+	}
+
+	@Benchmark
+	public byte[] symmetricDecryptPerCallInstance() throws Exception {
+		Cipher cipher = Cipher.getInstance(SYMMETRIC_ALGORITHM);
+		byte[] iv = Arrays.copyOfRange(encryptedData, encryptedData.length - IV_LENGTH, encryptedData.length);
+		cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(secretKey.getEncoded(), "AES"),
+				new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(aad);
+		return cipher.doFinal(Arrays.copyOf(encryptedData, encryptedData.length - IV_LENGTH));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CryptoCoreBenchmark.class.getSimpleName()).build()).run();
+	}
+}
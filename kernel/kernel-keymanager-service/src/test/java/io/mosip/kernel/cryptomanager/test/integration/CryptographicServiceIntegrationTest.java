@@ -1,21 +1,36 @@
 package io.mosip.kernel.cryptomanager.test.integration;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 import javax.crypto.SecretKey;
 
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bouncycastle.util.encoders.Hex;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,6 +50,7 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -43,14 +59,19 @@ import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptoWithPinResponseDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerBatchResponseDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
 import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.cryptomanager.util.CryptomanagerUtils;
 import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
 import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateResponseDto;
 import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyRequestDto;
 import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyResponseDto;
+import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
+import io.mosip.kernel.keymanagerservice.helper.SessionKeyDecrytorHelper;
 import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
@@ -88,6 +109,9 @@ public class CryptographicServiceIntegrationTest {
 	@MockBean
 	private KeymanagerUtil keymanagerUtil;
 
+	@MockBean
+	private SessionKeyDecrytorHelper sessionKeyDecrytorHelper;
+
 	private KeyPair keyPair;
 
 	private Certificate cert;
@@ -152,8 +176,8 @@ public class CryptographicServiceIntegrationTest {
 		when(cryptomanagerUtil.concatByteArrays(Mockito.any(), Mockito.any())).thenReturn("CONCATEDHEADER".getBytes());
 		when(keyManagerService.getCertificate(Mockito.eq(appid), Mockito.eq(Optional.of(refid))))
 				.thenReturn(responseDto);
-		when(cryptomanagerUtil.getCertificate(Mockito.any())).thenReturn(cert);
-		when(cryptomanagerUtil.getCertificateThumbprint(Mockito.any())).thenReturn("CERTTHUMBPRINT".getBytes());
+		when(cryptomanagerUtil.getCertificateThumbprintInfo(Mockito.any(), Mockito.any()))
+				.thenReturn(getCertificateThumbprintInfo());
 		when(cryptomanagerUtil.concatCertThumbprint(Mockito.any(), Mockito.any()))
 				.thenReturn("CONCATEDENCRYPTEDSESSIONKEY".getBytes());
 
@@ -206,6 +230,209 @@ public class CryptographicServiceIntegrationTest {
 		assertThat(cryptomanagerResponseDto.getData(), isA(String.class));
 	}
 
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testEncryptDecryptStream() throws Exception {
+		byte[] data = new byte[150000];
+		new Random().nextBytes(data);
+		mockStreamCrypto();
+
+		MvcResult encryptResult = mockMvc
+				.perform(post("/encrypt.stream").param("applicationId", "REGISTRATION").param("referenceId", "ref123")
+						.contentType(MediaType.APPLICATION_OCTET_STREAM).content(data))
+				.andExpect(status().isOk()).andReturn();
+		byte[] encryptedData = encryptResult.getResponse().getContentAsByteArray();
+
+		MvcResult decryptResult = mockMvc
+				.perform(post("/decrypt.stream").param("applicationId", "REGISTRATION").param("referenceId", "ref123")
+						.contentType(MediaType.APPLICATION_OCTET_STREAM).content(encryptedData))
+				.andExpect(status().isOk()).andReturn();
+		assertArrayEquals(data, decryptResult.getResponse().getContentAsByteArray());
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testDecryptTruncatedStream() throws Exception {
+		byte[] data = new byte[70000];
+		new Random().nextBytes(data);
+		mockStreamCrypto();
+
+		MvcResult encryptResult = mockMvc
+				.perform(post("/encrypt.stream").param("applicationId", "REGISTRATION").param("referenceId", "ref123")
+						.contentType(MediaType.APPLICATION_OCTET_STREAM).content(data))
+				.andExpect(status().isOk()).andReturn();
+		byte[] encryptedData = encryptResult.getResponse().getContentAsByteArray();
+		// dropping the last frame (4 bytes length, 12 bytes nonce, 70000 - 65536 data & 9 bytes mock tag).
+		byte[] truncatedData = Arrays.copyOf(encryptedData, encryptedData.length - (4 + 12 + 4464 + 9));
+
+		mockMvc.perform(post("/decrypt.stream").param("applicationId", "REGISTRATION").param("referenceId", "ref123")
+						.contentType(MediaType.APPLICATION_OCTET_STREAM).content(truncatedData))
+				.andExpect(content().string(containsString("KER-CRY-INVALID_AAD")));
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testDecryptBatch() throws Exception {
+		String thumbprintHex = "01".repeat(32);
+		String otherThumbprintHex = "02".repeat(32);
+		Object[] keys = new Object[] { keyPair.getPrivate(), cert };
+		when(sessionKeyDecrytorHelper.getKeyObjectsByThumbprint("REGISTRATION", "ref123", thumbprintHex)).thenReturn(keys);
+		when(sessionKeyDecrytorHelper.getKeyObjectsByThumbprint("REGISTRATION", "ref123", otherThumbprintHex))
+				.thenThrow(new KeymanagerServiceException("KER-KMS-TEST", "Key not found."));
+		when(sessionKeyDecrytorHelper.decryptSessionKey(Mockito.eq(keys), Mockito.any()))
+				.thenReturn(generator.getSymmetricKey().getEncoded());
+		when(cryptoCore.symmetricDecrypt(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+		when(cryptomanagerUtil.isDataValid(Mockito.anyString())).thenReturn(true);
+		when(cryptomanagerUtil.hasKeyAccess(Mockito.anyString())).thenReturn(true);
+		when(cryptomanagerUtil.parseEncryptKeyHeader(Mockito.any())).thenReturn(new byte[0]);
+		when(cryptomanagerUtil.decodeBase64Data(Mockito.anyString()))
+				.thenAnswer(invocation -> CryptoUtil.decodeURLSafeBase64(invocation.getArgument(0)));
+
+		List<CryptomanagerRequestDto> batchRequest = new ArrayList<>();
+		batchRequest.add(getBatchDecryptRequest((byte) 1, "ITEM0"));
+		batchRequest.add(getBatchDecryptRequest((byte) 2, "ITEM1"));
+		batchRequest.add(getBatchDecryptRequest((byte) 1, "ITEM2"));
+		RequestWrapper<CryptomanagerBatchRequestDto> batchRequestWrapper = new RequestWrapper<>();
+		batchRequestWrapper.setId(ID);
+		batchRequestWrapper.setVersion(VERSION);
+		batchRequestWrapper.setRequesttime(LocalDateTime.now(ZoneId.of("UTC")));
+		batchRequestWrapper.setRequest(new CryptomanagerBatchRequestDto(batchRequest));
+		objectMapper.registerModule(new JavaTimeModule());
+
+		MvcResult result = mockMvc.perform(post("/decryptBatch").contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(batchRequestWrapper)))
+				.andExpect(status().isOk()).andReturn();
+		ResponseWrapper<?> responseWrapper = objectMapper.readValue(result.getResponse().getContentAsString(),
+				ResponseWrapper.class);
+		CryptomanagerBatchResponseDto batchResponseDto = objectMapper.readValue(
+				objectMapper.writeValueAsString(responseWrapper.getResponse()), CryptomanagerBatchResponseDto.class);
+
+		assertEquals(3, batchResponseDto.getBatchResponse().size());
+		assertEquals(CryptoUtil.encodeToURLSafeBase64("ITEM0".getBytes()), batchResponseDto.getBatchResponse().get(0).getData());
+		assertNull(batchResponseDto.getBatchResponse().get(0).getError());
+		assertEquals("KER-KMS-TEST", batchResponseDto.getBatchResponse().get(1).getError().getErrorCode());
+		assertEquals(CryptoUtil.encodeToURLSafeBase64("ITEM2".getBytes()), batchResponseDto.getBatchResponse().get(2).getData());
+		verify(sessionKeyDecrytorHelper, times(1)).getKeyObjectsByThumbprint("REGISTRATION", "ref123", thumbprintHex);
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void testEncryptBatch() throws Exception {
+		when(cryptoCore.asymmetricEncrypt(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+			byte[] encryptedKey = new byte[256];
+			new Random().nextBytes(encryptedKey);
+			return encryptedKey;
+		});
+		when(cryptoCore.symmetricEncrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+		when(cryptomanagerUtil.isDataValid(Mockito.anyString())).thenReturn(true);
+		when(cryptomanagerUtil.getCertificateThumbprintInfo("REGISTRATION", "ref123"))
+				.thenReturn(getCertificateThumbprintInfo());
+		when(cryptomanagerUtil.getCertificateThumbprintInfo("REGISTRATION", "ref456"))
+				.thenThrow(new KeymanagerServiceException("KER-KMS-TEST", "Key not found."));
+		when(cryptomanagerUtil.generateRandomBytes(Mockito.anyInt()))
+				.thenAnswer(invocation -> new byte[(int) invocation.getArgument(0)]);
+		when(cryptomanagerUtil.decodeBase64Data(Mockito.anyString()))
+				.thenAnswer(invocation -> CryptoUtil.decodeURLSafeBase64(invocation.getArgument(0)));
+		when(cryptomanagerUtil.concatCertThumbprint(Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> concat(invocation.getArgument(0), invocation.getArgument(1)));
+		when(cryptomanagerUtil.concatByteArrays(Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> concat(invocation.getArgument(0), invocation.getArgument(1)));
+
+		List<CryptomanagerRequestDto> batchRequest = new ArrayList<>();
+		batchRequest.add(getBatchEncryptRequest("ref123", "ITEM0"));
+		batchRequest.add(getBatchEncryptRequest("ref456", "ITEM1"));
+		batchRequest.add(getBatchEncryptRequest("ref123", "ITEM2"));
+		RequestWrapper<CryptomanagerBatchRequestDto> batchRequestWrapper = new RequestWrapper<>();
+		batchRequestWrapper.setId(ID);
+		batchRequestWrapper.setVersion(VERSION);
+		batchRequestWrapper.setRequesttime(LocalDateTime.now(ZoneId.of("UTC")));
+		batchRequestWrapper.setRequest(new CryptomanagerBatchRequestDto(batchRequest));
+		objectMapper.registerModule(new JavaTimeModule());
+
+		MvcResult result = mockMvc.perform(post("/encryptBatch").contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(batchRequestWrapper)))
+				.andExpect(status().isOk()).andReturn();
+		ResponseWrapper<?> responseWrapper = objectMapper.readValue(result.getResponse().getContentAsString(),
+				ResponseWrapper.class);
+		CryptomanagerBatchResponseDto batchResponseDto = objectMapper.readValue(
+				objectMapper.writeValueAsString(responseWrapper.getResponse()), CryptomanagerBatchResponseDto.class);
+
+		assertEquals(3, batchResponseDto.getBatchResponse().size());
+		assertEquals("KER-KMS-TEST", batchResponseDto.getBatchResponse().get(1).getError().getErrorCode());
+		byte[] firstItem = CryptoUtil.decodeURLSafeBase64(batchResponseDto.getBatchResponse().get(0).getData());
+		byte[] thirdItem = CryptoUtil.decodeURLSafeBase64(batchResponseDto.getBatchResponse().get(2).getData());
+		int firstSplitterIndex = CryptoUtil.getSplitterIndex(firstItem, 0, "#KEY_SPLITTER#");
+		int thirdSplitterIndex = CryptoUtil.getSplitterIndex(thirdItem, 0, "#KEY_SPLITTER#");
+		// same certificate & session key for the items with same application id & reference id.
+		assertArrayEquals(Arrays.copyOf(firstItem, firstSplitterIndex), Arrays.copyOf(thirdItem, thirdSplitterIndex));
+		verify(cryptomanagerUtil, times(1)).getCertificateThumbprintInfo("REGISTRATION", "ref123");
+		verify(cryptoCore, times(1)).asymmetricEncrypt(Mockito.any(), Mockito.any());
+	}
+
+	private CertificateThumbprintInfo getCertificateThumbprintInfo() throws CertificateEncodingException {
+		byte[] certThumbprint = DigestUtils.sha256(cert.getEncoded());
+		return new CertificateThumbprintInfo("alias", (X509Certificate) cert, certThumbprint, 
+				Hex.toHexString(certThumbprint).toUpperCase());
+	}
+
+	private CryptomanagerRequestDto getBatchEncryptRequest(String referenceId, String data) {
+		CryptomanagerRequestDto batchItem = new CryptomanagerRequestDto();
+		batchItem.setApplicationId("REGISTRATION");
+		batchItem.setReferenceId(referenceId);
+		batchItem.setTimeStamp(DateUtils.getUTCCurrentDateTime());
+		batchItem.setData(CryptoUtil.encodeToURLSafeBase64(data.getBytes()));
+		return batchItem;
+	}
+
+	private CryptomanagerRequestDto getBatchDecryptRequest(byte thumbprintByte, String encryptedData) {
+		byte[] thumbprint = new byte[32];
+		Arrays.fill(thumbprint, thumbprintByte);
+		byte[] encryptedKey = concat(thumbprint, new byte[256]);
+		byte[] hybridData = concat(concat(encryptedKey, "#KEY_SPLITTER#".getBytes()), encryptedData.getBytes());
+		CryptomanagerRequestDto batchItem = new CryptomanagerRequestDto();
+		batchItem.setApplicationId("REGISTRATION");
+		batchItem.setReferenceId("ref123");
+		batchItem.setTimeStamp(DateUtils.getUTCCurrentDateTime());
+		batchItem.setData(CryptoUtil.encodeToURLSafeBase64(hybridData));
+		return batchItem;
+	}
+
+	private void mockStreamCrypto() throws CertificateEncodingException {
+		// mock cipher appends AAD as tag, so frames decrypted with different AAD fail.
+		when(cryptoCore.asymmetricEncrypt(Mockito.any(), Mockito.any()))
+				.thenReturn("MOCKENCRYPTEDSESSIONKEY".getBytes());
+		when(cryptoCore.symmetricEncrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> concat(invocation.getArgument(1), invocation.getArgument(3)));
+		when(cryptoCore.symmetricDecrypt(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> {
+					byte[] encryptedData = invocation.getArgument(1);
+					byte[] aad = invocation.getArgument(3);
+					int dataLength = encryptedData.length - aad.length;
+					if (!Arrays.equals(aad, Arrays.copyOfRange(encryptedData, dataLength, encryptedData.length))) {
+						throw new InvalidDataException("KER-CRY-INVALID_AAD", "AAD not matching.");
+					}
+					return Arrays.copyOf(encryptedData, dataLength);
+				});
+		when(cryptomanagerUtil.getCertificateThumbprintInfo(Mockito.anyString(), Mockito.anyString()))
+				.thenReturn(getCertificateThumbprintInfo());
+		when(cryptomanagerUtil.generateRandomBytes(Mockito.anyInt()))
+				.thenAnswer(invocation -> new byte[(int) invocation.getArgument(0)]);
+		when(cryptomanagerUtil.concatCertThumbprint(Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> concat(invocation.getArgument(0), invocation.getArgument(1)));
+		when(cryptomanagerUtil.concatByteArrays(Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> concat(invocation.getArgument(0), invocation.getArgument(1)));
+		when(cryptomanagerUtil.hasKeyAccess(Mockito.anyString())).thenReturn(true);
+		when(cryptomanagerUtil.getDecryptedSymmetricKey(Mockito.any())).thenReturn(generator.getSymmetricKey());
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		byte[] result = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
 	@WithUserDetails("reg-processor")
 	@Test
 	public void testEncryptWithPin() throws Exception {
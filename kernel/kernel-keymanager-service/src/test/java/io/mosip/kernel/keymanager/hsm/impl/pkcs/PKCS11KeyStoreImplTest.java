@@ -0,0 +1,147 @@
+package io.mosip.kernel.keymanager.hsm.impl.pkcs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.keymanager.exception.KeystoreProcessingException;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanager.hsm.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanager.hsm.constant.KeymanagerErrorCode;
+import io.mosip.kernel.keymanager.hsm.util.HSMCircuitBreaker;
+
+public class PKCS11KeyStoreImplTest {
+
+	private AtomicInteger providerLoads;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		providerLoads = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(8);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void reloadProviderOnceOnConcurrentFailures() throws Exception {
+		PKCS11KeyStoreImpl pkcs11Impl = createKeyStore(new HashMap<>());
+		Object failedContext = ReflectionTestUtils.getField(pkcs11Impl, "providerContext");
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> reloads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			reloads.add(executor.submit(() -> {
+				start.await();
+				ReflectionTestUtils.invokeMethod(pkcs11Impl, "reloadProvider", failedContext);
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> reload : reloads) {
+			reload.get(10, TimeUnit.SECONDS);
+		}
+		// initial load & one reload.
+		assertEquals(2, providerLoads.get());
+		assertNotSame(failedContext, ReflectionTestUtils.getField(pkcs11Impl, "providerContext"));
+	}
+
+	@Test
+	public void failOnKeystoreOperationWaitTimeout() throws Exception {
+		Map<String, String> params = new HashMap<>();
+		params.put(KeymanagerConstant.PKCS11_MAX_KEYSTORE_OPERATIONS, "1");
+		params.put(KeymanagerConstant.PKCS11_KEYSTORE_OPERATION_WAIT_MILLIS, "10");
+		PKCS11KeyStoreImpl pkcs11Impl = createKeyStore(params);
+		assertTrue(pkcs11Impl.getAllAlias().isEmpty());
+		Semaphore permits = (Semaphore) ReflectionTestUtils.getField(pkcs11Impl, "keystoreOperationPermits");
+		permits.acquire();
+		try {
+			pkcs11Impl.getAllAlias();
+			fail("keystore operation allowed without a free permit");
+		} catch (KeystoreProcessingException e) {
+			assertEquals(KeymanagerErrorCode.KEYSTORE_OPERATION_NOT_AVAILABLE.getErrorCode(), e.getErrorCode());
+		} finally {
+			permits.release();
+		}
+		assertTrue(pkcs11Impl.getAllAlias().isEmpty());
+	}
+
+	@Test
+	public void keepHalfOpenCircuitOnKeystoreOperationWaitTimeout() throws Exception {
+		Map<String, String> params = new HashMap<>();
+		params.put(KeymanagerConstant.PKCS11_MAX_KEYSTORE_OPERATIONS, "1");
+		params.put(KeymanagerConstant.PKCS11_KEYSTORE_OPERATION_WAIT_MILLIS, "10");
+		params.put(KeymanagerConstant.HSM_CIRCUIT_FAILURE_THRESHOLD, "1");
+		PKCS11KeyStoreImpl pkcs11Impl = createKeyStore(params);
+		HSMCircuitBreaker circuitBreaker = pkcs11Impl.getCircuitBreaker();
+		// zero open duration, next call is the half open trial call.
+		circuitBreaker.onFailure();
+		Semaphore permits = (Semaphore) ReflectionTestUtils.getField(pkcs11Impl, "keystoreOperationPermits");
+		permits.acquire();
+		try {
+			pkcs11Impl.getAllAlias();
+			fail("keystore operation allowed without a free permit");
+		} catch (KeystoreProcessingException e) {
+			assertEquals(KeymanagerErrorCode.KEYSTORE_OPERATION_NOT_AVAILABLE.getErrorCode(), e.getErrorCode());
+		} finally {
+			permits.release();
+		}
+		// trial call never reached the HSM, so the circuit is not closed by it.
+		assertEquals(HSMCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertTrue(pkcs11Impl.getAllAlias().isEmpty());
+		assertEquals(HSMCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	/**
+	 * PKCS11 keystore backed by an in memory keystore, the first loaded provider context is old enough
+	 * to allow the provider reload.
+	 */
+	private PKCS11KeyStoreImpl createKeyStore(Map<String, String> params) throws Exception {
+		params.put(KeymanagerConstant.CONFIG_FILE_PATH, "configPath");
+		params.put(KeymanagerConstant.PKCS11_KEYSTORE_PASSWORD, "keystorePass");
+		params.put(KeymanagerConstant.SYM_KEY_ALGORITHM, "AES");
+		params.put(KeymanagerConstant.SYM_KEY_SIZE, "256");
+		params.put(KeymanagerConstant.ASYM_KEY_ALGORITHM, "RSA");
+		params.put(KeymanagerConstant.ASYM_KEY_SIZE, "2048");
+		params.put(KeymanagerConstant.CERT_SIGN_ALGORITHM, "SHA256withRSA");
+		AtomicInteger loads = providerLoads;
+		return new PKCS11KeyStoreImpl(params) {
+			@Override
+			ProviderContext loadProviderContext() {
+				LocalDateTime loadedTime = loads.incrementAndGet() == 1
+						? DateUtils.getUTCCurrentDateTime().minusMinutes(5) : DateUtils.getUTCCurrentDateTime();
+				try {
+					KeyStore keyStore = KeyStore.getInstance("PKCS12");
+					keyStore.load(null, null);
+					return new ProviderContext(keyStore.getProvider(), keyStore, new SecureRandom(), loadedTime);
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+	}
+}
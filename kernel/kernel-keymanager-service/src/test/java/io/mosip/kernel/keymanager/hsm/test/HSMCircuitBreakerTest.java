@@ -0,0 +1,81 @@
+package io.mosip.kernel.keymanager.hsm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.mosip.kernel.keymanager.hsm.util.HSMCircuitBreaker;
+
+public class HSMCircuitBreakerTest {
+
+	@Test
+	public void openAfterConsecutiveFailures() {
+		HSMCircuitBreaker circuitBreaker = new HSMCircuitBreaker(3, 60000, 60000);
+		for (int i = 0; i < 2; i++) {
+			assertTrue(circuitBreaker.tryAcquirePermission());
+			circuitBreaker.onFailure();
+		}
+		assertEquals(HSMCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		// success resets the consecutive failures.
+		circuitBreaker.onSuccess();
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		assertEquals(HSMCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		circuitBreaker.onFailure();
+		assertEquals(HSMCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+	}
+
+	@Test
+	public void halfOpenAllowsSingleTrialCall() {
+		// zero open duration, next permission check moves the circuit to half open.
+		HSMCircuitBreaker circuitBreaker = new HSMCircuitBreaker(1, 0, 0);
+		circuitBreaker.onFailure();
+		assertEquals(HSMCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertEquals(HSMCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+		// failed trial call opens the circuit again.
+		circuitBreaker.onFailure();
+		assertEquals(HSMCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		circuitBreaker.onSuccess();
+		assertEquals(HSMCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+	}
+
+	@Test
+	public void releasePermissionFreesTrialCallWithoutStateChange() {
+		HSMCircuitBreaker circuitBreaker = new HSMCircuitBreaker(1, 0, 0);
+		circuitBreaker.onFailure();
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		assertFalse(circuitBreaker.tryAcquirePermission());
+		// trial call did not reach the HSM.
+		circuitBreaker.releasePermission();
+		assertEquals(HSMCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+		circuitBreaker.onFailure();
+		assertEquals(HSMCircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	public void disabledCircuitBreakerNeverOpens() {
+		HSMCircuitBreaker circuitBreaker = new HSMCircuitBreaker(0, 60000, 60000);
+		for (int i = 0; i < 10; i++) {
+			circuitBreaker.onFailure();
+		}
+		assertEquals(HSMCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquirePermission());
+	}
+
+	@Test
+	public void jitteredBackoffWithinBounds() {
+		for (int attempt = 0; attempt < 10; attempt++) {
+			long backoff = HSMCircuitBreaker.jitter(100, attempt, 1000);
+			long maxBackoff = Math.min(1000, 100L << attempt);
+			assertTrue(backoff >= maxBackoff / 2 && backoff <= maxBackoff);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package io.mosip.kernel.keymanager.hsm.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.keymanager.hsm.health.HSMHealthCheck;
+import io.mosip.kernel.keymanager.hsm.impl.KeyStoreImpl;
+import io.mosip.kernel.keymanager.hsm.util.HSMCircuitBreaker;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
+
+public class HSMHealthCheckTest {
+
+	private HSMHealthCheck healthCheck;
+
+	private HSMCircuitBreaker circuitBreaker;
+
+	@Before
+	public void setUp() {
+		circuitBreaker = new HSMCircuitBreaker(1, 60000, 60000);
+		KeyStoreImpl keyStore = Mockito.mock(KeyStoreImpl.class);
+		when(keyStore.getCircuitBreaker()).thenReturn(Optional.of(circuitBreaker));
+		when(keyStore.getSymmetricKey("health-alias")).thenReturn(new SecretKeySpec(new byte[16], "AES"));
+		KeymanagerDBHelper dbHelper = Mockito.mock(KeymanagerDBHelper.class);
+		Map<String, List<KeyAlias>> keyAliasMap = new HashMap<>();
+		keyAliasMap.put(KeymanagerConstant.CURRENTKEYALIAS, Collections.singletonList(new KeyAlias("health-alias",
+				"KERNEL", "IDENTITY_CACHE", LocalDateTime.now().minusDays(1), LocalDateTime.now().plusYears(1),
+				"status", null, null)));
+		when(dbHelper.getKeyAliases(Mockito.eq("KERNEL"), Mockito.eq("IDENTITY_CACHE"), Mockito.any()))
+				.thenReturn(keyAliasMap);
+
+		healthCheck = new HSMHealthCheck();
+		ReflectionTestUtils.setField(healthCheck, "healthCheckEnabled", true);
+		ReflectionTestUtils.setField(healthCheck, "healthCheckEncryptEnabled", false);
+		ReflectionTestUtils.setField(healthCheck, "healthCheckDefaultAppId", "KERNEL");
+		ReflectionTestUtils.setField(healthCheck, "healthCheckDefaultRefId", "IDENTITY_CACHE");
+		ReflectionTestUtils.setField(healthCheck, "dbHelper", dbHelper);
+		ReflectionTestUtils.setField(healthCheck, "keyStore", keyStore);
+	}
+
+	@Test
+	public void healthUpAfterOpenDurationElapsed() {
+		assertEquals(Status.UP, healthCheck.health().block().getStatus());
+
+		circuitBreaker.onFailure();
+		Health openHealth = healthCheck.health().block();
+		assertEquals(Status.DOWN, openHealth.getStatus());
+		assertEquals("HSM_CIRCUIT_OPEN", openHealth.getDetails().get("Error: "));
+
+		// open duration elapsed, no traffic took the half open trial call.
+		ReflectionTestUtils.setField(circuitBreaker, "openUntilMillis", System.currentTimeMillis() - 1);
+		assertEquals(HSMCircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertEquals(Status.UP, healthCheck.health().block().getStatus());
+	}
+}
@@ -0,0 +1,121 @@
+package io.mosip.kernel.keymanagerservice.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.CachePurgeEvent;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
+import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
+import io.mosip.kernel.keymanagerservice.repository.CachePurgeEventRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class CachePurgeEventHelperTest {
+
+	@Autowired
+	private CachePurgeEventHelper cachePurgeEventHelper;
+
+	@Autowired
+	private CachePurgeEventRepository cachePurgeEventRepository;
+
+	@Autowired
+	private KeymanagerDBHelper dbHelper;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@MockBean
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	@Test
+	public void purgeKeyAliasCacheOnEventFromOtherInstance() {
+		LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+		List<KeyAlias> keyAliases = new ArrayList<>();
+		keyAliases.add(new KeyAlias("purge-alias", "PURGEEVENT", "other-ref", timestamp.minusDays(1),
+				timestamp.plusDays(365), null, null, null));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("PURGEEVENT", "other-ref")).thenReturn(keyAliases);
+
+		dbHelper.getKeyAliases("PURGEEVENT", "other-ref", timestamp);
+		dbHelper.getKeyAliases("PURGEEVENT", "other-ref", timestamp);
+		verify(keyAliasRepository, times(1)).findByApplicationIdAndReferenceId("PURGEEVENT", "other-ref");
+
+		cachePurgeEventRepository.save(new CachePurgeEvent(null, KeymanagerConstant.KEY_ALIAS_CACHE,
+				"PURGEEVENT#other-ref", "other-instance", timestamp));
+		cachePurgeEventHelper.pollPurgeEvents();
+
+		dbHelper.getKeyAliases("PURGEEVENT", "other-ref", timestamp);
+		verify(keyAliasRepository, times(2)).findByApplicationIdAndReferenceId("PURGEEVENT", "other-ref");
+	}
+
+	@Test
+	public void applyEventCommittedAfterHigherId() {
+		List<String> purgedKeys = new ArrayList<>();
+		cachePurgeEventHelper.registerPurgeListener("outOfOrderCache", purgedKeys::add);
+		LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+		CachePurgeEvent higherIdEvent = cachePurgeEventRepository.save(new CachePurgeEvent(null, "outOfOrderCache",
+				"higher-id", "other-instance", timestamp));
+		cachePurgeEventHelper.pollPurgeEvents();
+
+		// lower id committed after the higher id is read.
+		new JdbcTemplate(dataSource).update("INSERT INTO cache_purge_event (id, cache_name, cache_key, origin_id, cr_dtimes) "
+				+ "VALUES (?, ?, ?, ?, ?)", -higherIdEvent.getId(), "outOfOrderCache", "lower-id", "other-instance",
+				Timestamp.valueOf(timestamp.minusSeconds(1)));
+		cachePurgeEventHelper.pollPurgeEvents();
+		cachePurgeEventHelper.pollPurgeEvents();
+
+		assertEquals(List.of("higher-id", "lower-id"), purgedKeys);
+	}
+
+	@Test
+	public void skipOwnPurgeEvent() {
+		LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+		List<KeyAlias> keyAliases = new ArrayList<>();
+		keyAliases.add(new KeyAlias("own-alias", "PURGEEVENT", "own-ref", timestamp.minusDays(1),
+				timestamp.plusDays(365), null, null, null));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("PURGEEVENT", "own-ref")).thenReturn(keyAliases);
+
+		dbHelper.getKeyAliases("PURGEEVENT", "own-ref", timestamp);
+		cachePurgeEventHelper.publishPurgeEvent(KeymanagerConstant.KEY_ALIAS_CACHE, "PURGEEVENT#own-ref");
+		assertTrue(cachePurgeEventRepository.findAll().stream()
+				.anyMatch(purgeEvent -> "PURGEEVENT#own-ref".equals(purgeEvent.getCacheKey())));
+		cachePurgeEventHelper.pollPurgeEvents();
+
+		dbHelper.getKeyAliases("PURGEEVENT", "own-ref", timestamp);
+		verify(keyAliasRepository, times(1)).findByApplicationIdAndReferenceId("PURGEEVENT", "own-ref");
+	}
+}
@@ -0,0 +1,152 @@
+package io.mosip.kernel.keymanagerservice.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
+import io.mosip.kernel.keymanagerservice.helper.KeyGenerationLockHelper;
+import io.mosip.kernel.keymanagerservice.helper.KeyRolloverScheduler;
+import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+
+/**
+ * Key rollover against the H2 key alias & key policy tables, only the HSM is mocked.
+ */
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class KeyRolloverIntegrationTest {
+
+	private static final int PRE_EXPIRE_DAYS = 30;
+
+	@Autowired
+	private KeyRolloverScheduler keyRolloverScheduler;
+
+	@Autowired
+	private KeymanagerService keymanagerService;
+
+	@Autowired
+	private KeymanagerDBHelper dbHelper;
+
+	@Autowired
+	private KeyAliasRepository keyAliasRepository;
+
+	@Autowired
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@SpyBean
+	private KeyGenerationLockHelper keyGenerationLockHelper;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	private LocalDateTime timestamp;
+
+	@Before
+	public void setUp() throws Exception {
+		// DB stores micro seconds, seconds precision to compare the stored timestamps.
+		timestamp = DateUtils.getUTCCurrentDateTime().truncatedTo(ChronoUnit.SECONDS);
+		Security.addProvider(new BouncyCastleProvider());
+		KeyPairGenerator keyGen = KeyPairGenerator.getInstance(KeymanagerConstant.RSA);
+		keyGen.initialize(2048);
+		KeyPair keyPair = keyGen.generateKeyPair();
+		X509Certificate x509Certificate = CertificateUtility.generateX509Certificate(keyPair.getPrivate(),
+				keyPair.getPublic(), "mosip", "mosip", "mosip", "india", timestamp.minusDays(1),
+				timestamp.plusYears(2), "SHA256withRSA", "BC");
+		when(keyStore.getCertificate(Mockito.anyString())).thenReturn(x509Certificate);
+		if (keyAliasRepository.findByApplicationIdAndReferenceId("ROOT", KeymanagerConstant.EMPTY).isEmpty()) {
+			keyAliasRepository.saveAndFlush(new KeyAlias("rollover-root-alias", "ROOT", KeymanagerConstant.EMPTY,
+					timestamp.minusDays(10), timestamp.plusYears(5), null, null, null));
+		}
+	}
+
+	@Test
+	public void rolloverKeyOnceForRepeatedRuns() {
+		KeyAlias masterKeyAlias = setupMasterKey("ROLLOVERIT", "rolloverit-master-alias");
+
+		keyRolloverScheduler.rolloverKeys();
+		keyRolloverScheduler.rolloverKeys();
+
+		List<KeyAlias> keyAliases = getKeyAliases("ROLLOVERIT");
+		assertEquals(2, keyAliases.size());
+		KeyAlias newKeyAlias = keyAliases.get(1);
+		LocalDateTime rolloverTimestamp = masterKeyAlias.getKeyExpiryTime().minusDays(PRE_EXPIRE_DAYS);
+		assertEquals(rolloverTimestamp, newKeyAlias.getKeyGenerationTime());
+		// key already rolled over for the timestamp.
+		assertFalse(keymanagerService.rolloverKey("ROLLOVERIT", KeymanagerConstant.EMPTY, rolloverTimestamp));
+		assertEquals(2, getKeyAliases("ROLLOVERIT").size());
+	}
+
+	@Test
+	public void skipRolloverWhenLockHeldByOtherInstance() {
+		KeyAlias masterKeyAlias = setupMasterKey("ROLLOVERLOCK", "rolloverlock-master-alias");
+		LocalDateTime rolloverTimestamp = masterKeyAlias.getKeyExpiryTime().minusDays(PRE_EXPIRE_DAYS);
+		doReturn(false).when(keyGenerationLockHelper).tryKeyGenerationLock("ROLLOVERLOCK", KeymanagerConstant.EMPTY);
+
+		assertFalse(keymanagerService.rolloverKey("ROLLOVERLOCK", KeymanagerConstant.EMPTY, rolloverTimestamp));
+		assertEquals(1, getKeyAliases("ROLLOVERLOCK").size());
+
+		Mockito.reset(keyGenerationLockHelper);
+		assertTrue(keymanagerService.rolloverKey("ROLLOVERLOCK", KeymanagerConstant.EMPTY, rolloverTimestamp));
+		assertEquals(2, getKeyAliases("ROLLOVERLOCK").size());
+	}
+
+	@Test
+	public void skipRolloverWhenKeyGeneratedByOtherInstance() {
+		KeyAlias masterKeyAlias = setupMasterKey("ROLLOVERREAD", "rolloverread-master-alias");
+		LocalDateTime rolloverTimestamp = masterKeyAlias.getKeyExpiryTime().minusDays(PRE_EXPIRE_DAYS);
+		// key alias cache without the successor key.
+		assertTrue(dbHelper.getKeyAliases("ROLLOVERREAD", KeymanagerConstant.EMPTY, rolloverTimestamp)
+				.get(KeymanagerConstant.CURRENTKEYALIAS).isEmpty());
+		// successor key generated by other instance.
+		keyAliasRepository.saveAndFlush(new KeyAlias("rolloverread-other-alias", "ROLLOVERREAD", KeymanagerConstant.EMPTY,
+				rolloverTimestamp, rolloverTimestamp.plusDays(365), null, null, null));
+
+		assertFalse(keymanagerService.rolloverKey("ROLLOVERREAD", KeymanagerConstant.EMPTY, rolloverTimestamp));
+		assertEquals(2, getKeyAliases("ROLLOVERREAD").size());
+	}
+
+	private KeyAlias setupMasterKey(String appId, String alias) {
+		keyPolicyRepository.saveAndFlush(new KeyPolicy(appId, 365, true, PRE_EXPIRE_DAYS, "NA"));
+		// not current after the pre expire days from tomorrow, so due for rollover.
+		KeyAlias masterKeyAlias = new KeyAlias(alias, appId, KeymanagerConstant.EMPTY, timestamp.minusDays(334),
+				timestamp.plusDays(PRE_EXPIRE_DAYS + 1L), null, null, null);
+		return keyAliasRepository.saveAndFlush(masterKeyAlias);
+	}
+
+	private List<KeyAlias> getKeyAliases(String appId) {
+		List<KeyAlias> keyAliases = keyAliasRepository.findByApplicationIdAndReferenceId(appId, KeymanagerConstant.EMPTY);
+		keyAliases.sort(Comparator.comparing(KeyAlias::getKeyGenerationTime));
+		return keyAliases;
+	}
+}
@@ -0,0 +1,88 @@
+package io.mosip.kernel.keymanagerservice.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
+import io.mosip.kernel.keymanagerservice.helper.KeyRolloverScheduler;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class KeyRolloverSchedulerTest {
+
+	@Autowired
+	private KeyRolloverScheduler keyRolloverScheduler;
+
+	@MockBean
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	@Test
+	public void rolloverKeysDueForExpiry() {
+		LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+		KeyPolicy appKeyPolicy = new KeyPolicy("ROLLOVER", 365, true, 30, "NA");
+		KeyPolicy baseKeyPolicy = new KeyPolicy("BASE", 365, true, 10, "NA");
+		KeyPolicy inactiveKeyPolicy = new KeyPolicy("INACTIVE", 365, false, 30, "NA");
+		when(keyPolicyRepository.findAll()).thenReturn(Arrays.asList(appKeyPolicy, baseKeyPolicy, inactiveKeyPolicy));
+		when(keyPolicyRepository.findByApplicationId("ROLLOVER")).thenReturn(Optional.of(appKeyPolicy));
+		when(keyPolicyRepository.findByApplicationId("BASE")).thenReturn(Optional.of(baseKeyPolicy));
+
+		List<KeyAlias> keyAliases = new ArrayList<>();
+		// master key, not current after 30 pre expire days from now, so due for rollover.
+		keyAliases.add(new KeyAlias("master-alias", "ROLLOVER", "", timestamp.minusDays(300),
+				timestamp.plusDays(31), null, null, null));
+		// base key expiring in 60 days, not due for rollover.
+		keyAliases.add(new KeyAlias("base-alias", "ROLLOVER", "base-ref", timestamp.minusDays(300),
+				timestamp.plusDays(60), null, null, null));
+		// EC keys are not rolled over.
+		keyAliases.add(new KeyAlias("ec-alias", "ROLLOVER", "EC_SECP256K1_SIGN", timestamp.minusDays(300),
+				timestamp.plusDays(1), null, null, null));
+		// expired & not used key, not rolled over.
+		keyAliases.add(new KeyAlias("expired-alias", "ROLLOVER", "expired-ref", timestamp.minusDays(500),
+				timestamp.minusDays(135), null, null, null));
+		when(keyAliasRepository.findByApplicationId("ROLLOVER")).thenReturn(keyAliases);
+		when(keymanagerService.rolloverKey(Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
+
+		keyRolloverScheduler.rolloverKeys();
+
+		ArgumentCaptor<LocalDateTime> rolloverTimestamp = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(keymanagerService).rolloverKey(Mockito.eq("ROLLOVER"), Mockito.eq(""), rolloverTimestamp.capture());
+		assertEquals(timestamp.plusDays(1), rolloverTimestamp.getValue());
+		verify(keymanagerService, never()).rolloverKey(Mockito.eq("ROLLOVER"), Mockito.eq("base-ref"), Mockito.any());
+		verify(keymanagerService, never()).rolloverKey(Mockito.eq("ROLLOVER"), Mockito.eq("EC_SECP256K1_SIGN"), Mockito.any());
+		verify(keymanagerService, never()).rolloverKey(Mockito.eq("ROLLOVER"), Mockito.eq("expired-ref"), Mockito.any());
+		verify(keymanagerService, never()).rolloverKey(Mockito.eq("INACTIVE"), Mockito.any(), Mockito.any());
+	}
+}
@@ -0,0 +1,103 @@
+package io.mosip.kernel.keymanagerservice.test.integration;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
+import io.mosip.kernel.keymanagerservice.helper.KeyWarmupHelper;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class KeyWarmupHelperTest {
+
+	@Autowired
+	private KeyWarmupHelper keyWarmupHelper;
+
+	@MockBean
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	@Test
+	public void warmupCurrentKeys() {
+		LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+		KeyPolicy appKeyPolicy = new KeyPolicy("WARMUP", 365, true, 30, "NA");
+		KeyPolicy inactiveKeyPolicy = new KeyPolicy("WARMUPINACTIVE", 365, false, 30, "NA");
+		when(keyPolicyRepository.findAll()).thenReturn(Arrays.asList(appKeyPolicy, inactiveKeyPolicy));
+		when(keyPolicyRepository.findByApplicationId("WARMUP")).thenReturn(Optional.of(appKeyPolicy));
+
+		KeyAlias masterKeyAlias = new KeyAlias("warmup-master-alias", "WARMUP", "", timestamp.minusDays(10),
+				timestamp.plusDays(300), null, null, null);
+		KeyAlias symmetricKeyAlias = new KeyAlias("warmup-zk-alias", "WARMUP", "IDENTITY_CACHE", timestamp.minusDays(10),
+				timestamp.plusDays(300), null, null, null);
+		KeyAlias expiredKeyAlias = new KeyAlias("warmup-expired-alias", "WARMUP", "expired-ref", timestamp.minusDays(400),
+				timestamp.minusDays(35), null, null, null);
+		List<KeyAlias> keyAliases = new ArrayList<>(Arrays.asList(masterKeyAlias, symmetricKeyAlias, expiredKeyAlias));
+		when(keyAliasRepository.findByApplicationId("WARMUP")).thenReturn(keyAliases);
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("WARMUP", "")).thenReturn(Arrays.asList(masterKeyAlias));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("WARMUP", "IDENTITY_CACHE"))
+				.thenReturn(Arrays.asList(symmetricKeyAlias));
+
+		keyWarmupHelper.warmup();
+
+		assertTrue(keyWarmupHelper.isWarmupCompleted());
+		verify(keyStore).getAsymmetricKey("warmup-master-alias");
+		verify(keyStore).getSymmetricKey("warmup-zk-alias");
+		verify(keyAliasRepository, never()).findByApplicationIdAndReferenceId("WARMUP", "expired-ref");
+		verify(keyAliasRepository, never()).findByApplicationId("WARMUPINACTIVE");
+	}
+
+	@Test
+	public void warmupUptoMaxKeyAliases() {
+		LocalDateTime timestamp = DateUtils.getUTCCurrentDateTime();
+		KeyPolicy firstKeyPolicy = new KeyPolicy("WARMUPFIRST", 365, true, 30, "NA");
+		KeyPolicy secondKeyPolicy = new KeyPolicy("WARMUPSECOND", 365, true, 30, "NA");
+		when(keyPolicyRepository.findAll()).thenReturn(Arrays.asList(firstKeyPolicy, secondKeyPolicy));
+		when(keyAliasRepository.findByApplicationId("WARMUPFIRST")).thenReturn(Arrays.asList(
+				new KeyAlias("warmup-first-alias", "WARMUPFIRST", "", timestamp.minusDays(10), timestamp.plusDays(300),
+						null, null, null),
+				new KeyAlias("warmup-first-ref-alias", "WARMUPFIRST", "ref", timestamp.minusDays(10),
+						timestamp.plusDays(300), null, null, null)));
+		ReflectionTestUtils.setField(keyWarmupHelper, "warmupKeyAliasMax", 1);
+		try {
+			keyWarmupHelper.warmup();
+		} finally {
+			ReflectionTestUtils.setField(keyWarmupHelper, "warmupKeyAliasMax", 500);
+		}
+
+		assertTrue(keyWarmupHelper.isWarmupCompleted());
+		verify(keyAliasRepository, never()).findByApplicationIdAndReferenceId("WARMUPFIRST", "ref");
+		// no more key policies loaded after the max key aliases.
+		verify(keyAliasRepository, never()).findByApplicationId("WARMUPSECOND");
+	}
+}
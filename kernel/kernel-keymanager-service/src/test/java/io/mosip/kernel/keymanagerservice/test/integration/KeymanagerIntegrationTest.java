@@ -1,8 +1,15 @@
 package io.mosip.kernel.keymanagerservice.test.integration;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -15,16 +22,28 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Security;
 import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPublicKey;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.crypto.SecretKey;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -38,8 +57,11 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,18 +70,28 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
 import io.mosip.kernel.core.http.RequestWrapper;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerRequestDto;
+import io.mosip.kernel.cryptomanager.dto.CryptomanagerResponseDto;
 import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
 import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyRequestDto;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerErrorConstant;
 import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.exception.KeymanagerServiceException;
 import io.mosip.kernel.keymanagerservice.entity.KeyPolicy;
+import io.mosip.kernel.keymanagerservice.helper.KeyPairPoolHelper;
 import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
 import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
 import io.mosip.kernel.keymanagerservice.repository.KeyStoreRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
 import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
 import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
 import io.mosip.kernel.signature.dto.SignatureRequestDto;
@@ -82,6 +114,12 @@ public class KeymanagerIntegrationTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Autowired
+	private KeymanagerService keymanagerService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
 	@MockBean
 	private ECKeyStore keyStore;
 
@@ -373,4 +411,186 @@ public class KeymanagerIntegrationTest {
 		assertThat(responseWrapper.getErrors().get(0).getErrorCode(), is("KER-KMS-003"));
 	}
 
+	@Test
+	public void getCertificateThumbprintInfoFromCache() throws Exception {
+		setupKey();
+		byte[] certThumbprint = DigestUtils.sha256(x509Cert.getEncoded());
+		List<KeyAlias> certKeyAlias = new ArrayList<>();
+		certKeyAlias.add(new KeyAlias("cert-cache-alias", "CERTCACHE", "ref-cache", LocalDateTime.now().minusDays(1),
+				LocalDateTime.now().plusYears(5), "status", Hex.toHexString(certThumbprint).toUpperCase(), null));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("CERTCACHE", "ref-cache")).thenReturn(certKeyAlias);
+		when(keyStoreRepository.findByAlias("cert-cache-alias")).thenReturn(Optional.of(
+				new io.mosip.kernel.keymanagerservice.entity.KeyStore("cert-cache-alias", certificateData,
+						"test-private#KEY_SPLITTER#-key", "alias")));
+
+		CertificateThumbprintInfo certInfo = keymanagerService.getCertificateThumbprintInfo("CERTCACHE",
+				Optional.of("ref-cache"));
+		CertificateThumbprintInfo cachedCertInfo = keymanagerService.getCertificateThumbprintInfo("CERTCACHE",
+				Optional.of("ref-cache"));
+
+		assertArrayEquals(certThumbprint, certInfo.getCertThumbprint());
+		assertSame(certInfo, cachedCertInfo);
+		assertSame(certInfo.getCertificate(), keymanagerService.getX509Certificate("CERTCACHE", Optional.of("ref-cache")));
+		verify(keyStoreRepository, times(1)).findByAlias("cert-cache-alias");
+	}
+
+	@WithUserDetails("reg-processor")
+	@Test
+	public void encryptWithInvalidCertificateData() throws Exception {
+		List<KeyAlias> certKeyAlias = new ArrayList<>();
+		certKeyAlias.add(new KeyAlias("cert-invalid-alias", "CERTINVALID", "ref-invalid", LocalDateTime.now().minusDays(1),
+				LocalDateTime.now().plusYears(5), "status", null, null));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("CERTINVALID", "ref-invalid")).thenReturn(certKeyAlias);
+		when(keyStoreRepository.findByAlias("cert-invalid-alias")).thenReturn(Optional.of(
+				new io.mosip.kernel.keymanagerservice.entity.KeyStore("cert-invalid-alias", "badCertificateData",
+						"test-private#KEY_SPLITTER#-key", "alias")));
+		CryptomanagerRequestDto cryptomanagerRequestDto = new CryptomanagerRequestDto("CERTINVALID", "ref-invalid",
+				LocalDateTime.now(ZoneId.of("UTC")), "dXJ2aWw", null, null, false);
+		RequestWrapper<CryptomanagerRequestDto> encryptRequestWrapper = new RequestWrapper<>();
+		encryptRequestWrapper.setId(ID);
+		encryptRequestWrapper.setVersion(VERSION);
+		encryptRequestWrapper.setRequesttime(LocalDateTime.now(ZoneId.of("UTC")));
+		encryptRequestWrapper.setRequest(cryptomanagerRequestDto);
+		String content = mapper.writeValueAsString(encryptRequestWrapper);
+
+		MvcResult result = mockMvc.perform(post("/encrypt").contentType(MediaType.APPLICATION_JSON).content(content))
+				.andExpect(status().isOk()).andReturn();
+		ResponseWrapper<CryptomanagerResponseDto> responseWrapper = objectMapper.readValue(
+				result.getResponse().getContentAsString(),
+				new TypeReference<ResponseWrapper<CryptomanagerResponseDto>>() {
+				});
+		assertThat(responseWrapper.getErrors().get(0).getErrorCode(),
+				is(KeymanagerErrorConstant.CERTIFICATE_PARSING_ERROR.getErrorCode()));
+		// unparsable certificate is not cached, every lookup goes back to the key store.
+		try {
+			keymanagerService.getCertificateThumbprintInfo("CERTINVALID", Optional.of("ref-invalid"));
+			Assert.fail("Expected certificate parsing error.");
+		} catch (KeymanagerServiceException exp) {
+			assertEquals(KeymanagerErrorConstant.CERTIFICATE_PARSING_ERROR.getErrorCode(), exp.getErrorCode());
+		}
+		verify(keyStoreRepository, times(2)).findByAlias("cert-invalid-alias");
+	}
+
+	@Test
+	public void getAsymmetricKeyFromPool() throws Exception {
+		// pool is disabled by default, so a pool enabled helper is created for the test.
+		KeyPairPoolHelper keyPairPoolHelper = new KeyPairPoolHelper();
+		ReflectionTestUtils.setField(keyPairPoolHelper, "keyPairPoolEnabled", true);
+		ReflectionTestUtils.setField(keyPairPoolHelper, "keyPairPoolSize", 1);
+		ReflectionTestUtils.setField(keyPairPoolHelper, "asymmetricKeyAlgorithm", "RSA");
+		ReflectionTestUtils.setField(keyPairPoolHelper, "asymmetricKeyLength", 2048);
+		// hits read from own registry, global registry may hold registries of the closed test contexts.
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		Metrics.addRegistry(meterRegistry);
+		keyPairPoolHelper.init();
+		try {
+			@SuppressWarnings("unchecked")
+			BlockingQueue<KeyPair> keyPairPool = (BlockingQueue<KeyPair>) ReflectionTestUtils.getField(keyPairPoolHelper, "keyPairPool");
+			// waits for the refill thread to add the key pair.
+			KeyPair pooledKeyPair = keyPairPool.poll(60, TimeUnit.SECONDS);
+			assertNotNull(pooledKeyPair);
+			keyPairPool.offer(pooledKeyPair);
+			Counter keyPairPoolHits = meterRegistry.get(KeymanagerConstant.KEY_PAIR_POOL_METRIC).tag("result", "hit").counter();
+			double hits = keyPairPoolHits.count();
+
+			KeyPair keyPair = keyPairPoolHelper.getAsymmetricKey();
+			assertEquals(hits + 1, keyPairPoolHits.count(), 0);
+			assertEquals(2048, ((RSAPublicKey) keyPair.getPublic()).getModulus().bitLength());
+		} finally {
+			keyPairPoolHelper.destroy();
+			Metrics.removeRegistry(meterRegistry);
+		}
+	}
+
+	@Test
+	public void generateKeyOnceForConcurrentRequests() throws Exception {
+		setupKey();
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+		List<KeyAlias> expiredKeyAlias = new ArrayList<>();
+		expiredKeyAlias.add(new KeyAlias("expired-alias", "SINGLEFLIGHT", "", now.minusYears(2), now.minusYears(1),
+				"status", null, null));
+		List<KeyAlias> rootKeyAlias = new ArrayList<>();
+		rootKeyAlias.add(new KeyAlias("root-alias", "ROOT", "", now.minusYears(1), now.plusYears(5), "status", null, null));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("SINGLEFLIGHT", "")).thenReturn(expiredKeyAlias);
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("ROOT", "")).thenReturn(rootKeyAlias);
+		when(keyPolicyRepository.findByApplicationId("SINGLEFLIGHT"))
+				.thenReturn(Optional.of(new KeyPolicy("SINGLEFLIGHT", 365, true, 30, "NA")));
+		when(keyPolicyRepository.findByApplicationId("ROOT"))
+				.thenReturn(Optional.of(new KeyPolicy("ROOT", 1826, true, 30, "NA")));
+		when(keyStore.getCertificate(Mockito.anyString())).thenReturn(x509Cert);
+		AtomicInteger keyGenerationCount = new AtomicInteger();
+		Mockito.doAnswer(invocation -> {
+			keyGenerationCount.incrementAndGet();
+			// slow key generation, so all the requests arrive while the key is generated.
+			Thread.sleep(1000);
+			return null;
+		}).when(keyStore).generateAndStoreAsymmetricKey(Mockito.anyString(), Mockito.eq("root-alias"), Mockito.any());
+
+		int requestCount = 10;
+		ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<X509Certificate>> results = new ArrayList<>();
+		for (int i = 0; i < requestCount; i++) {
+			results.add(executor.submit(() -> {
+				startLatch.await();
+				return keymanagerService.getX509Certificate("SINGLEFLIGHT", Optional.empty());
+			}));
+		}
+		startLatch.countDown();
+		for (Future<X509Certificate> result : results) {
+			assertSame(x509Cert, result.get(30, TimeUnit.SECONDS));
+		}
+		executor.shutdown();
+
+		assertEquals(1, keyGenerationCount.get());
+		verify(keyAliasRepository, times(1)).saveAndFlush(Mockito.any(KeyAlias.class));
+	}
+
+	@Test
+	public void failWaitingRequestOnKeyGenerationRollback() throws Exception {
+		setupKey();
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+		List<KeyAlias> expiredKeyAlias = new ArrayList<>();
+		expiredKeyAlias.add(new KeyAlias("expired-alias", "ROLLBACKFLIGHT", "", now.minusYears(2), now.minusYears(1),
+				"status", null, null));
+		List<KeyAlias> rootKeyAlias = new ArrayList<>();
+		rootKeyAlias.add(new KeyAlias("root-alias", "ROOT", "", now.minusYears(1), now.plusYears(5), "status", null, null));
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("ROLLBACKFLIGHT", "")).thenReturn(expiredKeyAlias);
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("ROOT", "")).thenReturn(rootKeyAlias);
+		when(keyPolicyRepository.findByApplicationId("ROLLBACKFLIGHT"))
+				.thenReturn(Optional.of(new KeyPolicy("ROLLBACKFLIGHT", 365, true, 30, "NA")));
+		when(keyPolicyRepository.findByApplicationId("ROOT"))
+				.thenReturn(Optional.of(new KeyPolicy("ROOT", 1826, true, 30, "NA")));
+		when(keyStore.getCertificate(Mockito.anyString())).thenReturn(x509Cert);
+		CountDownLatch generationStarted = new CountDownLatch(1);
+		Mockito.doAnswer(invocation -> {
+			generationStarted.countDown();
+			// slow key generation, so the waiting request arrives while the key is generated.
+			Thread.sleep(1000);
+			return null;
+		}).when(keyStore).generateAndStoreAsymmetricKey(Mockito.anyString(), Mockito.eq("root-alias"), Mockito.any());
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		Future<X509Certificate> generatingRequest = executor.submit(() -> transactionTemplate.execute(status -> {
+			X509Certificate certificate = keymanagerService.getX509Certificate("ROLLBACKFLIGHT", Optional.empty());
+			status.setRollbackOnly();
+			return certificate;
+		}));
+		assertTrue(generationStarted.await(30, TimeUnit.SECONDS));
+		Future<X509Certificate> waitingRequest = executor.submit(
+				() -> keymanagerService.getX509Certificate("ROLLBACKFLIGHT", Optional.empty()));
+
+		assertSame(x509Cert, generatingRequest.get(30, TimeUnit.SECONDS));
+		try {
+			waitingRequest.get(30, TimeUnit.SECONDS);
+			Assert.fail("Waiting request returned the key of the rolled back generation.");
+		} catch (ExecutionException e) {
+			assertEquals(KeymanagerErrorConstant.KEY_GENERATION_ROLLED_BACK.getErrorCode(),
+					((KeymanagerServiceException) e.getCause()).getErrorCode());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package io.mosip.kernel.keymanagerservice.test.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore.PrivateKeyEntry;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
+import io.mosip.kernel.keymanagerservice.entity.KeyStore;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
+import io.mosip.kernel.keymanagerservice.helper.PrivateKeyDecryptorHelper;
+import io.mosip.kernel.keymanagerservice.util.KeymanagerUtil;
+
+public class PrivateKeyDecryptorHelperTest {
+
+	private PrivateKeyDecryptorHelper privateKeyDecryptorHelper;
+
+	private KeymanagerUtil keymanagerUtil;
+
+	private KeyStore dbKeyStore;
+
+	private KeyPair baseKeyPair;
+
+	@Before
+	public void setUp() throws Exception {
+		KeyPairGenerator keyGen = KeyPairGenerator.getInstance(KeymanagerConstant.RSA);
+		keyGen.initialize(2048);
+		baseKeyPair = keyGen.generateKeyPair();
+		KeyPair masterKeyPair = keyGen.generateKeyPair();
+		Certificate masterCertificate = Mockito.mock(Certificate.class);
+		when(masterCertificate.getPublicKey()).thenReturn(masterKeyPair.getPublic());
+
+		PrivateKeyEntry masterKeyEntry = new PrivateKeyEntry(masterKeyPair.getPrivate(),
+				new Certificate[] { masterCertificate });
+
+		ECKeyStore keyStore = Mockito.mock(ECKeyStore.class);
+		when(keyStore.getAsymmetricKey("master-alias")).thenReturn(masterKeyEntry);
+		keymanagerUtil = Mockito.mock(KeymanagerUtil.class);
+		when(keymanagerUtil.decryptKey(Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenAnswer(invocation -> baseKeyPair.getPrivate().getEncoded());
+		when(keymanagerUtil.convertToCertificate(Mockito.anyString())).thenReturn(Mockito.mock(Certificate.class));
+		dbKeyStore = new KeyStore("base-alias", "certData", "d3JhcHBlZEtleQ", "master-alias");
+
+		privateKeyDecryptorHelper = new PrivateKeyDecryptorHelper();
+		ReflectionTestUtils.setField(privateKeyDecryptorHelper, "privateKeyCacheEnabled", true);
+		ReflectionTestUtils.setField(privateKeyDecryptorHelper, "privateKeyCacheSize", 1L);
+		ReflectionTestUtils.setField(privateKeyDecryptorHelper, "privateKeyCacheExpireInMins", 60L);
+		ReflectionTestUtils.setField(privateKeyDecryptorHelper, "keymanagerUtil", keymanagerUtil);
+		ReflectionTestUtils.setField(privateKeyDecryptorHelper, "keyStore", keyStore);
+		ReflectionTestUtils.setField(privateKeyDecryptorHelper, "cachePurgeEventHelper",
+				Mockito.mock(CachePurgeEventHelper.class));
+		privateKeyDecryptorHelper.init();
+	}
+
+	@Test
+	public void returnCopyOfCachedKey() {
+		PrivateKey firstKey = (PrivateKey) privateKeyDecryptorHelper.getKeyObjects("THUMBPRINT", dbKeyStore, false)[0];
+		PrivateKey secondKey = (PrivateKey) privateKeyDecryptorHelper.getKeyObjects("THUMBPRINT", dbKeyStore, false)[0];
+
+		// unwrapped once, every call gets its own key object.
+		verify(keymanagerUtil, times(1)).decryptKey(Mockito.any(), Mockito.any(), Mockito.any());
+		assertNotSame(firstKey, secondKey);
+		assertArrayEquals(baseKeyPair.getPrivate().getEncoded(), secondKey.getEncoded());
+	}
+
+	@Test
+	public void destroyKeyWithCacheEnabled() {
+		PrivateKey privateKey = (PrivateKey) privateKeyDecryptorHelper.getKeyObjects("THUMBPRINT", dbKeyStore, false)[0];
+		PrivateKey uncachedKey = (PrivateKey) privateKeyDecryptorHelper.getKeyObjects(null, dbKeyStore, false)[0];
+
+		privateKeyDecryptorHelper.destroyKey(privateKey);
+		privateKeyDecryptorHelper.destroyKey(uncachedKey);
+
+		verify(keymanagerUtil, times(1)).destoryKey(Mockito.same(privateKey));
+		verify(keymanagerUtil, times(1)).destoryKey(Mockito.same(uncachedKey));
+		// cached key is not handed out, so not destroyed by the callers.
+		assertEquals(2, Mockito.mockingDetails(keymanagerUtil).getInvocations().stream()
+				.filter(invocation -> invocation.getMethod().getName().equals("destoryKey")).count());
+	}
+}
@@ -0,0 +1,116 @@
+package io.mosip.kernel.signature.test.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.security.Security;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jose4j.jca.ProviderContext;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.lang.JoseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark for the JWT signature verification in SignatureServiceImpl, comparing
+ * verification with the default software provider against verification with the keystore
+ * provider set in the provider context.
+ *
+ * Keystore provider is SunPKCS11 configured with the config file in system property
+ * pkcs11.config (e.g. -Dpkcs11.config=/var/lib/softhsm/softhsm.conf), BouncyCastle when
+ * not set.
+ *
+ * Run with main method from test classpath, not executed as part of unit tests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+	private static final String PAYLOAD = "{\"authStatus\":true,\"transactionID\":\"1234567890\"}";
+
+	@Param({ AlgorithmIdentifiers.RSA_USING_SHA256, AlgorithmIdentifiers.ECDSA_USING_P256_CURVE_AND_SHA256 })
+	private String algorithm;
+
+	private KeyPair keyPair;
+
+	private String signedData;
+
+	private String keystoreProviderName;
+
+	@Setup
+	public void setup() throws Exception {
+		KeyPairGenerator generator;
+		if (AlgorithmIdentifiers.RSA_USING_SHA256.equals(algorithm)) {
+			generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+		} else {
+			generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+		}
+		keyPair = generator.generateKeyPair();
+
+		JsonWebSignature jws = new JsonWebSignature();
+		jws.setPayload(PAYLOAD);
+		jws.setAlgorithmHeaderValue(algorithm);
+		jws.setKey(keyPair.getPrivate());
+		signedData = jws.getCompactSerialization();
+		keystoreProviderName = setupKeystoreProvider();
+	}
+
+	private String setupKeystoreProvider() {
+		String configPath = System.getProperty("pkcs11.config");
+		Provider provider = Objects.isNull(configPath) ? new BouncyCastleProvider() :
+				Security.getProvider("SunPKCS11").configure(configPath);
+		Security.removeProvider(provider.getName());
+		Security.addProvider(provider);
+		return provider.getName();
+	}
+
+	@Benchmark
+	public boolean verifySoftwareProvider() throws JoseException {
+		return verify(null);
+	}
+
+	@Benchmark
+	public boolean verifyKeystoreProvider() throws JoseException {
+		return verify(keystoreProviderName);
+	}
+
+	private boolean verify(String providerName) throws JoseException {
+		JsonWebSignature jws = new JsonWebSignature();
+		if (Objects.nonNull(providerName)) {
+			ProviderContext provContext = new ProviderContext();
+			provContext.getSuppliedKeyProviderContext().setSignatureProvider(providerName);
+			jws.setProviderContext(provContext);
+		}
+		jws.setCompactSerialization(signedData);
+		jws.setDoKeyValidation(false);
+		jws.setKey(keyPair.getPublic());
+		return jws.verifySignature();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JwtVerifyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,117 @@
+package io.mosip.kernel.signature.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.jose4j.jws.JsonWebSignature;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.keymanager.model.CertificateEntry;
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
+import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
+import io.mosip.kernel.keymanagerservice.dto.SignatureCertificate;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+import io.mosip.kernel.signature.constant.SignatureErrorCode;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchItemResponseDto;
+import io.mosip.kernel.signature.dto.JWSSignatureBatchRequestDto;
+import io.mosip.kernel.signature.service.SignatureService;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class JWSSignatureBatchTest {
+
+	@Autowired
+	private SignatureService signatureService;
+
+	@Autowired
+	private KeyGenerator keyGenerator;
+
+	@MockBean
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	private KeyPair keyPair;
+
+	@Before
+	public void setup() {
+		if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+			Security.addProvider(new BouncyCastleProvider());
+		}
+		keyPair = keyGenerator.getAsymmetricKey();
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		X509Certificate certificate = CertificateUtility.generateX509Certificate(keyPair.getPrivate(), keyPair.getPublic(),
+				"KERNEL", "SIGN", "MOSIP", "IN", now.minusYears(1), now.plusYears(1), "SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
+		CertificateEntry<X509Certificate, PrivateKey> certificateEntry = new CertificateEntry<>(
+				new X509Certificate[] { certificate }, keyPair.getPrivate());
+		SignatureCertificate signatureCertificate = new SignatureCertificate();
+		signatureCertificate.setCertificateEntry(certificateEntry);
+		signatureCertificate.setProviderName(BouncyCastleProvider.PROVIDER_NAME);
+		signatureCertificate.setUniqueIdentifier(DigestUtils.sha256Hex(keyPair.getPublic().getEncoded()));
+		when(keymanagerService.getSignatureCertificate(anyString(), any(), anyString())).thenReturn(signatureCertificate);
+	}
+
+	@Test
+	public void signBatchWithSingleKeyResolution() throws Exception {
+		JWSSignatureBatchRequestDto batchRequest = new JWSSignatureBatchRequestDto();
+		batchRequest.setDataToSign(Arrays.asList(encode("{\"index\":0}"), encode("not a json"), encode("{\"index\":2}")));
+		batchRequest.setIncludePayload(true);
+		batchRequest.setValidateJson(true);
+		batchRequest.setB64JWSHeaderParam(true);
+		batchRequest.setSignAlgorithm("RS256");
+		List<JWSSignatureBatchItemResponseDto> batchResponse = signatureService.jwsSignBatch(batchRequest).getBatchResponse();
+
+		verify(keymanagerService, times(1)).getSignatureCertificate(anyString(), any(), anyString());
+		assertEquals(3, batchResponse.size());
+		assertTrue(isSignatureValid(batchResponse.get(0).getJwtSignedData(), "{\"index\":0}"));
+		assertNull(batchResponse.get(1).getJwtSignedData());
+		assertEquals(SignatureErrorCode.INVALID_JSON.getErrorCode(), batchResponse.get(1).getError().getErrorCode());
+		assertTrue(isSignatureValid(batchResponse.get(2).getJwtSignedData(), "{\"index\":2}"));
+	}
+
+	private String encode(String data) {
+		return CryptoUtil.encodeToURLSafeBase64(data.getBytes());
+	}
+
+	private boolean isSignatureValid(String signedData, String expectedPayload) throws Exception {
+		JsonWebSignature jws = new JsonWebSignature();
+		jws.setCompactSerialization(signedData);
+		jws.setKey(keyPair.getPublic());
+		return jws.verifySignature() && expectedPayload.equals(jws.getPayload());
+	}
+}
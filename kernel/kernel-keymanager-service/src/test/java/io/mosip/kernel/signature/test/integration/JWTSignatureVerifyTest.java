@@ -0,0 +1,157 @@
+package io.mosip.kernel.signature.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.cache2k.Cache;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jws.JsonWebSignature;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
+import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+import io.mosip.kernel.signature.constant.SignatureConstant;
+import io.mosip.kernel.signature.constant.SignatureErrorCode;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyBatchItemResponseDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyRequestDto;
+import io.mosip.kernel.signature.dto.JWTSignatureVerifyResponseDto;
+import io.mosip.kernel.signature.service.SignatureService;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class JWTSignatureVerifyTest {
+
+	private static final String PAYLOAD = "{\"authStatus\":true}";
+
+	@Autowired
+	private SignatureService signatureService;
+
+	@Autowired
+	private KeyGenerator keyGenerator;
+
+	@MockBean
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	private KeyPair keyPair;
+
+	private X509Certificate certificate;
+
+	@Before
+	public void setup() {
+		if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+			Security.addProvider(new BouncyCastleProvider());
+		}
+		keyPair = keyGenerator.getAsymmetricKey();
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		certificate = CertificateUtility.generateX509Certificate(keyPair.getPrivate(), keyPair.getPublic(), "partner",
+				"IDA", "MOSIP", "IN", now.minusDays(1), now.plusDays(1), "SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
+	}
+
+	@Test
+	public void verifyWithCachedHeaderCertificate() throws Exception {
+		Cache<?, ?> verifyCertificateCache = (Cache<?, ?>) ReflectionTestUtils.getField(
+				AopTestUtils.<Object>getTargetObject(signatureService), "verifyCertificateCache");
+		verifyCertificateCache.removeAll();
+		String signedData = sign(PAYLOAD);
+
+		for (int i = 0; i < 2; i++) {
+			JWTSignatureVerifyResponseDto response = signatureService.jwtVerify(getVerifyRequest(signedData));
+			assertTrue(response.isSignatureValid());
+			assertEquals(SignatureConstant.TRUST_NOT_VERIFIED, response.getTrustValid());
+		}
+		assertEquals(1, verifyCertificateCache.asMap().size());
+
+		// same header (cached certificate) with tampered payload.
+		String[] jwtTokens = signedData.split("\\.");
+		String tamperedData = jwtTokens[0] + "." + CryptoUtil.encodeToURLSafeBase64("{\"authStatus\":false}".getBytes())
+						+ "." + jwtTokens[2];
+		assertFalse(signatureService.jwtVerify(getVerifyRequest(tamperedData)).isSignatureValid());
+	}
+
+	@Test
+	public void verifyWithUntrustedCertificateNotCached() throws Exception {
+		Cache<?, ?> trustResultCache = (Cache<?, ?>) ReflectionTestUtils.getField(
+				AopTestUtils.<Object>getTargetObject(signatureService), "trustResultCache");
+		trustResultCache.removeAll();
+		JWTSignatureVerifyRequestDto verifyRequest = getVerifyRequest(sign(PAYLOAD));
+		verifyRequest.setValidateTrust(Boolean.TRUE);
+		verifyRequest.setDomain("AUTH");
+
+		JWTSignatureVerifyResponseDto response = signatureService.jwtVerify(verifyRequest);
+
+		assertTrue(response.isSignatureValid());
+		assertEquals(SignatureConstant.TRUST_NOT_VALID, response.getTrustValid());
+		// verified again after the CA certificate upload.
+		assertEquals(0, trustResultCache.asMap().size());
+	}
+
+	@Test
+	public void verifyBatchInRequestOrder() throws Exception {
+		String signedData = sign(PAYLOAD);
+		String[] jwtTokens = signedData.split("\\.");
+		String tamperedData = jwtTokens[0] + "." + CryptoUtil.encodeToURLSafeBase64("{\"authStatus\":false}".getBytes())
+						+ "." + jwtTokens[2];
+		List<JWTSignatureVerifyBatchItemResponseDto> batchResponse = signatureService.jwtVerifyBatch(Arrays.asList(
+				getVerifyRequest(signedData), getVerifyRequest(tamperedData), getVerifyRequest("  "), 
+				getVerifyRequest(sign("{\"authStatus\":true,\"index\":3}")))).getBatchResponse();
+
+		assertEquals(4, batchResponse.size());
+		assertTrue(batchResponse.get(0).getResponse().isSignatureValid());
+		assertNull(batchResponse.get(0).getError());
+		assertFalse(batchResponse.get(1).getResponse().isSignatureValid());
+		assertNull(batchResponse.get(2).getResponse());
+		assertEquals(SignatureErrorCode.INVALID_INPUT.getErrorCode(), batchResponse.get(2).getError().getErrorCode());
+		assertTrue(batchResponse.get(3).getResponse().isSignatureValid());
+	}
+
+	private String sign(String payload) throws Exception {
+		JsonWebSignature jws = new JsonWebSignature();
+		jws.setCertificateChainHeaderValue(certificate);
+		jws.setPayload(payload);
+		jws.setAlgorithmHeaderValue(AlgorithmIdentifiers.RSA_USING_SHA256);
+		jws.setKey(keyPair.getPrivate());
+		return jws.getCompactSerialization();
+	}
+
+	private JWTSignatureVerifyRequestDto getVerifyRequest(String signedData) {
+		JWTSignatureVerifyRequestDto verifyRequest = new JWTSignatureVerifyRequestDto();
+		verifyRequest.setJwtSignatureData(signedData);
+		verifyRequest.setApplicationId("KERNEL");
+		verifyRequest.setReferenceId("SIGN");
+		return verifyRequest;
+	}
+}
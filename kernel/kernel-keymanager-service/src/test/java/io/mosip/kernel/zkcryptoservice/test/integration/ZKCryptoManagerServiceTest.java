@@ -0,0 +1,257 @@
+package io.mosip.kernel.zkcryptoservice.test.integration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.cache2k.Cache;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.crypto.spi.CryptoCoreSpec;
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.cryptomanager.constant.CryptomanagerConstant;
+import io.mosip.kernel.keygenerator.bouncycastle.KeyGenerator;
+import io.mosip.kernel.keymanager.hsm.util.CertificateUtility;
+import io.mosip.kernel.keymanagerservice.dto.CertificateThumbprintInfo;
+import io.mosip.kernel.keymanagerservice.entity.DataEncryptKeystore;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+import io.mosip.kernel.zkcryptoservice.dto.CryptoDataDto;
+import io.mosip.kernel.zkcryptoservice.dto.ZKCryptoRequestDto;
+import io.mosip.kernel.zkcryptoservice.dto.ZKCryptoResponseDto;
+import io.mosip.kernel.zkcryptoservice.service.impl.ZKCryptoManagerServiceImpl;
+import io.mosip.kernel.zkcryptoservice.service.spi.ZKCryptoManagerService;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class, ZKCryptoManagerServiceImpl.class })
+@RunWith(SpringRunner.class)
+public class ZKCryptoManagerServiceTest {
+
+	@Autowired
+	private ZKCryptoManagerService zkCryptoManagerService;
+
+	@Autowired
+	private DataEncryptKeystoreRepository dataEncryptKeystoreRepository;
+
+	@Autowired
+	private KeyGenerator keyGenerator;
+
+	@Autowired
+	private CryptoCoreSpec<byte[], byte[], SecretKey, PublicKey, PrivateKey, String> cryptoCore;
+
+	@MockBean
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	@After
+	public void tearDown() {
+		dataEncryptKeystoreRepository.deleteAll();
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		zkServiceImpl.purgeRandomKeyCache();
+		zkServiceImpl.purgeKeyHolders();
+		Cache<Integer, ? extends SecretKey> randomKeyCache = getRandomKeyCache(zkServiceImpl);
+		if (randomKeyCache != null) {
+			// closed, so the next test can create the cache with the same name.
+			randomKeyCache.close();
+		}
+		ReflectionTestUtils.setField(zkServiceImpl, "randomKeyCache", null);
+	}
+
+	@Test
+	public void loadActiveKeyIndexesInMemory() {
+		dataEncryptKeystoreRepository.saveAll(Arrays.asList(getDataEncryptKeystore(1, "Active"), 
+				getDataEncryptKeystore(2, "Active"), getDataEncryptKeystore(3, "InActive")));
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		zkServiceImpl.loadActiveKeyIndexes();
+
+		int[] activeKeyIndexes = ((int[]) ReflectionTestUtils.getField(zkServiceImpl, "activeKeyIndexes")).clone();
+		Arrays.sort(activeKeyIndexes);
+		assertArrayEquals(new int[] { 1, 2 }, activeKeyIndexes);
+	}
+
+	@Test
+	public void cacheRandomKeyAndDestroyOnPurge() throws Exception {
+		byte[] randomKey = saveRandomKey(5, (byte) 7);
+
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		ReflectionTestUtils.invokeMethod(zkServiceImpl, "createRandomKeyCache");
+		Key randomKeyCopy = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getRandomKey", 5);
+		assertArrayEquals(randomKey, randomKeyCopy.getEncoded());
+		Cache<Integer, ? extends SecretKey> randomKeyCache = getRandomKeyCache(zkServiceImpl);
+		SecretKey cachedKey = randomKeyCache.peek(5);
+		// callers get own copy of the cached key.
+		Key otherKeyCopy = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getRandomKey", 5);
+		assertNotSame(randomKeyCopy, otherKeyCopy);
+		assertSame(cachedKey, randomKeyCache.peek(5));
+
+		// purged key is wiped and unwrapped again on next use, copies held by the callers are not wiped.
+		zkServiceImpl.purgeRandomKeyCache();
+		assertTrue(cachedKey.isDestroyed());
+		assertFalse(((SecretKey) randomKeyCopy).isDestroyed());
+		assertArrayEquals(randomKey, randomKeyCopy.getEncoded());
+		Key reloadedKey = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getRandomKey", 5);
+		assertNotSame(cachedKey, randomKeyCache.peek(5));
+		assertArrayEquals(randomKey, reloadedKey.getEncoded());
+
+		// released copy is wiped.
+		ReflectionTestUtils.invokeMethod(zkServiceImpl, "releaseRandomKey", randomKeyCopy);
+		assertTrue(((SecretKey) randomKeyCopy).isDestroyed());
+	}
+
+	@Test
+	public void encryptRandomKeyPurgedAfterGetRandomKey() throws Exception {
+		byte[] randomKey = saveRandomKey(5, (byte) 7);
+		KeyPair keyPair = mockPublicKey();
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		ReflectionTestUtils.invokeMethod(zkServiceImpl, "createRandomKeyCache");
+
+		Key randomKeyCopy = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getRandomKey", 5);
+		// key purged while the request is in flight.
+		zkServiceImpl.purgeRandomKeyCache();
+		String encryptedRandomKey = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getEncryptedRandomKey", 5, randomKeyCopy);
+
+		byte[] encryptedKeyData = CryptoUtil.decodeURLSafeBase64(encryptedRandomKey);
+		byte[] encryptedKey = Arrays.copyOfRange(encryptedKeyData, CryptomanagerConstant.THUMBPRINT_LENGTH, encryptedKeyData.length);
+		assertArrayEquals(randomKey, cryptoCore.asymmetricDecrypt(keyPair.getPrivate(), encryptedKey));
+	}
+
+	@Test
+	public void decryptAttributesGroupedByKeyIndex() throws Exception {
+		byte[][] randomKeys = { saveRandomKey(5, (byte) 7), saveRandomKey(6, (byte) 9) };
+		List<CryptoDataDto> zkDataAttributes = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			zkDataAttributes.add(new CryptoDataDto("attr" + i, 
+					encryptAttribute("1234567890", 5 + (i % 2), randomKeys[i % 2], "value" + i)));
+		}
+		List<CryptoDataDto> decryptedAttributes = zkCryptoManagerService.zkDecrypt(
+				new ZKCryptoRequestDto("1234567890", zkDataAttributes)).getZkDataAttributes();
+
+		assertEquals(20, decryptedAttributes.size());
+		for (int i = 0; i < 20; i++) {
+			assertEquals("attr" + i, decryptedAttributes.get(i).getIdentifier());
+			assertEquals("value" + i, decryptedAttributes.get(i).getValue());
+		}
+	}
+
+	@Test
+	public void reuseEncryptedRandomKeyForKeyIndex() throws Exception {
+		saveRandomKey(5, (byte) 7);
+		mockPublicKey();
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		zkServiceImpl.loadActiveKeyIndexes();
+
+		ZKCryptoRequestDto encryptRequest = new ZKCryptoRequestDto("1234567890", Arrays.asList(new CryptoDataDto("name", "value")));
+		ZKCryptoResponseDto encryptResponse = zkCryptoManagerService.zkEncrypt(encryptRequest);
+		assertEquals("5", encryptResponse.getRankomKeyIndex());
+		assertEquals(encryptResponse.getEncryptedRandomKey(), zkCryptoManagerService.zkEncrypt(encryptRequest).getEncryptedRandomKey());
+		verify(keymanagerService, times(1)).getCertificateThumbprintInfo(eq("IDA"), eq(Optional.of("PUBLIC_KEY")));
+
+		List<CryptoDataDto> decryptedAttributes = zkCryptoManagerService.zkDecrypt(
+				new ZKCryptoRequestDto("1234567890", encryptResponse.getZkDataAttributes())).getZkDataAttributes();
+		assertEquals("value", decryptedAttributes.get(0).getValue());
+	}
+
+	private KeyPair mockPublicKey() throws Exception {
+		KeyPair keyPair = keyGenerator.getAsymmetricKey();
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		X509Certificate certificate = CertificateUtility.generateX509Certificate(keyPair.getPrivate(), keyPair.getPublic(),
+				"IDA", "PUBLIC_KEY", "MOSIP", "IN", now.minusYears(1), now.plusYears(1), "SHA256withRSA", BouncyCastleProvider.PROVIDER_NAME);
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("IDA", "PUBLIC_KEY")).thenReturn(Arrays.asList(
+				new KeyAlias("zk-public-key", "IDA", "PUBLIC_KEY", now.minusDays(1), now.plusDays(1), null, null, null)));
+		when(keymanagerService.getCertificateThumbprintInfo(eq("IDA"), any())).thenReturn(new CertificateThumbprintInfo(
+				"zk-public-key", certificate, DigestUtils.sha256(certificate.getEncoded()), null));
+		return keyPair;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<Integer, ? extends SecretKey> getRandomKeyCache(ZKCryptoManagerServiceImpl zkServiceImpl) {
+		return (Cache<Integer, ? extends SecretKey>) ReflectionTestUtils.getField(zkServiceImpl, "randomKeyCache");
+	}
+
+	private byte[] saveRandomKey(int id, byte keyByte) throws Exception {
+		SecretKey masterKey = new SecretKeySpec(new byte[32], "AES");
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("KERNEL", "IDENTITY_CACHE")).thenReturn(Arrays.asList(
+				new KeyAlias("zk-master-key", "KERNEL", "IDENTITY_CACHE", now.minusDays(1), now.plusDays(1), null, null, null)));
+		when(keyStore.getSymmetricKey("zk-master-key")).thenReturn(masterKey);
+		Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, masterKey);
+		byte[] randomKey = new byte[32];
+		Arrays.fill(randomKey, keyByte);
+		DataEncryptKeystore dataEncryptKeystore = getDataEncryptKeystore(id, "Active");
+		dataEncryptKeystore.setKey(Base64.getEncoder().encodeToString(cipher.doFinal(randomKey)));
+		dataEncryptKeystoreRepository.save(dataEncryptKeystore);
+		return randomKey;
+	}
+
+	private String encryptAttribute(String id, int keyIndex, byte[] randomKey, String value) throws Exception {
+		Cipher ecbCipher = Cipher.getInstance("AES/ECB/NoPadding");
+		ecbCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(randomKey, "AES"));
+		byte[] derivedKey = ecbCipher.doFinal(MessageDigest.getInstance("SHA-256").digest(id.getBytes()));
+		byte[] nonce = new byte[12];
+		byte[] aad = new byte[32];
+		new SecureRandom().nextBytes(nonce);
+		new SecureRandom().nextBytes(aad);
+		Cipher gcmCipher = Cipher.getInstance("AES/GCM/NoPadding");
+		gcmCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(derivedKey, "AES"), new GCMParameterSpec(128, nonce));
+		gcmCipher.updateAAD(aad);
+		byte[] encryptedData = gcmCipher.doFinal(value.getBytes());
+		return CryptoUtil.encodeToURLSafeBase64(ByteBuffer.allocate(4 + nonce.length + aad.length + encryptedData.length)
+				.putInt(keyIndex).put(nonce).put(aad).put(encryptedData).array());
+	}
+
+	private DataEncryptKeystore getDataEncryptKeystore(int id, String keyStatus) {
+		return new DataEncryptKeystore(id, "dGVzdA==", keyStatus, "mosipadmin", DateUtils.getUTCCurrentDateTime(), null, null);
+	}
+}
@@ -0,0 +1,100 @@
+package io.mosip.kernel.zkcryptoservice.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.security.Key;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keymanagerservice.dto.SymmetricKeyGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.repository.KeyAliasRepository;
+import io.mosip.kernel.keymanagerservice.repository.KeyPolicyRepository;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.kernel.keymanagerservice.test.KeymanagerTestBootApplication;
+import io.mosip.kernel.zkcryptoservice.service.impl.ZKCryptoManagerServiceImpl;
+import io.mosip.kernel.zkcryptoservice.service.spi.ZKCryptoManagerService;
+
+@SpringBootTest(classes = { KeymanagerTestBootApplication.class, ZKCryptoManagerServiceImpl.class })
+@RunWith(SpringRunner.class)
+public class ZKKeyHolderPurgeTest {
+
+	@Autowired
+	private ZKCryptoManagerService zkCryptoManagerService;
+
+	@Autowired
+	private KeymanagerService keymanagerService;
+
+	@MockBean
+	private KeyAliasRepository keyAliasRepository;
+
+	@MockBean
+	private KeyPolicyRepository keyPolicyRepository;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	@After
+	public void tearDown() {
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		zkServiceImpl.purgeKeyHolders();
+	}
+
+	@Test
+	public void useRegeneratedMasterKeyWithoutHolderRefresh() {
+		mockMasterKeyAlias("zk-master-key-1");
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		assertEquals("zk-master-key-1", getMasterKeyAlias(zkServiceImpl));
+
+		keymanagerService.generateSymmetricKey(new SymmetricKeyGenerateRequestDto("KERNEL", "IDENTITY_CACHE", true));
+		// key alias stored by the key generation.
+		mockMasterKeyAlias("zk-master-key-2");
+		assertEquals("zk-master-key-2", getMasterKeyAlias(zkServiceImpl));
+	}
+
+	@Test
+	public void resolveMasterKeyFromKeystoreOnEveryUse() {
+		mockMasterKeyAlias("zk-master-key-3");
+		ZKCryptoManagerServiceImpl zkServiceImpl = AopTestUtils.getTargetObject(zkCryptoManagerService);
+		// key alias cache can still hold the alias of the other test.
+		String masterKeyAlias = getMasterKeyAlias(zkServiceImpl);
+		when(keyStore.getSymmetricKey(masterKeyAlias)).thenReturn(new SecretKeySpec(new byte[32], "AES"));
+		Key masterKey = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getMasterKeyFromHSM");
+
+		// key handle changed after the keystore provider reload, alias is same.
+		SecretKeySpec reloadedMasterKey = new SecretKeySpec(new byte[32], "AES");
+		when(keyStore.getSymmetricKey(masterKeyAlias)).thenReturn(reloadedMasterKey);
+		Key masterKeyAfterReload = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getMasterKeyFromHSM");
+		assertNotSame(masterKey, masterKeyAfterReload);
+		assertSame(reloadedMasterKey, masterKeyAfterReload);
+	}
+
+	private String getMasterKeyAlias(ZKCryptoManagerServiceImpl zkServiceImpl) {
+		Object masterKeyHolder = ReflectionTestUtils.invokeMethod(zkServiceImpl, "getMasterKeyHolder");
+		return (String) ReflectionTestUtils.getField(masterKeyHolder, "alias");
+	}
+
+	private void mockMasterKeyAlias(String alias) {
+		LocalDateTime now = DateUtils.getUTCCurrentDateTime();
+		when(keyAliasRepository.findByApplicationIdAndReferenceId("KERNEL", "IDENTITY_CACHE")).thenReturn(Arrays.asList(
+				new KeyAlias(alias, "KERNEL", "IDENTITY_CACHE", now.minusDays(1), now.plusDays(1), null, null, null)));
+		when(keyStore.getSymmetricKey(alias)).thenReturn(new SecretKeySpec(new byte[32], "AES"));
+	}
+}
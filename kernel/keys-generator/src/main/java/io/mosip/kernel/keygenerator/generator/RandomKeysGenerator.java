@@ -2,28 +2,40 @@ package io.mosip.kernel.keygenerator.generator;
 
 import java.security.Key;
 import java.security.SecureRandom;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
+import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.kernel.keymanagerservice.constant.KeymanagerConstant;
-import io.mosip.kernel.keymanagerservice.entity.DataEncryptKeystore;
 import io.mosip.kernel.keymanagerservice.entity.KeyAlias;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
 import io.mosip.kernel.keymanagerservice.helper.KeymanagerDBHelper;
 import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
+import io.mosip.kernel.zkcryptoservice.constant.ZKCryptoManagerConstants;
 
 /**
  * The Class MasterKeysGenerator.
@@ -40,9 +52,22 @@ public class RandomKeysGenerator {
 
     private static final String WRAPPING_TRANSFORMATION = "AES/ECB/NoPadding"; // NOSONAR using the key wrapping
 
+    private static final String ACTIVE_STATUS = "Active";
+
+    private static final String INSERT_KEY_SQL = "INSERT INTO data_encrypt_keystore (id, key, key_status, cr_by, cr_dtimes) "
+                + "VALUES (?, ?, ?, ?, ?)";
+
     @Value("${zkcrypto.random.key.generate.count}")
     private long noOfKeysRequire;
 
+    /** Keys wrapped & inserted in one JDBC batch and committed in one transaction. */
+    @Value("${zkcrypto.random.key.generate.batch-size:1000}")
+    private int batchSize;
+
+    /** Threads to wrap & insert the key batches in parallel. */
+    @Value("${zkcrypto.random.key.generate.thread-count:4}")
+    private int threadCount;
+
     /**
      * Keystore instance to handles and store cryptographic keys.
      */
@@ -55,6 +80,15 @@ public class RandomKeysGenerator {
     @Autowired
     DataEncryptKeystoreRepository dataEncryptKeystoreRepository;
 
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CachePurgeEventHelper cachePurgeEventHelper;
+
     public void generateRandomKeys(String appId, String referenceId) {
 
         LocalDateTime localDateTimeStamp = DateUtils.getUTCCurrentDateTime();
@@ -80,43 +114,75 @@ public class RandomKeysGenerator {
         dbHelper.storeKeyInAlias(appId, localDateTimeStamp, referenceId, keyAlias, localDateTimeStamp.plusDays(1825), null, null);
     }
     
+    /**
+     * Generates the keys missing to reach the required count of active keys. Every batch is committed separately, 
+     * so a failed run can be run again and only the keys not stored are generated. Ids continue from the max id in DB.
+     * Key manager instances are notified to reload the active key indexes, also when some of the batches failed.
+     */
     private void generate10KKeysAndStoreInDB(String cacheMasterKeyAlias) throws Exception {
 		
-        int noOfActiveKeys = (int) dataEncryptKeystoreRepository.findAll().stream()
-                                    .filter(k->k.getKeyStatus().equals("active")).count();			
+		long noOfActiveKeys = dataEncryptKeystoreRepository.countByKeyStatus(ACTIVE_STATUS);
 		int noOfKeysToGenerate = 0;
 		if((noOfKeysRequire-noOfActiveKeys) > 0) {
 			noOfKeysToGenerate = (int) (noOfKeysRequire-noOfActiveKeys);
 		}
 		
-		LOGGER.info("No Of Keys To Generate:" + noOfKeysToGenerate);
+		LOGGER.info("No Of Active Keys: " + noOfActiveKeys + ", No Of Keys To Generate:" + noOfKeysToGenerate);
+		if (noOfKeysToGenerate == 0) {
+			return;
+		}
 		
 		Long maxid = dataEncryptKeystoreRepository.findMaxId();
 		int startIndex = maxid == null ? 0 : maxid.intValue() + 1;
-        
-        SecureRandom rand = new SecureRandom();
-		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
-        Cipher cipher = Cipher.getInstance(WRAPPING_TRANSFORMATION); // NOSONAR using the key wrapping
-        Key masterKey = keyStore.getSymmetricKey(cacheMasterKeyAlias);
+		int endIndex = startIndex + noOfKeysToGenerate;
+		Key masterKey = keyStore.getSymmetricKey(cacheMasterKeyAlias);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		int keysPerBatch = Math.max(batchSize, 1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(threadCount, 1));
+		try {
+			List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+			for (int batchStart = startIndex; batchStart < endIndex; batchStart += keysPerBatch) {
+				int batchStartIndex = batchStart;
+				int batchEndIndex = Math.min(batchStart + keysPerBatch, endIndex);
+				batchFutures.add(CompletableFuture.runAsync(() -> generateKeysBatch(masterKey, batchStartIndex, batchEndIndex, 
+						jdbcTemplate, transactionTemplate), executor));
+			}
+			CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			throw new IllegalStateException("Error generating random keys batch, run the generator again to " 
+					+ "generate the remaining keys.", e.getCause());
+		} finally {
+			executor.shutdown();
+			cachePurgeEventHelper.publishPurgeEvent(ZKCryptoManagerConstants.ACTIVE_KEY_INDEX_CACHE, null);
+		}
+		LOGGER.info("Random keys generated & stored in DB, ids from " + startIndex + " to " + (endIndex - 1));
+	}
 
-		for (int i = startIndex; i < noOfKeysToGenerate; i++) {
+	private void generateKeysBatch(Key masterKey, int batchStartIndex, int batchEndIndex, JdbcTemplate jdbcTemplate,
+			TransactionTemplate transactionTemplate) {
+		List<Object[]> batchArgs = new ArrayList<>(batchEndIndex - batchStartIndex);
+		try {
+			SecureRandom rand = new SecureRandom();
+			KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
 			keyGenerator.init(256, rand);
-			SecretKey sKey = keyGenerator.generateKey();
+			Cipher cipher = Cipher.getInstance(WRAPPING_TRANSFORMATION); // NOSONAR using the key wrapping
 			cipher.init(Cipher.ENCRYPT_MODE, masterKey);
-			byte[] wrappedKey = cipher.doFinal(sKey.getEncoded());
-			String encodedKey = Base64.getEncoder().encodeToString(wrappedKey);
-			insertKeyIntoTable(i, encodedKey, "Active");
-			LOGGER.info("Insert secrets in DB: " + i);
+			Timestamp crDTimes = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
+			for (int i = batchStartIndex; i < batchEndIndex; i++) {
+				SecretKey sKey = keyGenerator.generateKey();
+				byte[] keyBytes = sKey.getEncoded();
+				byte[] wrappedKey = cipher.doFinal(keyBytes);
+				Arrays.fill(keyBytes, (byte) 0);
+				String encodedKey = Base64.getEncoder().encodeToString(wrappedKey);
+				batchArgs.add(new Object[] { i, encodedKey, ACTIVE_STATUS, CREATED_BY, crDTimes });
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException("Error wrapping random keys, ids from " + batchStartIndex + " to " 
+					+ (batchEndIndex - 1) + ". " + e.getMessage(), e);
 		}
-	}
-
-	private void insertKeyIntoTable(int id, String secretData, String status) throws Exception {
-		DataEncryptKeystore data = new DataEncryptKeystore();
-		data.setId(id);
-		data.setKey(secretData);
-		data.setKeyStatus(status);
-		data.setCrBy(CREATED_BY);
-		data.setCrDTimes(LocalDateTime.now());
-		dataEncryptKeystoreRepository.save(data);
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_KEY_SQL, batchArgs));
+		LOGGER.info("Insert secrets in DB, ids from " + batchStartIndex + " to " + (batchEndIndex - 1));
 	}
 }
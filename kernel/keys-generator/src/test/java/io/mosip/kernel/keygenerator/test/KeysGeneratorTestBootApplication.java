@@ -0,0 +1,24 @@
+package io.mosip.kernel.keygenerator.test;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Keys generator test application, without the command line runner generating the keys on start.
+ * 
+ * @since 1.3.0
+ *
+ */
+@SpringBootApplication(scanBasePackages = { "io.mosip.kernel.keygenerator.*", "io.mosip.kernel.keymanagerservice.*", 
+										   "io.mosip.kernel.keymanager.*", "io.mosip.kernel.crypto.*", "io.mosip.kernel.cryptomanager.*" })
+public class KeysGeneratorTestBootApplication {
+
+	/**
+	 * Main method to run spring boot application
+	 * 
+	 * @param args args
+	 */
+	public static void main(String[] args) {
+		SpringApplication.run(KeysGeneratorTestBootApplication.class, args);
+	}
+}
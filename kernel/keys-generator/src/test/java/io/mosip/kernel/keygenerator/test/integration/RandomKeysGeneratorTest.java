@@ -0,0 +1,131 @@
+package io.mosip.kernel.keygenerator.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.crypto.KeyGenerator;
+import javax.sql.DataSource;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.mosip.kernel.core.keymanager.spi.ECKeyStore;
+import io.mosip.kernel.core.util.DateUtils;
+import io.mosip.kernel.keygenerator.generator.RandomKeysGenerator;
+import io.mosip.kernel.keygenerator.test.KeysGeneratorTestBootApplication;
+import io.mosip.kernel.keymanagerservice.entity.DataEncryptKeystore;
+import io.mosip.kernel.keymanagerservice.helper.CachePurgeEventHelper;
+import io.mosip.kernel.keymanagerservice.repository.DataEncryptKeystoreRepository;
+import io.mosip.kernel.zkcryptoservice.constant.ZKCryptoManagerConstants;
+
+/**
+ * Random keys generation against the H2 data encrypt keystore table, only the HSM is mocked. 
+ * Generate count is 25 keys in batches of 10 keys.
+ */
+@SpringBootTest(classes = { KeysGeneratorTestBootApplication.class })
+@RunWith(SpringRunner.class)
+public class RandomKeysGeneratorTest {
+
+	private static final String APP_ID = "KERNEL";
+
+	private static final String REF_ID = "IDENTITY_CACHE";
+
+	private static final String ACTIVE_STATUS = "Active";
+
+	private static final int NO_OF_KEYS_REQUIRE = 25;
+
+	@Autowired
+	private RandomKeysGenerator randomKeysGenerator;
+
+	@Autowired
+	private DataEncryptKeystoreRepository dataEncryptKeystoreRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@MockBean
+	private ECKeyStore keyStore;
+
+	@SpyBean
+	private CachePurgeEventHelper cachePurgeEventHelper;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@Before
+	public void setUp() throws Exception {
+		KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+		keyGenerator.init(256);
+		when(keyStore.getSymmetricKey(Mockito.anyString())).thenReturn(keyGenerator.generateKey());
+		dataEncryptKeystoreRepository.deleteAll();
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	@Test
+	public void generateRemainingKeysAfterPartialRun() {
+		// keys stored by the previous run.
+		for (int i = 0; i < 3; i++) {
+			dataEncryptKeystoreRepository.saveAndFlush(new DataEncryptKeystore(i, "a2V5", ACTIVE_STATUS, "System", 
+					DateUtils.getUTCCurrentDateTime(), null, null));
+		}
+
+		randomKeysGenerator.generateRandomKeys(APP_ID, REF_ID);
+
+		assertEquals(NO_OF_KEYS_REQUIRE, dataEncryptKeystoreRepository.countByKeyStatus(ACTIVE_STATUS));
+		// ids continue from the max id, last id is one less than the required count.
+		assertEquals(Long.valueOf(NO_OF_KEYS_REQUIRE - 1L), dataEncryptKeystoreRepository.findMaxId());
+		assertEquals(IntStream.range(0, NO_OF_KEYS_REQUIRE).boxed().collect(Collectors.toList()), getKeyIds());
+		verify(cachePurgeEventHelper, times(1)).publishPurgeEvent(ZKCryptoManagerConstants.ACTIVE_KEY_INDEX_CACHE, null);
+	}
+
+	@Test
+	public void generateFailedBatchKeysOnRerun() {
+		// fails the batch of ids 10 to 19, other batches are committed.
+		jdbcTemplate.execute("ALTER TABLE data_encrypt_keystore ADD CONSTRAINT fail_random_key_batch CHECK (id <> 15)");
+		try {
+			randomKeysGenerator.generateRandomKeys(APP_ID, REF_ID);
+		} finally {
+			jdbcTemplate.execute("ALTER TABLE data_encrypt_keystore DROP CONSTRAINT fail_random_key_batch");
+		}
+		assertEquals(NO_OF_KEYS_REQUIRE - 10L, dataEncryptKeystoreRepository.countByKeyStatus(ACTIVE_STATUS));
+		assertEquals(Long.valueOf(NO_OF_KEYS_REQUIRE - 1L), dataEncryptKeystoreRepository.findMaxId());
+
+		randomKeysGenerator.generateRandomKeys(APP_ID, REF_ID);
+
+		assertEquals(NO_OF_KEYS_REQUIRE, dataEncryptKeystoreRepository.countByKeyStatus(ACTIVE_STATUS));
+		// only the failed batch count is generated, ids from 25 to 34.
+		assertEquals(Long.valueOf(NO_OF_KEYS_REQUIRE + 9L), dataEncryptKeystoreRepository.findMaxId());
+	}
+
+	@Test
+	public void skipGenerationWhenRequiredKeysExist() {
+		randomKeysGenerator.generateRandomKeys(APP_ID, REF_ID);
+		assertEquals(NO_OF_KEYS_REQUIRE, dataEncryptKeystoreRepository.countByKeyStatus(ACTIVE_STATUS));
+
+		randomKeysGenerator.generateRandomKeys(APP_ID, REF_ID);
+
+		assertEquals(NO_OF_KEYS_REQUIRE, dataEncryptKeystoreRepository.countByKeyStatus(ACTIVE_STATUS));
+		assertEquals(Long.valueOf(NO_OF_KEYS_REQUIRE - 1L), dataEncryptKeystoreRepository.findMaxId());
+		// master key fetched only by the run generating the keys.
+		verify(keyStore, times(1)).getSymmetricKey(Mockito.anyString());
+		verify(cachePurgeEventHelper, times(1)).publishPurgeEvent(ZKCryptoManagerConstants.ACTIVE_KEY_INDEX_CACHE, null);
+	}
+
+	private List<Integer> getKeyIds() {
+		return dataEncryptKeystoreRepository.findAll().stream().map(DataEncryptKeystore::getId).sorted()
+				.collect(Collectors.toList());
+	}
+}